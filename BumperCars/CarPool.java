@@ -0,0 +1,141 @@
+/**
+ * @file CarPool.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of the Bumper Cars problem.
+ * It contains the CarPool class, which contains fields/methods for its corresponding behaviors.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands:
+ * 		javac -d . Sleeper.java CarPool.java WaitHistogram.java RideMetrics.java Rider.java RiderThread.java RideSimulation.java Coordinator.java
+ *      java edu.ncsu.csc246.main.Coordinator <positive integer number of bumper cars> <positive integer number of riders> <positive (long) integer number of seconds> [--quiet] [--virtual | --simulate [--seed <n>]]
+ */
+package edu.ncsu.csc246.main;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class looks at the functionality for the pool of free bumper cars,
+ * without any locks. The free cars are kept on a lock-free stack (a free-list
+ * of car ids, where each free car holds the id of the next free car), whose top
+ * is changed with compare-and-set, so taking and returning a car are both O(1)
+ * no matter how many cars or riders there are. The top also holds a stamp that
+ * changes on every change of the stack, so a car taken and returned by other
+ * riders in between cannot fool a compare-and-set (the ABA problem).
+ *
+ * Each car also has a flag for whether it is out, which is only changed with
+ * compare-and-set, so a car can never be handed to two riders at once or
+ * returned twice.
+ */
+public class CarPool {
+
+	/** The mark for the end of the free-list (no car). */
+	private static final int NONE = 0;
+
+	/**
+	 * The top of the free-list: the id of the top free car in the low 32 bits,
+	 * and a stamp in the high 32 bits.
+	 */
+	private final AtomicLong top = new AtomicLong();
+	/**
+	 * The id of the next free car after each free car (index carId - 1), or NONE
+	 * for the last one.
+	 */
+	private final AtomicIntegerArray next;
+	/** Whether each car (index carId - 1) is out with a rider (1) or free (0). */
+	private final AtomicIntegerArray out;
+
+	/**
+	 * The constructor to initialize the pool with the given number of free cars,
+	 * with ids 1...n (car 1 on top).
+	 *
+	 * @param cars The number of bumper cars.
+	 * @throws {@link IllegalArgumentException} If the number of cars is not valid
+	 *                (< 1), an IllegalArgumentException is thrown.
+	 */
+	public CarPool(int cars) throws IllegalArgumentException {
+		if (cars < 1)
+			throw new IllegalArgumentException("The number of cars should be a positive integer.");
+		next = new AtomicIntegerArray(cars);
+		out = new AtomicIntegerArray(cars);
+		// Link the cars in ascending order, so the first riders get the first cars.
+		for (int carId = 1; carId < cars; carId++)
+			next.set(carId - 1, carId + 1);
+		next.set(cars - 1, NONE);
+		top.set(1);
+	}
+
+	/**
+	 * This method takes a free car from the pool, if there is one, without waiting.
+	 *
+	 * @return The integer id of the car taken. If none is free, 0 is returned
+	 *         (which is outside of normal bumper car id values).
+	 */
+	public int tryTake() {
+		while (true) {
+			long current = top.get();
+			int carId = (int) current;
+			if (carId == NONE)
+				return 0;
+			// The next car is read before the compare-and-set, which fails if the stack
+			// has changed since (so a stale next car is never put on top).
+			long replacement = stamp(current) | (next.get(carId - 1) & 0xFFFFFFFFL);
+			if (top.compareAndSet(current, replacement)) {
+				out.set(carId - 1, 1);
+				return carId;
+			}
+		}
+	}
+
+	/**
+	 * This method returns a car to the pool, making it free for another rider.
+	 *
+	 * @param carId The bumper car id for the car that is getting returned.
+	 * @throws {@link IllegalArgumentException} If the car id is not valid or the
+	 *                car is not out with a rider, an IllegalArgumentException is
+	 *                thrown.
+	 */
+	public void giveBack(int carId) throws IllegalArgumentException {
+		if (carId < 1 || carId > out.length())
+			throw new IllegalArgumentException("There is no car " + carId + ".");
+		if (!out.compareAndSet(carId - 1, 1, 0))
+			throw new IllegalArgumentException("Car " + carId + " is not out with a rider.");
+		while (true) {
+			long current = top.get();
+			next.set(carId - 1, (int) current);
+			if (top.compareAndSet(current, stamp(current) | carId))
+				return;
+		}
+	}
+
+	/**
+	 * This method checks whether the given car is out with a rider.
+	 *
+	 * @param carId The bumper car id to check.
+	 * @return true if the car is out with a rider, false if it is free.
+	 */
+	public boolean isOut(int carId) {
+		return out.get(carId - 1) == 1;
+	}
+
+	/**
+	 * This method returns the number of cars in the pool.
+	 *
+	 * @return The number of bumper cars.
+	 */
+	public int size() {
+		return out.length();
+	}
+
+	/**
+	 * This method returns the stamp for the next change of the stack, in the high
+	 * 32 bits.
+	 *
+	 * @param current The current top of the stack.
+	 * @return The next stamp, shifted into the high 32 bits.
+	 */
+	private static long stamp(long current) {
+		return ((current >>> 32) + 1) << 32;
+	}
+}
@@ -8,101 +8,432 @@
  * This program was developed via the Eclipse IDE for Developers.
  * 
  * This program is run through the command-line via the following commands:
- * 		javac -d . Sleeper.java RiderThread.java Coordinator.java
- *      java edu.ncsu.csc246.main.Coordinator <positive integer number of bumper cars> <positive integer number of riders> <positive (long) integer number of seconds>
+ * 		javac -d . Sleeper.java CarPool.java WaitHistogram.java RideMetrics.java Rider.java RiderThread.java RideSimulation.java Coordinator.java
+ *      java edu.ncsu.csc246.main.Coordinator <positive integer number of bumper cars> <positive integer number of riders> <positive (long) integer number of seconds> [--quiet] [--virtual | --simulate [--seed <n>]]
  */
 package edu.ncsu.csc246.main;
 
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
 /**
  * This class looks at the functionality for the Coordinator, managing the
- * buffer of bumper cars and running the main method. With
+ * pool of bumper cars and running the main method. With
  * methods/fields/constructor to interact with the command-line or manage the
- * buffer of bumper cars. Could be made as a singleton, but to keep an openness
- * to expansion, implemented regularly. 
+ * pool of bumper cars. Could be made as a singleton, but to keep an openness
+ * to expansion, implemented regularly. The free cars are kept in a lock-free
+ * CarPool. Riders get in line in order of a ticket, and a rider who finds no
+ * free car (or riders already waiting ahead of them) waits in a first-in,
+ * first-out line; a returned car is handed directly to the rider at the front
+ * of the line, which is the only rider woken, so no rider is passed over and
+ * no rider wakes up to find no car. The line is only locked while someone is
+ * in it: with no rider waiting, cars are taken from and returned to the pool
+ * without any lock. The rides, cars, line, and waits are measured by a
+ * RideMetrics, whose summary is printed at shutdown.
  */
 public class Coordinator {
 
 	/**
-	 * The bounded buffer of bumper cars (bound is user-provided via the
-	 * command-line), maintained with cars in ascending order 1...n ->
-	 * boundedCarBuffer[0]...boundedCarBuffer[n-1].
+	 * The pool of bumper cars (the number of cars is user-provided via the
+	 * command-line), with car ids 1...n.
+	 */
+	private CarPool carPool;
+	/** The riders waiting for a car, in the order they got in line. */
+	private ArrayDeque<Ticket> line = new ArrayDeque<Ticket>();
+	/** The lock guarding the line and the order it is served in. */
+	private ReentrantLock lineLock = new ReentrantLock();
+	/**
+	 * The number of riders in line, or about to be, checked before the lock is
+	 * taken so that no lock is needed while the line is empty.
+	 */
+	private AtomicInteger waiting = new AtomicInteger();
+	/** The number of the next ticket given to a rider getting in line. */
+	private AtomicLong nextTicket = new AtomicLong();
+	/** The number of the last ticket given a car from the line. */
+	private long lastServed;
+	/**
+	 * The number of tickets given a car from the line out of order (0 for a FIFO
+	 * line).
+	 */
+	private long outOfOrder;
+	/** The total nanoseconds each rider (index id - 1) has waited in line. */
+	private AtomicLongArray waitNanos;
+	/** The longest nanoseconds each rider (index id - 1) has waited in line. */
+	private AtomicLongArray maxWaitNanos;
+	/** The number of cars each rider (index id - 1) has gotten. */
+	private AtomicLongArray rides;
+	/** The metrics of the rides, cars, line, and waits. */
+	private RideMetrics metrics;
+	/** Whether the summary of the metrics has been printed. */
+	private AtomicBoolean summarized = new AtomicBoolean();
+
+	/** The most riders whose wait times are printed one by one. */
+	private static final int RIDERS_PRINTED = 100;
+	/** The usage message for the command-line. */
+	private static final String USAGE = "\nUsage: <positive integer number of bumper cars> <positive integer number of riders> <positive (long) integer number of seconds> [--quiet] [--virtual | --simulate [--seed <n>]]";
+
+	/**
+	 * This class looks at the functionality for a rider's place in line: its
+	 * ticket number, the rider and when they got in line, the rider's thread to
+	 * wake, and the car handed to it.
 	 */
-	private int[] boundedCarBuffer;
+	private static class Ticket {
+		/** The number of the ticket, in the order riders got in line. */
+		private final long number;
+		/** The id of the rider waiting with this ticket (0 if not known). */
+		private final int riderId;
+		/** The System.nanoTime() the rider got in line. */
+		private final long start;
+		/** The thread of the rider waiting with this ticket. */
+		private final Thread rider;
+		/** The id of the car handed to the rider, or 0 while it waits. */
+		private volatile int carId;
+
+		/**
+		 * Sets the number, rider, and start time for this Ticket object.
+		 * 
+		 * @param number  The number of the ticket.
+		 * @param riderId The id of the rider waiting with this ticket.
+		 * @param start   The System.nanoTime() the rider got in line.
+		 * @param rider   The thread of the rider waiting with this ticket.
+		 */
+		private Ticket(long number, int riderId, long start, Thread rider) {
+			this.number = number;
+			this.riderId = riderId;
+			this.start = start;
+			this.rider = rider;
+		}
+	}
 
 	/**
-	 * The constructor to initialize the the boundedCarBuffer via the parameter
-	 * provided and according to program design of the buffer.
+	 * The constructor to initialize the the carPool via the parameter provided.
 	 * 
-	 * @param bufferSize The integer bound on the boundedCarBuffer.
+	 * @param bufferSize The integer number of bumper cars in the carPool.
 	 * @throws {@link IllegalArgumentException} If the given parameter is not valid
 	 *                (< 1), an IllegalArgumentException is thrown.
 	 */
 	public Coordinator(int bufferSize) throws IllegalArgumentException {
+		this(bufferSize, 0);
+	}
+
+	/**
+	 * The constructor to initialize the the carPool via the parameter provided,
+	 * and the wait times for the given number of riders (ids 1...riders).
+	 * 
+	 * @param bufferSize The integer number of bumper cars in the carPool.
+	 * @param riders     The integer number of riders to keep wait times for.
+	 * @throws {@link IllegalArgumentException} If the given parameter is not valid
+	 *                (< 1), an IllegalArgumentException is thrown.
+	 */
+	public Coordinator(int bufferSize, int riders) throws IllegalArgumentException {
 		// A try-catch to check if the buffer size is valid and return a message if not.
 		try {
-			// Initialize buffer.
-			boundedCarBuffer = new int[bufferSize];
-			// Fill with values as according to design.
-			for (int i = 1; i <= bufferSize; i++)
-				boundedCarBuffer[i - 1] = i;
+			// Initialize the pool with every car free.
+			carPool = new CarPool(bufferSize);
+			metrics = new RideMetrics(bufferSize);
+			waitNanos = new AtomicLongArray(riders);
+			maxWaitNanos = new AtomicLongArray(riders);
+			rides = new AtomicLongArray(riders);
 		} catch (Exception e) {
-			throw new IllegalArgumentException("The buffer size provided should be a positive integer."
-					+ "\nUsage: <positive integer number of bumper cars> <positive integer number of riders> <positive (long) integer number of seconds>");
+			throw new IllegalArgumentException("The buffer size provided should be a positive integer." + USAGE);
 		}
 	}
 
 	/**
-	 * This synchronized method ensures all the threads can get in line and get or
-	 * wait for a car.
+	 * This method ensures all the threads can get in line and get or wait for a
+	 * car, without recording a wait time.
 	 * 
-	 * @return The integer id of the car given to the rider. If none available, 0 is
-	 *         returned (which is outside of normal bumper car id values).
+	 * @return The integer id of the car given to the rider.
 	 * @throws {@link InterruptedException} If the thread run is interrupted, an
 	 *                InterruptedException is thrown.
 	 */
-	public synchronized int getInLine() throws InterruptedException {
-		// A for-loop to ensure all elements in the buffer are checked.
-		for (int i = 0; i < boundedCarBuffer.length; i++) {
-			// If the buffer element is full, empty it and return the value previously
-			// inside it
-			if (boundedCarBuffer[i] != 0) {
-				boundedCarBuffer[i] = 0;
-				return (i + 1);
+	public int getInLine() throws InterruptedException {
+		return getInLine(0);
+	}
+
+	/**
+	 * This method ensures all the threads can get in line and get or wait for a
+	 * car. The rider takes a ticket, and takes a free car right away if no rider
+	 * is waiting ahead of them (without locking the line if it is empty);
+	 * otherwise the rider waits at the back of the line until a returned car is
+	 * handed to them.
+	 * 
+	 * @param riderId The id of the rider getting in line, whose wait time is
+	 *                recorded (0 to not record it).
+	 * @return The integer id of the car given to the rider.
+	 * @throws {@link InterruptedException} If the thread run is interrupted, an
+	 *                InterruptedException is thrown.
+	 */
+	public int getInLine(int riderId) throws InterruptedException {
+		long start = System.nanoTime();
+		// With no one in line, a free car is taken without locking the line.
+		if (waiting.get() == 0) {
+			int carId = carPool.tryTake();
+			if (carId != 0) {
+				nextTicket.incrementAndGet();
+				metrics.carOut(carId);
+				recordWait(riderId, start);
+				return carId;
 			}
 		}
-		// A try-catch to check if while waiting the program is interrupted, if so
-		// display an error message.
+		Ticket ticket;
+		lineLock.lock();
 		try {
-			// If the buffer is full wait and return a 0, indicating the buffer is full.
-			wait();
-			return 0;
-		} catch (InterruptedException ie) {
-			throw new InterruptedException("The thread execution was interrupted.");
+			long number = nextTicket.getAndIncrement();
+			// The rider counts as waiting before looking for a free car, so a car
+			// returned to the pool from now on is handed on to the line (see returnCar).
+			waiting.incrementAndGet();
+			// A free car goes to the rider only if no one is waiting ahead of them.
+			int carId = line.isEmpty() ? carPool.tryTake() : 0;
+			if (carId != 0) {
+				waiting.decrementAndGet();
+				served(number);
+				metrics.carOut(carId);
+				recordWait(riderId, start);
+				return carId;
+			}
+			ticket = new Ticket(number, riderId, start, Thread.currentThread());
+			line.addLast(ticket);
+			metrics.lineChanged(line.size());
+		} finally {
+			lineLock.unlock();
 		}
+		// Wait until a car is handed to this ticket (only this rider is woken).
+		while (ticket.carId == 0) {
+			LockSupport.park(this);
+			if (Thread.interrupted())
+				leaveLine(ticket);
+		}
+		recordWait(riderId, start);
+		return ticket.carId;
+	}
+
+	/**
+	 * This method takes an interrupted rider out of the line. If a car was handed
+	 * to the rider in the meantime, it is returned (to the next rider in line).
+	 * 
+	 * @param ticket The ticket of the interrupted rider.
+	 * @throws {@link InterruptedException} Always, since the rider was
+	 *                interrupted, an InterruptedException is thrown.
+	 */
+	private void leaveLine(Ticket ticket) throws InterruptedException {
+		lineLock.lock();
+		try {
+			if (line.remove(ticket))
+				waiting.decrementAndGet();
+			metrics.lineChanged(line.size());
+		} finally {
+			lineLock.unlock();
+		}
+		if (ticket.carId != 0)
+			returnCar(ticket.carId);
+		throw new InterruptedException("The thread execution was interrupted.");
+	}
+
+	/**
+	 * This method records that the given ticket was given a car, counting it if
+	 * it was served out of ticket order. The lineLock must be held.
+	 * 
+	 * @param number The number of the ticket given a car.
+	 */
+	private void served(long number) {
+		if (number < lastServed)
+			outOfOrder++;
+		lastServed = number;
 	}
 
 	/**
-	 * This synchronized method ensures all the threads in line can get a car and
-	 * those that just got a car return it.
+	 * This method records how long the given rider waited in line, in the
+	 * metrics and (for a rider with an id) in the rider's own wait times.
+	 * 
+	 * @param riderId The id of the rider (0 to only record it in the metrics).
+	 * @param start   The System.nanoTime() the rider got in line.
+	 */
+	private void recordWait(int riderId, long start) {
+		long waited = System.nanoTime() - start;
+		metrics.waited(waited);
+		if (riderId < 1 || riderId > rides.length())
+			return;
+		waitNanos.addAndGet(riderId - 1, waited);
+		rides.incrementAndGet(riderId - 1);
+		long max = maxWaitNanos.get(riderId - 1);
+		while (waited > max && !maxWaitNanos.compareAndSet(riderId - 1, max, waited))
+			max = maxWaitNanos.get(riderId - 1);
+	}
+
+	/**
+	 * This method ensures all the threads in line can get a car and those that just
+	 * got a car return it. The car is handed directly to the rider at the front of
+	 * the line (waking only that rider), or put back in the pool if no one is
+	 * waiting, in which case the line is not locked.
 	 * 
 	 * @param carId The bumper car id for the car that is getting returned.
-	 * @throws {@link InterruptedException} If the thread run is interrupted, an
-	 *                InterruptedException is thrown.
+	 * @throws {@link IllegalArgumentException} If the car id is not valid or the
+	 *                car is not out with a rider, an IllegalArgumentException is
+	 *                thrown.
 	 */
-	public synchronized void returnCar(int carId) throws InterruptedException {
-		// If the buffer element is empty for the carId, fill it and take another rider
-		if (boundedCarBuffer[carId - 1] == 0) {
-			boundedCarBuffer[carId - 1] = carId;
-			notify();
-			// Otherwise, wait for it to be empty.
-		} else {
-			// A try-catch to check if while waiting the program is interrupted, if so
-			// display an error message.
-			try {
-				wait();
-			} catch (InterruptedException e) {
-				throw new InterruptedException("The thread execution was interrupted.");
+	public void returnCar(int carId) throws IllegalArgumentException {
+		// Error Handling for a car that is not out with a rider
+		if (carId < 1 || carId > carPool.size() || !carPool.isOut(carId))
+			throw new IllegalArgumentException("Car " + carId + " is not out with a rider.");
+		metrics.carReturned(carId);
+		// With no one in line, the car goes back to the pool without locking the
+		// line. A rider who got in line meanwhile may have missed it in the pool, so
+		// the line is checked again afterwards.
+		if (waiting.get() == 0) {
+			carPool.giveBack(carId);
+			if (waiting.get() != 0)
+				handOffFreeCars();
+			return;
+		}
+		Ticket next;
+		lineLock.lock();
+		try {
+			next = line.pollFirst();
+			metrics.lineChanged(line.size());
+			if (next == null) {
+				carPool.giveBack(carId);
+				return;
 			}
+			// The car stays out, passing straight to the next rider.
+			waiting.decrementAndGet();
+			served(next.number);
+			metrics.carOut(carId);
+			next.carId = carId;
+		} finally {
+			lineLock.unlock();
+		}
+		LockSupport.unpark(next.rider);
+	}
+
+	/**
+	 * This method hands free cars from the pool to the riders at the front of the
+	 * line, for as long as there are both, waking each rider handed a car.
+	 */
+	private void handOffFreeCars() {
+		lineLock.lock();
+		try {
+			while (!line.isEmpty()) {
+				int carId = carPool.tryTake();
+				if (carId == 0)
+					return;
+				Ticket next = line.pollFirst();
+				waiting.decrementAndGet();
+				metrics.lineChanged(line.size());
+				served(next.number);
+				metrics.carOut(carId);
+				next.carId = carId;
+				LockSupport.unpark(next.rider);
+			}
+		} finally {
+			lineLock.unlock();
+		}
+	}
+
+	/**
+	 * This method prints the wait times of the riders in line: for each rider,
+	 * the number of cars gotten and the average and longest wait (only for up to
+	 * RIDERS_PRINTED riders), then the spread of the average waits across the
+	 * riders, and the number of riders served out of the order they got in line.
+	 * The waits include how long the riders still in line have waited so far, so
+	 * a rider who never gets a car still shows up.
+	 */
+	public void printWaitTimes() {
+		// The waits so far of the riders still in line, by rider.
+		long[] current = new long[rides.length()];
+		int inLine;
+		long tickets;
+		long served;
+		lineLock.lock();
+		try {
+			long now = System.nanoTime();
+			for (Ticket ticket : line)
+				if (ticket.riderId >= 1 && ticket.riderId <= current.length)
+					current[ticket.riderId - 1] = Math.max(1, now - ticket.start);
+			inLine = line.size();
+			tickets = nextTicket.get();
+			served = outOfOrder;
+		} finally {
+			lineLock.unlock();
+		}
+		System.out.println("Wait times (milliseconds):");
+		double fewest = Double.MAX_VALUE;
+		double most = 0;
+		for (int i = 0; i < rides.length(); i++) {
+			long count = rides.get(i);
+			long waits = count + (current[i] > 0 ? 1 : 0);
+			double average = waits == 0 ? 0 : (waitNanos.get(i) + current[i]) / 1e6 / waits;
+			if (rides.length() <= RIDERS_PRINTED)
+				System.out.printf("Rider %d: %d rides, average wait %.1f, longest wait %.1f%s%n", i + 1, count, average,
+						Math.max(maxWaitNanos.get(i), current[i]) / 1e6,
+						current[i] > 0 ? String.format(" (in line for %.1f)", current[i] / 1e6) : "");
+			if (waits > 0) {
+				fewest = Math.min(fewest, average);
+				most = Math.max(most, average);
+			}
+		}
+		if (most > 0)
+			System.out.printf("Average waits range from %.1f to %.1f.%n", fewest, most);
+		System.out.println(tickets + " tickets, " + served + " served out of order, " + inLine + " still in line.");
+	}
+
+	/**
+	 * This method returns the metrics of the rides, cars, line, and waits.
+	 * 
+	 * @return metrics: The metrics of this Coordinator.
+	 */
+	public RideMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * This method prints the summary of the metrics and the wait times of the
+	 * riders, only the first time it is called (at the end of the run, or when
+	 * the program is shut down early).
+	 */
+	public void printSummary() {
+		if (!summarized.compareAndSet(false, true))
+			return;
+		metrics.printSummary();
+		printWaitTimes();
+	}
+
+	/**
+	 * This method looks up the method that starts a virtual thread, reflectively
+	 * so the program still compiles and runs on JDK 11.
+	 * 
+	 * @return The Thread.startVirtualThread(Runnable) method.
+	 * @throws {@link IllegalArgumentException} If the JVM does not have virtual
+	 *                threads (before JDK 21), an IllegalArgumentException is
+	 *                thrown.
+	 */
+	private static Method virtualStarter() throws IllegalArgumentException {
+		try {
+			return Thread.class.getMethod("startVirtualThread", Runnable.class);
+		} catch (NoSuchMethodException | RuntimeException e) {
+			throw new IllegalArgumentException("Virtual riders (--virtual) need JDK 21 or later." + USAGE);
+		}
+	}
+
+	/**
+	 * This method starts the given rider on a new virtual thread.
+	 * 
+	 * @param starter The Thread.startVirtualThread(Runnable) method.
+	 * @param rider   The rider to start.
+	 * @throws {@link IllegalArgumentException} If the virtual thread cannot be
+	 *                started, an IllegalArgumentException is thrown.
+	 */
+	private static void startVirtual(Method starter, Runnable rider) throws IllegalArgumentException {
+		try {
+			starter.invoke(null, rider);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			throw new IllegalArgumentException("The virtual rider could not be started: " + e.getMessage() + USAGE);
 		}
 	}
 
@@ -117,39 +448,105 @@ public class Coordinator {
 	 *                InterruptedException is thrown.
 	 */
 	public static void main(String[] args) throws IllegalArgumentException, InterruptedException {
-		// Declare and initialize a Coordinator (via the constructor)
+		// Any options after the three arguments: --quiet stops the riders printing
+		// each change of state, --virtual runs each rider on its own virtual thread,
+		// quietly, and --simulate runs a discrete-event simulation on a simulated
+		// clock instead of threads, with the seed given by --seed.
+		boolean quiet = false;
+		boolean virtual = false;
+		boolean simulate = false;
+		Long seed = null;
+		for (int i = 3; i < args.length; i++) {
+			if (args[i].equals("--quiet"))
+				quiet = true;
+			else if (args[i].equals("--virtual"))
+				virtual = true;
+			else if (args[i].equals("--simulate"))
+				simulate = true;
+			else if (args[i].equals("--seed") && i + 1 < args.length) {
+				// A try-catch to check the seed.
+				try {
+					seed = Long.parseLong(args[++i]);
+				} catch (NumberFormatException e) {
+					throw new IllegalArgumentException("The seed could not be parsed to a (long) integer." + USAGE);
+				}
+			} else
+				throw new IllegalArgumentException("The option " + args[i] + " is not valid." + USAGE);
+		}
+		if (virtual && simulate)
+			throw new IllegalArgumentException("Only one of --virtual and --simulate can be given." + USAGE);
+		if (seed != null && !simulate)
+			throw new IllegalArgumentException("A seed (--seed) can only be given with --simulate." + USAGE);
+		// Declare and initialize a Coordinator (via the constructor), keeping wait
+		// times for the riders (whose number is checked below).
 		Coordinator mainCoord;
+		int riders = 0;
+		try {
+			riders = Math.max(0, Integer.parseInt(args[1]));
+		} catch (Exception e) {
+		}
 		// A try-catch to check the first command line argument for the number of cars.
 		try {
-			mainCoord = new Coordinator(Integer.parseInt(args[0]));
+			mainCoord = new Coordinator(Integer.parseInt(args[0]), simulate ? 0 : riders);
 		} catch (Exception e) {
-			throw new IllegalArgumentException("The number of cars could not be parsed to a positive integer."
-					+ "\nUsage: <positive integer number of bumper cars> <positive integer number of riders> <positive (long) integer number of seconds>");
+			throw new IllegalArgumentException("The number of cars could not be parsed to a positive integer." + USAGE);
 		}
 		// A try-catch to check the second command line argument for the number of
 		// riders.
 		try {
+			if (Integer.parseInt(args[1]) < 0)
+				throw new NumberFormatException();
+		} catch (Exception e) {
+			throw new IllegalArgumentException("The number of riders could not be parsed to a positive integer." + USAGE);
+		}
+		// A try-catch to check the third command line argument for the number of
+		// seconds.
+		long seconds;
+		try {
+			seconds = Long.parseLong(args[2]);
+			if (seconds < 0)
+				throw new NumberFormatException();
+		} catch (Exception e) {
+			throw new IllegalArgumentException(
+					"The number of seconds could not be parsed to a positive (long) integer." + USAGE);
+		}
+		if (simulate) {
+			// The simulation runs on this thread, and prints its seed so it can be
+			// run again.
+			long start = System.nanoTime();
+			if (seed == null)
+				seed = start;
+			System.out.println("Simulating with seed " + seed + ".");
+			RideSimulation simulation = new RideSimulation(Integer.parseInt(args[0]), riders, seed);
+			simulation.run(seconds > Long.MAX_VALUE / 1000 ? Long.MAX_VALUE : seconds * 1000);
+			simulation.printResults(System.nanoTime() - start);
+			return;
+		}
+		// Virtual riders need JDK 21, which is checked before anything is started.
+		Method starter = virtual ? virtualStarter() : null;
+		// The summary is printed when the time is up, or at shutdown if the program
+		// is stopped early.
+		final Coordinator summarizing = mainCoord;
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> summarizing.printSummary()));
+		mainCoord.getMetrics().startSampling();
+		if (virtual) {
+			// Virtual riders are started one by one, without keeping the threads.
+			for (int i = 0; i < riders; i++)
+				startVirtual(starter, new Rider((i + 1), mainCoord, false));
+		} else {
 			// Array declared/initialized for the RiderThreads created, which are then
-			// initialized and started
-			RiderThread[] riderThreads = new RiderThread[Integer.parseInt(args[1])];
-			for (int i = 0; i < riderThreads.length; i++)
-				riderThreads[i] = new RiderThread((i + 1), mainCoord);
+			// initialized and started (as daemons, so they end with the program)
+			RiderThread[] riderThreads = new RiderThread[riders];
+			for (int i = 0; i < riderThreads.length; i++) {
+				riderThreads[i] = new RiderThread((i + 1), mainCoord, !quiet);
+				riderThreads[i].setDaemon(true);
+			}
 			for (int i = 0; i < riderThreads.length; i++)
 				riderThreads[i].start();
-			// A try-catch to check the third command line argument for the number of
-			// seconds.
-			try {
-				// Exit the current thread after time is up
-				Thread.sleep(Long.parseLong(args[2]) * 1000);
-				System.exit(0);
-			} catch (Exception e) {
-				throw new IllegalArgumentException(
-						"The number of seconds could not be parsed to a positive (long) integer."
-								+ "\nUsage: <positive integer number of bumper cars> <positive integer number of riders> <positive (long) integer number of seconds>");
-			}
-		} catch (Exception e) {
-			throw new IllegalArgumentException("The number of riders could not be parsed to a positive integer."
-					+ "\nUsage: <positive integer number of bumper cars> <positive integer number of riders> <positive (long) integer number of seconds>");
 		}
+		// Print the summary after time is up; the program then ends, since every
+		// rider is a daemon
+		Thread.sleep(seconds * 1000);
+		mainCoord.printSummary();
 	}
 }
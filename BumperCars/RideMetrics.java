@@ -0,0 +1,240 @@
+/**
+ * @file RideMetrics.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of the Bumper Cars problem.
+ * It contains the RideMetrics class, which contains fields/methods for its corresponding behaviors.
+ * This program was developed via the Eclipse IDE for Developers.
+ * 
+ * This program is run through the command-line via the following commands:
+ * 		javac -d . Sleeper.java CarPool.java WaitHistogram.java RideMetrics.java Rider.java RiderThread.java RideSimulation.java Coordinator.java
+ *      java edu.ncsu.csc246.main.Coordinator <positive integer number of bumper cars> <positive integer number of riders> <positive (long) integer number of seconds> [--quiet] [--virtual | --simulate [--seed <n>]]
+ */
+package edu.ncsu.csc246.main;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * This class looks at the functionality for the metrics of a Coordinator: the
+ * rides completed, how much of the time the cars are out with riders, the
+ * length of the line over time, and a histogram of the waits in line. Rides,
+ * car times, and waits are recorded with atomic counters (no locks), by the
+ * riders themselves; the length of the line is given by the Coordinator
+ * whenever it changes, and sampled once a second by a daemon thread, so the
+ * metrics cost the riders nothing beyond a few atomic updates.
+ *
+ * Times are read from a clock given to the constructor (System.nanoTime() by
+ * default), so a RideSimulation can record its simulated time in the same
+ * metrics, sampling the line itself as its clock passes each second.
+ */
+public class RideMetrics {
+
+	/** The number of samples of the line printed, at most. */
+	private static final int SAMPLES_PRINTED = 20;
+	/** The number of samples of the line kept, at most. */
+	private static final int SAMPLES_KEPT = 1 << 16;
+
+	/** The clock the times are read from, in nanoseconds. */
+	private final LongSupplier clock;
+	/** The time the metrics started. */
+	private final long start;
+	/** The number of rides completed (cars returned). */
+	private AtomicLong ridesCompleted = new AtomicLong();
+	/** The System.nanoTime() each car (index carId - 1) went out, or 0 if free. */
+	private AtomicLongArray outSince;
+	/** The total nanoseconds the cars have been out, for rides completed. */
+	private AtomicLong busyNanos = new AtomicLong();
+	/** The histogram of waits in line, in microseconds. */
+	private WaitHistogram waits = new WaitHistogram();
+	/** The number of riders in line now. */
+	private volatile int lineLength;
+	/** The longest the line has been. */
+	private volatile int maxLineLength;
+	/** The samples of the length of the line, one every sampleSeconds. */
+	private int[] samples = new int[64];
+	/** The number of samples taken. */
+	private int sampleCount;
+	/** The number of seconds between samples (doubled when too many are kept). */
+	private long sampleSeconds = 1;
+	/** The time the next sample of the line is due. */
+	private long nextSample;
+
+	/**
+	 * The constructor to initialize the metrics for the given number of cars,
+	 * timed by System.nanoTime().
+	 * 
+	 * @param cars The integer number of bumper cars.
+	 */
+	public RideMetrics(int cars) {
+		this(cars, System::nanoTime);
+	}
+
+	/**
+	 * The constructor to initialize the metrics for the given number of cars,
+	 * timed by the given clock.
+	 * 
+	 * @param cars  The integer number of bumper cars.
+	 * @param clock The clock to read the times from, in nanoseconds.
+	 */
+	public RideMetrics(int cars, LongSupplier clock) {
+		this.clock = clock;
+		start = clock.getAsLong();
+		nextSample = start + 1000000000L;
+		outSince = new AtomicLongArray(Math.max(cars, 0));
+	}
+
+	/**
+	 * This method starts a daemon thread sampling the length of the line once a
+	 * second.
+	 */
+	public void startSampling() {
+		Thread sampler = new Thread(() -> {
+			// A try-catch to stop sampling when interrupted.
+			try {
+				while (true) {
+					Thread.sleep(1000);
+					sampleUntil(clock.getAsLong());
+				}
+			} catch (InterruptedException e) {
+			}
+		}, "line-sampler");
+		sampler.setDaemon(true);
+		sampler.start();
+	}
+
+	/**
+	 * This synchronized method samples the length of the line once for every
+	 * sample that has come due by the given time of the clock. The sampling
+	 * thread calls it once a second; a simulation calls it as its clock moves.
+	 * 
+	 * @param now The time of the clock, in nanoseconds.
+	 */
+	public synchronized void sampleUntil(long now) {
+		while (nextSample <= now) {
+			sample();
+			nextSample += sampleSeconds * 1000000000L;
+		}
+	}
+
+	/**
+	 * This synchronized method adds a sample of the length of the line. Once
+	 * SAMPLES_KEPT samples are kept, every other one is dropped and the line is
+	 * sampled half as often, so a long run keeps a bounded number of samples.
+	 */
+	private synchronized void sample() {
+		if (sampleCount == samples.length)
+			samples = Arrays.copyOf(samples, samples.length * 2);
+		samples[sampleCount++] = lineLength;
+		if (sampleCount == SAMPLES_KEPT) {
+			for (int i = 0; i < sampleCount / 2; i++)
+				samples[i] = samples[2 * i + 1];
+			sampleCount /= 2;
+			sampleSeconds *= 2;
+		}
+	}
+
+	/**
+	 * This method records that a car went out with a rider.
+	 * 
+	 * @param carId The id of the car.
+	 */
+	public void carOut(int carId) {
+		outSince.set(carId - 1, clock.getAsLong());
+	}
+
+	/**
+	 * This method records that a ride was completed and its car returned.
+	 * 
+	 * @param carId The id of the car.
+	 */
+	public void carReturned(int carId) {
+		long since = outSince.getAndSet(carId - 1, 0);
+		if (since != 0)
+			busyNanos.addAndGet(clock.getAsLong() - since);
+		ridesCompleted.incrementAndGet();
+	}
+
+	/**
+	 * This method records how long a rider waited in line.
+	 * 
+	 * @param nanos The nanoseconds the rider waited.
+	 */
+	public void waited(long nanos) {
+		waits.record(nanos / 1000);
+	}
+
+	/**
+	 * This method records the length of the line, after it changes. The
+	 * Coordinator calls it while holding the lock on its line, so the changes
+	 * come in order.
+	 * 
+	 * @param length The number of riders in line.
+	 */
+	public void lineChanged(int length) {
+		lineLength = length;
+		if (length > maxLineLength)
+			maxLineLength = length;
+	}
+
+	/**
+	 * This method returns the number of rides completed.
+	 * 
+	 * @return ridesCompleted: The number of rides completed.
+	 */
+	public long getRidesCompleted() {
+		return ridesCompleted.get();
+	}
+
+	/**
+	 * This method returns the histogram of waits in line.
+	 * 
+	 * @return waits: The histogram of waits, in microseconds.
+	 */
+	public WaitHistogram getWaits() {
+		return waits;
+	}
+
+	/**
+	 * This synchronized method prints the summary of the metrics: the rides
+	 * completed and the throughput, the utilisation of the cars (including the
+	 * rides still going), the length of the line (now, longest, average and over
+	 * time), and the percentiles of the waits in line.
+	 */
+	public synchronized void printSummary() {
+		long now = clock.getAsLong();
+		double seconds = (now - start) / 1e9;
+		long completed = ridesCompleted.get();
+		System.out.printf("%d rides completed in %.1f seconds (%.1f cars per second).%n", completed, seconds,
+				seconds == 0 ? 0 : completed / seconds);
+		long busy = busyNanos.get();
+		for (int i = 0; i < outSince.length(); i++) {
+			long since = outSince.get(i);
+			if (since != 0)
+				busy += now - since;
+		}
+		System.out.printf("Car utilisation: %.1f%% of %d cars.%n",
+				outSince.length() == 0 || now == start ? 0 : 100.0 * busy / (now - start) / outSince.length(),
+				outSince.length());
+		long sum = 0;
+		for (int i = 0; i < sampleCount; i++)
+			sum += samples[i];
+		System.out.printf("Line length: %d now, %d longest, %.1f average.%n", lineLength, maxLineLength,
+				sampleCount == 0 ? (double) lineLength : (double) sum / sampleCount);
+		if (sampleCount > 0) {
+			// At most SAMPLES_PRINTED samples, evenly spread over the run.
+			StringBuilder overTime = new StringBuilder("Line length over time (seconds: riders):");
+			int step = (sampleCount + SAMPLES_PRINTED - 1) / SAMPLES_PRINTED;
+			for (int i = step - 1; i < sampleCount; i += step)
+				overTime.append(' ').append((i + 1) * sampleSeconds).append(": ").append(samples[i]);
+			System.out.println(overTime);
+		}
+		System.out.printf(
+				"Waits in line (milliseconds): %d waits, average %.1f, 50%% %.1f, 90%% %.1f, 99%% %.1f, 99.9%% %.1f, longest %.1f.%n",
+				waits.getTotal(), waits.getAverage() / 1000, waits.percentile(50) / 1000.0,
+				waits.percentile(90) / 1000.0, waits.percentile(99) / 1000.0, waits.percentile(99.9) / 1000.0,
+				waits.getMax() / 1000.0);
+	}
+}
@@ -0,0 +1,295 @@
+/**
+ * @file RideSimulation.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of the Bumper Cars problem.
+ * It contains the RideSimulation class, which contains fields/methods for its corresponding behaviors.
+ * This program was developed via the Eclipse IDE for Developers.
+ * 
+ * This program is run through the command-line via the following commands:
+ * 		javac -d . Sleeper.java CarPool.java WaitHistogram.java RideMetrics.java Rider.java RiderThread.java RideSimulation.java Coordinator.java
+ *      java edu.ncsu.csc246.main.Coordinator <positive integer number of bumper cars> <positive integer number of riders> <positive (long) integer number of seconds> --simulate [--seed <n>]
+ */
+package edu.ncsu.csc246.main;
+
+import java.util.SplittableRandom;
+
+/**
+ * This class looks at the functionality for a discrete-event simulation of
+ * the bumper cars, on a simulated clock instead of sleeping threads. It follows
+ * the same protocol as the Rider and Coordinator classes: each rider walks
+ * around for 1-10 seconds, gets in a first-in, first-out line, rides a car for
+ * 1-5 seconds, and returns it, where a returned car is handed directly to the
+ * rider at the front of the line (or becomes free if no one is waiting).
+ * 
+ * Every rider always has exactly one event coming up: the end of its walk or
+ * the end of its ride. The events are kept in a priority queue ordered by
+ * simulated time, and the clock jumps from one event to the next, so an hour
+ * of riding takes as long as the events in it rather than an hour. Each event
+ * is packed in a long (the time, then the kind of event, then the rider), so
+ * the queue is a binary heap of longs with nothing allocated per event, and
+ * events at the same millisecond always come out in the same order. The walk
+ * and ride times come from a seeded random generator, so a run with the same
+ * seed is reproduced exactly.
+ * 
+ * The rides, cars, line, and waits are recorded in a RideMetrics read on the
+ * simulated clock, so the simulation prints the same summary as a run on
+ * threads.
+ */
+public class RideSimulation {
+
+	/** The number of bits for the rider in an event. */
+	private static final int RIDER_BITS = 22;
+	/** The kind of event for the end of a ride (before walks at the same time). */
+	private static final long RETURN = 0;
+	/** The kind of event for the end of a walk. */
+	private static final long ARRIVE = 1;
+	/** The latest simulated time (in milliseconds) an event can hold. */
+	private static final long MAX_TIME = Long.MAX_VALUE >>> (RIDER_BITS + 1);
+
+	/** The random generator for the walk and ride times. */
+	private SplittableRandom random;
+	/** The heap of upcoming events, one per rider. */
+	private long[] events;
+	/** The number of events in the heap. */
+	private int eventCount;
+	/** The free cars, used as a stack (car 1 on top at first). */
+	private int[] freeCars;
+	/** The number of free cars. */
+	private int freeCount;
+	/** The riders in line, as a circular queue. */
+	private int[] line;
+	/** The index of the rider at the front of the line. */
+	private int lineFront;
+	/** The number of riders in line. */
+	private int lineSize;
+	/** The car each rider (index id - 1) is riding. */
+	private int[] carOf;
+	/** The simulated time each rider (index id - 1) got in line. */
+	private long[] inLineAt;
+	/** The current simulated time in milliseconds. */
+	private long clock;
+	/** The metrics of the rides, cars, line, and waits, on the simulated clock. */
+	private RideMetrics metrics;
+	/** The number of events handled. */
+	private long eventsHandled;
+
+	/**
+	 * The constructor to initialize the simulation with every car free and
+	 * every rider starting a walk at time 0.
+	 * 
+	 * @param cars   The integer number of bumper cars.
+	 * @param riders The integer number of riders.
+	 * @param seed   The seed for the walk and ride times.
+	 * @throws {@link IllegalArgumentException} If the number of cars is not
+	 *                valid (< 1) or the number of riders is not valid (< 0 or >=
+	 *                2^22), an IllegalArgumentException is thrown.
+	 */
+	public RideSimulation(int cars, int riders, long seed) throws IllegalArgumentException {
+		// Error Handling for the number of cars and riders
+		if (cars < 1)
+			throw new IllegalArgumentException("The number of cars should be a positive integer.");
+		if (riders < 0 || riders >= 1 << RIDER_BITS)
+			throw new IllegalArgumentException("The number of riders to simulate should be less than " + (1 << RIDER_BITS) + ".");
+		random = new SplittableRandom(seed);
+		metrics = new RideMetrics(cars, () -> clock * 1000000L);
+		freeCars = new int[cars];
+		for (int i = 0; i < cars; i++)
+			freeCars[i] = cars - i;
+		freeCount = cars;
+		line = new int[Math.max(riders, 1)];
+		carOf = new int[riders];
+		inLineAt = new long[riders];
+		events = new long[Math.max(riders, 1)];
+		for (int rider = 1; rider <= riders; rider++)
+			push(walkTime(), ARRIVE, rider);
+	}
+
+	/**
+	 * This method runs the simulation until the given simulated time, handling
+	 * every event up to and including it.
+	 * 
+	 * @param until The simulated time to run until, in milliseconds.
+	 * @throws {@link IllegalArgumentException} If the time is too far to simulate,
+	 *                an IllegalArgumentException is thrown.
+	 */
+	public void run(long until) throws IllegalArgumentException {
+		// Error Handling for a time the events cannot hold
+		if (until < 0 || until > MAX_TIME - 10000)
+			throw new IllegalArgumentException("The number of seconds to simulate should be at most "
+					+ (MAX_TIME - 10000) / 1000 + ".");
+		while (eventCount > 0 && events[0] >>> (RIDER_BITS + 1) <= until) {
+			long event = pop();
+			// The line is sampled (as it was) for each simulated second passed.
+			metrics.sampleUntil((event >>> (RIDER_BITS + 1)) * 1000000L);
+			clock = event >>> (RIDER_BITS + 1);
+			int rider = (int) (event & ((1 << RIDER_BITS) - 1));
+			if ((event >>> RIDER_BITS & 1) == ARRIVE)
+				getInLine(rider);
+			else
+				returnCar(rider);
+			eventsHandled++;
+		}
+		metrics.sampleUntil(until * 1000000L);
+		clock = until;
+	}
+
+	/**
+	 * This method has a rider that just finished walking get in line, starting a
+	 * ride right away if a car is free and no one is waiting ahead of them.
+	 * 
+	 * @param rider The id of the rider.
+	 */
+	private void getInLine(int rider) {
+		inLineAt[rider - 1] = clock;
+		if (lineSize == 0 && freeCount > 0) {
+			startRide(rider, freeCars[--freeCount]);
+			return;
+		}
+		line[(lineFront + lineSize++) % line.length] = rider;
+		metrics.lineChanged(lineSize);
+	}
+
+	/**
+	 * This method has a rider that just finished riding return its car, handing
+	 * it to the rider at the front of the line (or freeing it), and start walking
+	 * again.
+	 * 
+	 * @param rider The id of the rider.
+	 */
+	private void returnCar(int rider) {
+		int carId = carOf[rider - 1];
+		carOf[rider - 1] = 0;
+		metrics.carReturned(carId);
+		if (lineSize > 0) {
+			int next = line[lineFront];
+			lineFront = (lineFront + 1) % line.length;
+			lineSize--;
+			metrics.lineChanged(lineSize);
+			startRide(next, carId);
+		} else {
+			freeCars[freeCount++] = carId;
+		}
+		push(clock + walkTime(), ARRIVE, rider);
+	}
+
+	/**
+	 * This method starts a rider riding the given car, recording how long they
+	 * waited in line.
+	 * 
+	 * @param rider The id of the rider.
+	 * @param carId The id of the car.
+	 */
+	private void startRide(int rider, int carId) {
+		metrics.waited((clock - inLineAt[rider - 1]) * 1000000L);
+		metrics.carOut(carId);
+		carOf[rider - 1] = carId;
+		push(clock + rideTime(), RETURN, rider);
+	}
+
+	/**
+	 * This method returns the time for a walk around, as Sleeper.walkAround()
+	 * does.
+	 * 
+	 * @return The walk time in milliseconds (1-10 seconds).
+	 */
+	private long walkTime() {
+		return (random.nextInt(10) + 1) * 1000L;
+	}
+
+	/**
+	 * This method returns the time for a ride, as Sleeper.rideTime() does.
+	 * 
+	 * @return The ride time in milliseconds (1-5 seconds).
+	 */
+	private long rideTime() {
+		return (random.nextInt(5) + 1) * 1000L;
+	}
+
+	/**
+	 * This method adds an event to the heap.
+	 * 
+	 * @param time  The simulated time of the event, in milliseconds.
+	 * @param kind  The kind of event (RETURN or ARRIVE).
+	 * @param rider The id of the rider.
+	 */
+	private void push(long time, long kind, int rider) {
+		long event = time << (RIDER_BITS + 1) | kind << RIDER_BITS | rider;
+		int i = eventCount++;
+		// Sift the event up past every later parent.
+		while (i > 0) {
+			int parent = (i - 1) >>> 1;
+			if (events[parent] <= event)
+				break;
+			events[i] = events[parent];
+			i = parent;
+		}
+		events[i] = event;
+	}
+
+	/**
+	 * This method removes the earliest event from the heap.
+	 * 
+	 * @return The earliest event.
+	 */
+	private long pop() {
+		long first = events[0];
+		long last = events[--eventCount];
+		int i = 0;
+		// Sift the last event down past every earlier child.
+		while (true) {
+			int child = 2 * i + 1;
+			if (child >= eventCount)
+				break;
+			if (child + 1 < eventCount && events[child + 1] < events[child])
+				child++;
+			if (last <= events[child])
+				break;
+			events[i] = events[child];
+			i = child;
+		}
+		events[i] = last;
+		return first;
+	}
+
+	/**
+	 * This method returns the number of rides completed (cars returned).
+	 * 
+	 * @return ridesCompleted: The number of rides completed.
+	 */
+	public long getRidesCompleted() {
+		return metrics.getRidesCompleted();
+	}
+
+	/**
+	 * This method returns the number of events handled.
+	 * 
+	 * @return eventsHandled: The number of events handled.
+	 */
+	public long getEventsHandled() {
+		return eventsHandled;
+	}
+
+	/**
+	 * This method returns the metrics of the rides, cars, line, and waits, on the
+	 * simulated clock.
+	 * 
+	 * @return metrics: The metrics of this RideSimulation.
+	 */
+	public RideMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * This method prints the results of the simulation: the summary of the
+	 * metrics over the simulated time (as printed for a run on threads), then how
+	 * fast the simulation ran.
+	 * 
+	 * @param wallNanos The real nanoseconds the simulation took.
+	 */
+	public void printResults(long wallNanos) {
+		metrics.printSummary();
+		System.out.printf("%d events in %.3f seconds (%.0f rides per second).%n", eventsHandled, wallNanos / 1e9,
+				metrics.getRidesCompleted() / (wallNanos / 1e9));
+	}
+}
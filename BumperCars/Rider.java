@@ -0,0 +1,85 @@
+/**
+ * @file Rider.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of the Bumper Cars problem.
+ * It contains the Rider class, which contains fields/methods for its corresponding behaviors.
+ * This program was developed via the Eclipse IDE for Developers.
+ * 
+ * This program is run through the command-line via the following commands:
+ * 		javac -d . Sleeper.java CarPool.java WaitHistogram.java RideMetrics.java Rider.java RiderThread.java RideSimulation.java Coordinator.java
+ *      java edu.ncsu.csc246.main.Coordinator <positive integer number of bumper cars> <positive integer number of riders> <positive (long) integer number of seconds> [--quiet] [--virtual | --simulate [--seed <n>]]
+ */
+package edu.ncsu.csc246.main;
+
+/**
+ * This class looks at the functionality for a Rider (a Runnable), walking
+ * around the park and riding bumper cars with a given Coordinator, forever.
+ * It runs on its own RiderThread, or on a virtual thread (JDK 21 and later),
+ * since it only blocks in Sleeper and in the Coordinator's line, neither of
+ * which holds a monitor while waiting. Relies on Coordinator and Sleeper
+ * classes for implementation.
+ */
+public class Rider implements Runnable {
+
+	/** The Coordinator object for this Rider. */
+	private Coordinator coordinator;
+	/** The integer id for this Rider. */
+	private int id;
+	/** Whether this Rider prints a message for each change of its state. */
+	private boolean log;
+
+	/**
+	 * Sets the id and Coordinator for this Rider object, and whether it prints
+	 * its state.
+	 * 
+	 * @param id          The id to set for this Rider object.
+	 * @param coordinator The Coordinator to set for this Rider object.
+	 * @param log         true to print a message for each change of state, false
+	 *                    to run quietly.
+	 */
+	public Rider(int id, Coordinator coordinator, boolean log) {
+		// Set all fields as values passed into the constructor parameters.
+		this.coordinator = coordinator;
+		this.id = id;
+		this.log = log;
+	}
+
+	/**
+	 * Defines runtime behavior for the Rider. Uses Sleeper.walkAround() and
+	 * Sleeper.rideTime() for its implementation.
+	 */
+	public void run() {
+		// A while loop that runs while it is not time to exit the program (as per the
+		// main thread sleep()).
+		// Some internal comments are options on where to print the status messages for
+		// the rider for more logic according to the process ordering.
+		while (true) {
+			// The rider walks around, and a corresponding message is printed.
+			if (log)
+				System.out.println("Rider " + id + " is walking around the park.");
+			Sleeper.walkAround(log);
+			//			System.out.println("Rider " + id + " is walking around the park.");
+			// A try-catch to handle an InterruptedException and to propogate it to the
+			// user.
+			try {
+				// The rider is in line until a bumper car is free for them.
+				int carId = coordinator.getInLine(id);
+				// The rider gets the time to ride in the bumper car, and a corresponding
+				// message is printed.
+				if (log)
+					System.out.println("Rider " + id + " is now riding in car " + carId + ".");
+				Sleeper.rideTime(log);
+				//				System.out.println("Rider " + id + " is now riding in car " + carId + ".");
+				// The rider is done and returns the bumper car, and a corresponding message is
+				// printed.
+				if (log)
+					System.out.println("Rider " + id + " returned car " + carId + ".");
+				coordinator.returnCar(carId);
+				//				System.out.println("Rider " + id + " returned car " + carId + ".");
+			} catch (InterruptedException ie) {
+				System.out.println(ie.getMessage());
+			}
+		}
+	}
+}
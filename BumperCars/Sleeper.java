@@ -1,5 +1,3 @@
-import java.util.*;
-
 /**
  * @file Sleeper.java
  * @author Amit Prakash (aprakas5)
@@ -14,22 +12,36 @@ import java.util.*;
  * 
  *          This program is run through the command-line via the following
  *          commands:
- *          javac -d . Sleeper.java RiderThread.java Coordinator.java
+ *          javac -d . Sleeper.java CarPool.java WaitHistogram.java RideMetrics.java Rider.java RiderThread.java
+ *          RideSimulation.java Coordinator.java
  *          java edu.ncsu.csc246.main.Coordinator <positive integer number of
  *          bumper cars> <positive integer number of riders> <positive (long)
- *          integer number of seconds>
+ *          integer number of seconds> [--quiet] [--virtual | --simulate [--seed <n>]]
  */
+package edu.ncsu.csc246.main;
+
+import java.util.concurrent.ThreadLocalRandom;
+
 public class Sleeper {
 
     /**
      * Defines the time for a ride as no more than 5 seconds and then makes the thread sleep while riding.
      */
     public static void rideTime() {
+        rideTime(true);
+    }
 
-        Random generator = new Random();
-        int milliseconds = (generator.nextInt(5) + 1) * 1000;
+    /**
+     * Defines the time for a ride as no more than 5 seconds and then makes the thread sleep while riding,
+     * printing the time only if asked to. The time comes from the thread's own random generator, so many
+     * riders do not contend on a shared seed.
+     */
+    public static void rideTime(boolean log) {
 
-        System.out.println("Riding for " + milliseconds / 1000 + " seconds");
+        int milliseconds = (ThreadLocalRandom.current().nextInt(5) + 1) * 1000;
+
+        if (log)
+            System.out.println("Riding for " + milliseconds / 1000 + " seconds");
 
         try {
             Thread.currentThread().sleep(milliseconds);
@@ -42,11 +54,19 @@ public class Sleeper {
      * Defines the time for to walk around as no more than 10 seconds and then makes the thread sleep while walking around.
      */
     public static void walkAround() {
+        walkAround(true);
+    }
+
+    /**
+     * Defines the time for to walk around as no more than 10 seconds and then makes the thread sleep while
+     * walking around, printing the time only if asked to.
+     */
+    public static void walkAround(boolean log) {
 
-        Random generator = new Random();
-        int milliseconds = (generator.nextInt(10) + 1) * 1000;
+        int milliseconds = (ThreadLocalRandom.current().nextInt(10) + 1) * 1000;
 
-        System.out.println("Walking around for  " + milliseconds / 1000 + " seconds");
+        if (log)
+            System.out.println("Walking around for  " + milliseconds / 1000 + " seconds");
 
         try {
             Thread.currentThread().sleep(milliseconds);
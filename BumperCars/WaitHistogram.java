@@ -0,0 +1,137 @@
+/**
+ * @file WaitHistogram.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of the Bumper Cars problem.
+ * It contains the WaitHistogram class, which contains fields/methods for its corresponding behaviors.
+ * This program was developed via the Eclipse IDE for Developers.
+ * 
+ * This program is run through the command-line via the following commands:
+ * 		javac -d . Sleeper.java CarPool.java WaitHistogram.java RideMetrics.java Rider.java RiderThread.java RideSimulation.java Coordinator.java
+ *      java edu.ncsu.csc246.main.Coordinator <positive integer number of bumper cars> <positive integer number of riders> <positive (long) integer number of seconds> [--quiet] [--virtual | --simulate [--seed <n>]]
+ */
+package edu.ncsu.csc246.main;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * This class looks at the functionality for a histogram of wait times, in the
+ * style of an HdrHistogram: values are counted in buckets whose width grows
+ * with the value (each power of 2 is split into 16 buckets), so any value from
+ * a microsecond to hours is kept to within about 6%, in a fixed array of
+ * counters. Recording a value is one atomic increment (no locks), so any
+ * number of riders can record at once, and percentiles are read from the
+ * counts at any time.
+ */
+public class WaitHistogram {
+
+	/** The number of bits for the buckets within each power of 2. */
+	private static final int SUB_BITS = 4;
+	/** The number of buckets within each power of 2. */
+	private static final int SUB_BUCKETS = 1 << SUB_BITS;
+	/** The number of buckets, enough for any positive long. */
+	private static final int BUCKETS = (64 - SUB_BITS) * SUB_BUCKETS;
+
+	/** The count of values in each bucket. */
+	private AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	/** The number of values recorded. */
+	private AtomicLong total = new AtomicLong();
+	/** The sum of the values recorded. */
+	private AtomicLong sum = new AtomicLong();
+	/** The largest value recorded. */
+	private AtomicLong max = new AtomicLong();
+
+	/**
+	 * This method records a value (negative values are counted as 0).
+	 * 
+	 * @param value The value to record.
+	 */
+	public void record(long value) {
+		value = Math.max(0, value);
+		counts.incrementAndGet(bucket(value));
+		total.incrementAndGet();
+		sum.addAndGet(value);
+		long largest = max.get();
+		while (value > largest && !max.compareAndSet(largest, value))
+			largest = max.get();
+	}
+
+	/**
+	 * This method returns the bucket for a value: values below 2 * SUB_BUCKETS
+	 * have a bucket each, and each power of 2 above is split into SUB_BUCKETS
+	 * buckets.
+	 * 
+	 * @param value The value (not negative).
+	 * @return The index of the bucket.
+	 */
+	private static int bucket(long value) {
+		if (value < 2 * SUB_BUCKETS)
+			return (int) value;
+		int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+		return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+	}
+
+	/**
+	 * This method returns the largest value that falls in the given bucket.
+	 * 
+	 * @param bucket The index of the bucket.
+	 * @return The largest value of the bucket.
+	 */
+	private static long highest(int bucket) {
+		if (bucket < 2 * SUB_BUCKETS)
+			return bucket;
+		int shift = bucket / SUB_BUCKETS - 1;
+		long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+		return lowest + (1L << shift) - 1;
+	}
+
+	/**
+	 * This method returns the value at the given percentile, to within the width
+	 * of its bucket (never more than the largest value recorded).
+	 * 
+	 * @param percentile The percentile (0-100).
+	 * @return The value at the percentile, or 0 if nothing was recorded.
+	 */
+	public long percentile(double percentile) {
+		long count = total.get();
+		if (count == 0)
+			return 0;
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += counts.get(i);
+			if (seen >= rank)
+				return Math.min(highest(i), max.get());
+		}
+		return max.get();
+	}
+
+	/**
+	 * This method returns the number of values recorded.
+	 * 
+	 * @return total: The number of values recorded.
+	 */
+	public long getTotal() {
+		return total.get();
+	}
+
+	/**
+	 * This method returns the average of the values recorded.
+	 * 
+	 * @return The average value, or 0 if nothing was recorded.
+	 */
+	public double getAverage() {
+		long count = total.get();
+		return count == 0 ? 0 : (double) sum.get() / count;
+	}
+
+	/**
+	 * This method returns the largest value recorded.
+	 * 
+	 * @return max: The largest value recorded.
+	 */
+	public long getMax() {
+		return max.get();
+	}
+}
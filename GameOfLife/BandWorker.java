@@ -0,0 +1,255 @@
+/**
+ * @file BandWorker.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the BandWorker class, which runs one horizontal band of a BandedEngine's grid.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> --engine banded [--bands <n>]
+ * (BandedEngine starts each worker process itself, via java edu.ncsu.csc246.main.BandWorker <port> <band>.)
+ */
+package edu.ncsu.csc246.main;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+/**
+ * This class runs one horizontal band of rows of a BandedEngine's grid. The
+ * band is held in an ordinary engine with two extra "ghost" rows, one above
+ * and one below the band. Each generation, the band sends its top row to the
+ * band above and its bottom row to the band below, receives their edge rows
+ * into its ghost rows, and steps the engine. The ghost rows are wrong after the
+ * step (they wrap onto each other), but every row of the band only depends on
+ * the rows next to it, so the band is exactly what the whole torus would give.
+ *
+ * A worker is either run by BandedEngine on its own thread, or in its own
+ * process through main, where the BandedEngine drives it over a control
+ * socket.
+ */
+public class BandWorker {
+	/** The control command to set some of the band's rows. */
+	static final int LOAD = 1;
+	/** The control command to advance the band some generations. */
+	static final int ADVANCE = 2;
+	/** The control command to send back some of the band's rows. */
+	static final int GATHER = 3;
+	/** The control command to stop the worker. */
+	static final int QUIT = 4;
+	/** The control reply for a command that succeeded. */
+	static final int OK = 0;
+	/** The control reply for a command that failed, followed by the message. */
+	static final int FAILED = 1;
+
+	/** The number of rows in the band. */
+	private final int height;
+	/** The engine holding the band, with a ghost row above and below it. */
+	private final LifeEngine engine;
+	/** The link to the band above. */
+	private final RowLink up;
+	/** The link to the band below. */
+	private final RowLink down;
+	/** The buffer for the edge rows sent and the ghost rows received. */
+	private final long[] buffer;
+
+	/**
+	 * This is the constructor, which creates a worker for a band of dead cells.
+	 *
+	 * @param height  The number of rows in the band.
+	 * @param columns The number of columns in the grid.
+	 * @param engine  The engine to hold the band, with height + 2 rows.
+	 * @param up      The link to the band above.
+	 * @param down    The link to the band below.
+	 */
+	BandWorker(int height, int columns, LifeEngine engine, RowLink up, RowLink down) {
+		this.height = height;
+		this.engine = engine;
+		this.up = up;
+		this.down = down;
+		buffer = new long[(columns + 63) >>> 6];
+	}
+
+	/**
+	 * This sets one row of the band.
+	 *
+	 * @param row   The row of the band (0 is its top row).
+	 * @param words The packed row.
+	 */
+	void setRow(int row, long[] words) {
+		engine.setRow(row + 1, words);
+	}
+
+	/**
+	 * This copies one row of the band.
+	 *
+	 * @param row   The row of the band (0 is its top row).
+	 * @param words The packed row to copy into.
+	 */
+	void getRow(int row, long[] words) {
+		engine.getRow(row + 1, words);
+	}
+
+	/**
+	 * This advances the band the given number of generations, trading edge rows
+	 * with the bands above and below before every generation.
+	 *
+	 * @param generations The number of generations to advance.
+	 * @throws IOException          If a neighboring band cannot be reached, an
+	 *                              IOException is thrown.
+	 * @throws InterruptedException If the thread is interrupted, an
+	 *                              InterruptedException is thrown.
+	 */
+	void advance(long generations) throws IOException, InterruptedException {
+		for (long i = 0; i < generations; i++) {
+			engine.getRow(1, buffer);
+			up.send(buffer);
+			engine.getRow(height, buffer);
+			down.send(buffer);
+			up.receive(buffer);
+			engine.setRow(0, buffer);
+			down.receive(buffer);
+			engine.setRow(height + 1, buffer);
+			engine.step();
+		}
+	}
+
+	/**
+	 * This closes the links to the neighboring bands.
+	 *
+	 * @throws IOException If a link cannot be closed, an IOException is thrown.
+	 */
+	void close() throws IOException {
+		up.close();
+		down.close();
+	}
+
+	/**
+	 * This runs a worker process for one band. It connects to the BandedEngine's
+	 * control port, reports the port it listens on for the band above, sets up the
+	 * band and the links to its neighbors as told, and then runs commands until
+	 * told to quit (or the BandedEngine goes away).
+	 *
+	 * @param args The control port and the index of the band.
+	 * @throws IOException If the BandedEngine cannot be reached, an IOException is
+	 *                     thrown.
+	 */
+	public static void main(String[] args) throws IOException {
+		// Error Handling for the command-line inputs
+		if (args.length != 2)
+			throw new IllegalArgumentException(
+					"The command line input should be in the format: java edu.ncsu.csc246.main.BandWorker <port> <band>.");
+		InetAddress host = InetAddress.getLoopbackAddress();
+		try (Socket control = new Socket(host, Integer.parseInt(args[0]));
+				ServerSocket listener = new ServerSocket(0, 1, host)) {
+			DataInputStream in = new DataInputStream(new BufferedInputStream(control.getInputStream(), 1 << 16));
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(control.getOutputStream(), 1 << 16));
+			out.writeInt(Integer.parseInt(args[1]));
+			out.writeInt(listener.getLocalPort());
+			out.flush();
+			BandWorker worker = null;
+			try {
+				int height = in.readInt();
+				int columns = in.readInt();
+				int downPort = in.readInt();
+				String[] options = new String[in.readInt()];
+				for (int i = 0; i < options.length; i++)
+					options[i] = in.readUTF();
+				LifeEngine engine = Life.createEngine(LifeOptions.parse(options), height + 2, columns);
+				int words = (columns + 63) >>> 6;
+				RowLink down = new SocketRowLink(new Socket(host, downPort), words);
+				RowLink up = new SocketRowLink(listener.accept(), words);
+				worker = new BandWorker(height, columns, engine, up, down);
+				out.writeInt(OK);
+				out.flush();
+				serve(worker, height, words, in, out);
+			} catch (EOFException e) {
+				// The BandedEngine has gone away, so there is nothing left to do
+			} catch (Exception e) {
+				out.writeInt(FAILED);
+				out.writeUTF(String.valueOf(e.getMessage()));
+				out.flush();
+			} finally {
+				if (worker != null)
+					worker.close();
+			}
+		}
+	}
+
+	/**
+	 * This runs control commands from the BandedEngine until told to quit.
+	 *
+	 * @param worker The worker for the band.
+	 * @param height The number of rows in the band.
+	 * @param words  The number of longs in each packed row.
+	 * @param in     The stream commands arrive through.
+	 * @param out    The stream replies are sent through.
+	 * @throws Exception If a command fails, its exception is thrown.
+	 */
+	private static void serve(BandWorker worker, int height, int words, DataInputStream in, DataOutputStream out)
+			throws Exception {
+		long[] row = new long[words];
+		while (true) {
+			int command = in.readInt();
+			switch (command) {
+			case LOAD: {
+				int from = in.readInt();
+				int count = in.readInt();
+				checkRows(from, count, height);
+				for (int r = 0; r < count; r++) {
+					for (int w = 0; w < words; w++)
+						row[w] = in.readLong();
+					worker.setRow(from + r, row);
+				}
+				out.writeInt(OK);
+				break;
+			}
+			case ADVANCE:
+				worker.advance(in.readLong());
+				out.writeInt(OK);
+				break;
+			case GATHER: {
+				int from = in.readInt();
+				int count = in.readInt();
+				checkRows(from, count, height);
+				out.writeInt(OK);
+				for (int r = 0; r < count; r++) {
+					worker.getRow(from + r, row);
+					for (long word : row)
+						out.writeLong(word);
+				}
+				break;
+			}
+			case QUIT:
+				return;
+			default:
+				throw new IOException("The control command " + command + " is not known.");
+			}
+			out.flush();
+		}
+	}
+
+	/**
+	 * This checks that a range of rows asked for by the BandedEngine is inside the
+	 * band.
+	 *
+	 * @param from   The first row of the range.
+	 * @param count  The number of rows in the range.
+	 * @param height The number of rows in the band.
+	 * @throws IOException If the range is not inside the band, an IOException is
+	 *                     thrown.
+	 */
+	private static void checkRows(int from, int count, int height) throws IOException {
+		// Error Handling for a corrupted control stream
+		if (from < 0 || count < 0 || from > height - count)
+			throw new IOException("The rows " + from + " to " + (from + count) + " are not in the band.");
+	}
+}
@@ -0,0 +1,735 @@
+/**
+ * @file BandedEngine.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the BandedEngine class, a grid backend that splits the grid into bands run by separate workers.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> --engine banded [--bands <n>]
+ */
+package edu.ncsu.csc246.main;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is a grid backend that splits the grid (a torus) into horizontal
+ * bands of rows, each run by its own BandWorker, either in a separate worker
+ * process (talking over localhost sockets) or on a thread of this process
+ * (talking through in-process queues). Neighboring bands only trade their edge
+ * rows each generation, so the grid can be far bigger than one process could
+ * hold, and the first band's top row and the last band's bottom row are traded
+ * with each other, keeping the same wraparound as CellRule.countNeighbors.
+ *
+ * The bands hold the only full copy of the grid. This engine only keeps a
+ * window of up to WINDOW packed rows of one band (one bit per cell), which rows
+ * are read and set through: reading a row outside the window first sends the
+ * window back to its band if it was changed, then reads the window holding that
+ * row from its band. Output and checkpoints read the grid a row at a time from
+ * top to bottom, so they stream the grid from the bands a window at a time, and
+ * the driver's memory does not grow with the grid.
+ */
+public class BandedEngine implements LifeEngine, Closeable {
+	/** How long to wait for the worker processes to connect, in milliseconds. */
+	static final int CONNECT_TIMEOUT = 60000;
+	/** The most rows the driver holds at once. */
+	static final int WINDOW = 64;
+
+	/** The number of rows in the grid. */
+	private final int rows;
+	/** The number of columns in the grid. */
+	private final int columns;
+	/** The rules of the game. */
+	private final LifeRule rule;
+	/** The mask of the valid (in-grid) bits of the last word of each row. */
+	private final long lastMask;
+	/** The first row of each band, followed by the number of rows. */
+	private final int[] starts;
+	/** The bands, from top to bottom. */
+	private final Band[] bands;
+	/** The packed rows of the window, of which the first windowCount are used. */
+	private final long[][] window;
+	/** The band the window is in, or -1 if there is no window. */
+	private int windowBand = -1;
+	/** The first row of the band in the window. */
+	private int windowFrom;
+	/** The number of rows in the window. */
+	private int windowCount;
+	/** Whether the window has changed since it was read from its band. */
+	private boolean changed;
+
+	/**
+	 * This interface describes how this engine drives one band, wherever it is
+	 * run.
+	 */
+	private interface Band {
+
+		/**
+		 * This sets some of the band's rows.
+		 *
+		 * @param rows  The packed rows to set.
+		 * @param from  The first row of the band to set.
+		 * @param count The number of rows to set.
+		 * @throws IOException If the band cannot be reached, an IOException is
+		 *                     thrown.
+		 */
+		void load(long[][] rows, int from, int count) throws IOException;
+
+		/**
+		 * This starts advancing the band, without waiting for it to finish.
+		 *
+		 * @param generations The number of generations to advance.
+		 * @throws IOException If the band cannot be reached, an IOException is
+		 *                     thrown.
+		 */
+		void start(long generations) throws IOException;
+
+		/**
+		 * This waits for the band to finish advancing.
+		 *
+		 * @throws IOException          If the band failed, an IOException is
+		 *                              thrown.
+		 * @throws InterruptedException If the thread is interrupted while waiting,
+		 *                              an InterruptedException is thrown.
+		 */
+		void finish() throws IOException, InterruptedException;
+
+		/**
+		 * This copies some of the band's rows.
+		 *
+		 * @param rows  The packed rows to copy into.
+		 * @param from  The first row of the band to copy.
+		 * @param count The number of rows to copy.
+		 * @throws IOException If the band cannot be reached, an IOException is
+		 *                     thrown.
+		 */
+		void gather(long[][] rows, int from, int count) throws IOException;
+
+		/**
+		 * This stops the band.
+		 *
+		 * @throws IOException If the band cannot be stopped, an IOException is
+		 *                     thrown.
+		 */
+		void close() throws IOException;
+	}
+
+	/**
+	 * This class runs a band on its own thread in this process.
+	 */
+	private static class LocalBand implements Band {
+		/** The worker for the band. */
+		private final BandWorker worker;
+		/** The thread the worker advances on. */
+		private final ExecutorService thread;
+		/** The generations being advanced, or null if the band is idle. */
+		private Future<Void> running;
+
+		/**
+		 * This is the constructor, which starts the band's thread.
+		 *
+		 * @param worker The worker for the band.
+		 * @param index  The index of the band.
+		 */
+		LocalBand(BandWorker worker, int index) {
+			this.worker = worker;
+			thread = Executors.newSingleThreadExecutor(r -> {
+				Thread t = new Thread(r, "life-band-" + index);
+				t.setDaemon(true);
+				return t;
+			});
+		}
+
+		/**
+		 * This sets some of the band's rows.
+		 *
+		 * @param rows  The packed rows to set.
+		 * @param from  The first row of the band to set.
+		 * @param count The number of rows to set.
+		 */
+		@Override
+		public void load(long[][] rows, int from, int count) {
+			for (int r = 0; r < count; r++)
+				worker.setRow(from + r, rows[r]);
+		}
+
+		/**
+		 * This starts advancing the band on its thread. If the band fails, its links
+		 * are closed, so its neighbors fail too rather than waiting for its rows.
+		 *
+		 * @param generations The number of generations to advance.
+		 */
+		@Override
+		public void start(long generations) {
+			running = thread.submit(() -> {
+				try {
+					worker.advance(generations);
+				} catch (Throwable e) {
+					worker.close();
+					throw e;
+				}
+				return null;
+			});
+		}
+
+		/**
+		 * This waits for the band's thread to finish advancing.
+		 *
+		 * @throws IOException          If the band failed, an IOException is
+		 *                              thrown.
+		 * @throws InterruptedException If the thread is interrupted while waiting,
+		 *                              an InterruptedException is thrown.
+		 */
+		@Override
+		public void finish() throws IOException, InterruptedException {
+			try {
+				running.get();
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof IOException)
+					throw (IOException) e.getCause();
+				throw new IOException("A band failed: " + e.getCause().getMessage(), e.getCause());
+			} finally {
+				running = null;
+			}
+		}
+
+		/**
+		 * This copies some of the band's rows.
+		 *
+		 * @param rows  The packed rows to copy into.
+		 * @param from  The first row of the band to copy.
+		 * @param count The number of rows to copy.
+		 */
+		@Override
+		public void gather(long[][] rows, int from, int count) {
+			for (int r = 0; r < count; r++)
+				worker.getRow(from + r, rows[r]);
+		}
+
+		/**
+		 * This stops the band's thread.
+		 *
+		 * @throws IOException If the band's links cannot be closed, an IOException
+		 *                     is thrown.
+		 */
+		@Override
+		public void close() throws IOException {
+			thread.shutdownNow();
+			worker.close();
+		}
+	}
+
+	/**
+	 * This class runs a band in a worker process, driven over a control socket.
+	 */
+	private static class RemoteBand implements Band {
+		/** The index of the band. */
+		private final int index;
+		/** The worker process. */
+		private final Process process;
+		/** The control socket to the worker process. */
+		private Socket control;
+		/** The stream replies arrive through. */
+		private DataInputStream in;
+		/** The stream commands are sent through. */
+		private DataOutputStream out;
+		/** The port the worker listens on for the band above. */
+		private int port;
+
+		/**
+		 * This is the constructor, which starts the worker process.
+		 *
+		 * @param index       The index of the band.
+		 * @param controlPort The port the worker should connect to.
+		 * @throws IOException If the process cannot be started, an IOException is
+		 *                     thrown.
+		 */
+		RemoteBand(int index, int controlPort) throws IOException {
+			this.index = index;
+			String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+			process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+					BandWorker.class.getName(), "" + controlPort, "" + index)
+					.redirectOutput(ProcessBuilder.Redirect.DISCARD).redirectError(ProcessBuilder.Redirect.INHERIT)
+					.start();
+		}
+
+		/**
+		 * This attaches the control socket a worker connected with.
+		 *
+		 * @param control The control socket.
+		 * @param in      The stream replies arrive through.
+		 * @param out     The stream commands are sent through.
+		 * @param port    The port the worker listens on for the band above.
+		 */
+		void attach(Socket control, DataInputStream in, DataOutputStream out, int port) {
+			this.control = control;
+			this.in = in;
+			this.out = out;
+			this.port = port;
+		}
+
+		/**
+		 * This tells the worker its band and who its neighbor below is.
+		 *
+		 * @param height   The number of rows in the band.
+		 * @param columns  The number of columns in the grid.
+		 * @param downPort The port the band below listens on.
+		 * @param options  The command-line input for the band's engine.
+		 * @throws IOException If the worker cannot be reached, an IOException is
+		 *                     thrown.
+		 */
+		void init(int height, int columns, int downPort, String[] options) throws IOException {
+			out.writeInt(height);
+			out.writeInt(columns);
+			out.writeInt(downPort);
+			out.writeInt(options.length);
+			for (String option : options)
+				out.writeUTF(option);
+			out.flush();
+		}
+
+		/**
+		 * This reads the worker's reply to the last command.
+		 *
+		 * @throws IOException If the command failed, an IOException is thrown.
+		 */
+		void reply() throws IOException {
+			if (in.readInt() != BandWorker.OK)
+				throw new IOException("Band " + index + " failed: " + in.readUTF());
+		}
+
+		/**
+		 * This sends some of the band's rows to the worker.
+		 *
+		 * @param rows  The packed rows to set.
+		 * @param from  The first row of the band to set.
+		 * @param count The number of rows to set.
+		 * @throws IOException If the worker cannot be reached, an IOException is
+		 *                     thrown.
+		 */
+		@Override
+		public void load(long[][] rows, int from, int count) throws IOException {
+			out.writeInt(BandWorker.LOAD);
+			out.writeInt(from);
+			out.writeInt(count);
+			for (int r = 0; r < count; r++)
+				for (long word : rows[r])
+					out.writeLong(word);
+			out.flush();
+			reply();
+		}
+
+		/**
+		 * This tells the worker to advance.
+		 *
+		 * @param generations The number of generations to advance.
+		 * @throws IOException If the worker cannot be reached, an IOException is
+		 *                     thrown.
+		 */
+		@Override
+		public void start(long generations) throws IOException {
+			out.writeInt(BandWorker.ADVANCE);
+			out.writeLong(generations);
+			out.flush();
+		}
+
+		/**
+		 * This waits for the worker to reply that it has advanced.
+		 *
+		 * @throws IOException If the worker failed, an IOException is thrown.
+		 */
+		@Override
+		public void finish() throws IOException {
+			reply();
+		}
+
+		/**
+		 * This reads some of the band's rows back from the worker.
+		 *
+		 * @param rows  The packed rows to copy into.
+		 * @param from  The first row of the band to copy.
+		 * @param count The number of rows to copy.
+		 * @throws IOException If the worker cannot be reached, an IOException is
+		 *                     thrown.
+		 */
+		@Override
+		public void gather(long[][] rows, int from, int count) throws IOException {
+			out.writeInt(BandWorker.GATHER);
+			out.writeInt(from);
+			out.writeInt(count);
+			out.flush();
+			reply();
+			for (int r = 0; r < count; r++)
+				for (int w = 0; w < rows[r].length; w++)
+					rows[r][w] = in.readLong();
+		}
+
+		/**
+		 * This tells the worker to quit and waits (briefly) for its process to end.
+		 * The control socket is closed and the process is ended even if the worker
+		 * has already died and cannot be told to quit.
+		 *
+		 * @throws IOException If the worker cannot be told to quit or the control
+		 *                     socket cannot be closed, an IOException is thrown.
+		 */
+		@Override
+		public void close() throws IOException {
+			try {
+				if (control != null) {
+					try {
+						out.writeInt(BandWorker.QUIT);
+						out.flush();
+					} finally {
+						control.close();
+					}
+				}
+			} finally {
+				try {
+					if (!process.waitFor(5, TimeUnit.SECONDS))
+						process.destroy();
+				} catch (InterruptedException e) {
+					process.destroy();
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+	}
+
+	/**
+	 * This is the constructor, which splits a grid of dead cells of the given size
+	 * into bands and starts a worker for each one.
+	 *
+	 * @param rows      The number of rows in the grid.
+	 * @param columns   The number of columns in the grid.
+	 * @param rule      The rules of the game.
+	 * @param numBands  The number of bands (at most the number of rows).
+	 * @param options   The command-line input for each band's engine, in the
+	 *                  format LifeOptions.parse takes.
+	 * @param processes true to run each band in its own process over sockets,
+	 *                  false to run them on threads of this process.
+	 * @throws IOException              If the workers cannot be started, an
+	 *                                  IOException is thrown.
+	 * @throws IllegalArgumentException If the grid size or number of bands is
+	 *                                  not valid, an IllegalArgumentException is
+	 *                                  thrown.
+	 */
+	public BandedEngine(int rows, int columns, LifeRule rule, int numBands, String[] options, boolean processes)
+			throws IOException, IllegalArgumentException {
+		if (rows < 1 || columns < 1)
+			throw new IllegalArgumentException("The grid must have at least 1 row and 1 column.");
+		if (numBands < 1 || numBands > rows)
+			throw new IllegalArgumentException("The number of bands must be between 1 and the number of rows.");
+		this.rows = rows;
+		this.columns = columns;
+		this.rule = rule;
+		lastMask = -1L >>> (63 - ((columns - 1) & 63));
+		window = new long[Math.min(WINDOW, rows)][(columns + 63) >>> 6];
+		starts = new int[numBands + 1];
+		for (int i = 0; i <= numBands; i++)
+			starts[i] = (int) ((long) rows * i / numBands);
+		bands = processes ? startProcesses(options) : startThreads(options);
+	}
+
+	/**
+	 * This creates a worker for each band on its own thread, linked to the bands
+	 * above and below it by in-process queues.
+	 *
+	 * @param options The command-line input for each band's engine.
+	 * @return The bands.
+	 * @throws IOException If a band's engine cannot be created, an IOException is
+	 *                     thrown.
+	 */
+	private Band[] startThreads(String[] options) throws IOException {
+		int n = starts.length - 1;
+		RowLink[] up = new RowLink[n];
+		RowLink[] down = new RowLink[n];
+		for (int i = 0; i < n; i++) {
+			RowLink[] pair = LocalRowLink.pair();
+			down[i] = pair[0];
+			up[(i + 1) % n] = pair[1];
+		}
+		Band[] started = new Band[n];
+		for (int i = 0; i < n; i++) {
+			int height = starts[i + 1] - starts[i];
+			LifeEngine engine = Life.createEngine(LifeOptions.parse(options), height + 2, columns);
+			started[i] = new LocalBand(new BandWorker(height, columns, engine, up[i], down[i]), i);
+		}
+		return started;
+	}
+
+	/**
+	 * This starts a worker process for each band, waits for them all to connect,
+	 * and then tells each one its band and the port of the band below it (which
+	 * it connects to, while accepting the band above).
+	 *
+	 * @param options The command-line input for each band's engine.
+	 * @return The bands.
+	 * @throws IOException If a worker cannot be started or reached, an
+	 *                     IOException is thrown.
+	 */
+	private Band[] startProcesses(String[] options) throws IOException {
+		int n = starts.length - 1;
+		RemoteBand[] started = new RemoteBand[n];
+		List<Socket> unclaimed = new ArrayList<Socket>();
+		try (ServerSocket server = new ServerSocket(0, n, InetAddress.getLoopbackAddress())) {
+			server.setSoTimeout(CONNECT_TIMEOUT);
+			for (int i = 0; i < n; i++)
+				started[i] = new RemoteBand(i, server.getLocalPort());
+			for (int i = 0; i < n; i++) {
+				Socket control = server.accept();
+				unclaimed.add(control);
+				DataInputStream in = new DataInputStream(new BufferedInputStream(control.getInputStream(), 1 << 16));
+				DataOutputStream out = new DataOutputStream(
+						new BufferedOutputStream(control.getOutputStream(), 1 << 16));
+				int index = in.readInt();
+				int port = in.readInt();
+				started[index].attach(control, in, out, port);
+			}
+			for (int i = 0; i < n; i++)
+				started[i].init(starts[i + 1] - starts[i], columns, started[(i + 1) % n].port, options);
+			for (int i = 0; i < n; i++)
+				started[i].reply();
+		} catch (IOException e) {
+			for (RemoteBand band : started)
+				if (band != null)
+					band.process.destroy();
+			for (Socket control : unclaimed)
+				control.close();
+			throw new IOException("The band worker processes could not be started: " + e.getMessage(), e);
+		}
+		return started;
+	}
+
+	/**
+	 * This returns the number of rows in the grid.
+	 *
+	 * @return rows: The number of rows in the grid.
+	 */
+	@Override
+	public int getRows() {
+		return rows;
+	}
+
+	/**
+	 * This returns the number of columns in the grid.
+	 *
+	 * @return columns: The number of columns in the grid.
+	 */
+	@Override
+	public int getColumns() {
+		return columns;
+	}
+
+	/**
+	 * This returns the rules the engine applies each generation.
+	 *
+	 * @return rule: The rules of the game.
+	 */
+	@Override
+	public LifeRule getRule() {
+		return rule;
+	}
+
+	/**
+	 * This returns the number of bands the grid is split into.
+	 *
+	 * @return The number of bands.
+	 */
+	public int getBands() {
+		return bands.length;
+	}
+
+	/**
+	 * This returns whether the cell at the given row and column is alive(1) or
+	 * dead(0), reading it through the window.
+	 *
+	 * @param row    The row of the cell.
+	 * @param column The column of the cell.
+	 * @return 1 if the cell is alive, 0 if it is dead.
+	 */
+	@Override
+	public int getLife(int row, int column) {
+		return (int) (windowRow(row)[column >>> 6] >>> (column & 63)) & 1;
+	}
+
+	/**
+	 * This sets whether the cell at the given row and column is alive(1) or
+	 * dead(0) in the window, which is sent to its band before the window moves or
+	 * the bands next advance.
+	 *
+	 * @param row    The row of the cell.
+	 * @param column The column of the cell.
+	 * @param alive  1 if the cell is alive, 0 if it is dead.
+	 * @throws IllegalArgumentException If the alive value is not 0 or 1, an
+	 *                                  IllegalArgumentException is thrown.
+	 */
+	@Override
+	public void setLife(int row, int column, int alive) throws IllegalArgumentException {
+		if (alive != 0 && alive != 1)
+			throw new IllegalArgumentException("The input alive value can only be 0 or 1.");
+		long[] target = windowRow(row);
+		if (alive == 1)
+			target[column >>> 6] |= 1L << (column & 63);
+		else
+			target[column >>> 6] &= ~(1L << (column & 63));
+		changed = true;
+	}
+
+	/**
+	 * This copies one row of the grid, reading it through the window.
+	 *
+	 * @param row   The row to copy.
+	 * @param words The words to copy the row into.
+	 */
+	@Override
+	public void getRow(int row, long[] words) {
+		long[] source = windowRow(row);
+		System.arraycopy(source, 0, words, 0, source.length);
+	}
+
+	/**
+	 * This sets one row of the grid in the window, which is sent to its band before
+	 * the window moves or the bands next advance.
+	 *
+	 * @param row   The row to set.
+	 * @param words The words to set the row from.
+	 */
+	@Override
+	public void setRow(int row, long[] words) {
+		long[] target = windowRow(row);
+		System.arraycopy(words, 0, target, 0, target.length);
+		target[target.length - 1] &= lastMask;
+		changed = true;
+	}
+
+	/**
+	 * This advances the grid by one generation.
+	 *
+	 * @throws InterruptedException If the thread is interrupted while waiting on
+	 *                              the bands, an InterruptedException is thrown.
+	 */
+	@Override
+	public void step() throws InterruptedException {
+		advance(1);
+	}
+
+	/**
+	 * This advances the grid by the given number of generations, sending the
+	 * window to its band first if it has changed. Every band advances all of the
+	 * generations at once, trading edge rows with its neighbors directly, and
+	 * this only waits for them all to finish (a band that fails closes its links,
+	 * so its neighbors fail rather than wait for it).
+	 *
+	 * @param generations The number of generations to advance.
+	 * @throws InterruptedException If the thread is interrupted while waiting on
+	 *                              the bands, an InterruptedException is thrown.
+	 * @throws UncheckedIOException If a band cannot be reached or fails, an
+	 *                              UncheckedIOException is thrown.
+	 */
+	@Override
+	public void advance(long generations) throws InterruptedException {
+		if (generations <= 0)
+			return;
+		IOException failure = null;
+		try {
+			flush();
+			windowBand = -1;
+			for (Band band : bands)
+				band.start(generations);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		for (Band band : bands) {
+			try {
+				band.finish();
+			} catch (IOException e) {
+				if (failure == null)
+					failure = e;
+			}
+		}
+		if (failure != null)
+			throw new UncheckedIOException(failure);
+	}
+
+	/**
+	 * This returns the given row in the window, first moving the window to the
+	 * rows of its band around it if it is not already there.
+	 *
+	 * @param row The row of the grid.
+	 * @return The packed row in the window.
+	 * @throws UncheckedIOException If a band cannot be reached, an
+	 *                              UncheckedIOException is thrown.
+	 */
+	private long[] windowRow(int row) {
+		int band = Arrays.binarySearch(starts, row);
+		if (band < 0)
+			band = -band - 2;
+		int offset = row - starts[band];
+		if (band != windowBand || offset < windowFrom || offset >= windowFrom + windowCount) {
+			try {
+				flush();
+				windowBand = -1;
+				int from = offset - offset % window.length;
+				int count = Math.min(window.length, starts[band + 1] - starts[band] - from);
+				bands[band].gather(window, from, count);
+				windowBand = band;
+				windowFrom = from;
+				windowCount = count;
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+		return window[offset - windowFrom];
+	}
+
+	/**
+	 * This sends the window back to its band, if it has changed since it was read.
+	 *
+	 * @throws IOException If the band cannot be reached, an IOException is thrown.
+	 */
+	private void flush() throws IOException {
+		if (changed && windowBand >= 0)
+			bands[windowBand].load(window, windowFrom, windowCount);
+		changed = false;
+	}
+
+	/**
+	 * This stops every band (and its worker process, if it has one).
+	 *
+	 * @throws IOException If a band cannot be stopped, an IOException is thrown.
+	 */
+	@Override
+	public void close() throws IOException {
+		IOException failure = null;
+		for (Band band : bands) {
+			try {
+				band.close();
+			} catch (IOException e) {
+				if (failure == null)
+					failure = e;
+			}
+		}
+		if (failure != null)
+			throw failure;
+	}
+}
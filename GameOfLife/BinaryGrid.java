@@ -0,0 +1,333 @@
+/**
+ * @file BinaryGrid.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the BinaryGrid class, which loads and saves grids in a compact binary format,
+ * including a main method to convert a grid from the text format to the binary format.
+ * This program was developed via the Eclipse IDE for Developers.
+ * 
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.BinaryGrid <text file name/path> <binary file name/path>
+ */
+package edu.ncsu.csc246.main;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * This class loads and saves grids in a compact binary format, through
+ * memory-mapped file channels so that loading and saving huge grids is bound by
+ * the disk rather than by parsing. All values are little-endian:
+ * 
+ * <pre>
+ * int  magic       "LIFE" (0x4546494C)
+ * int  version     1
+ * int  rows
+ * int  columns
+ * long generation  the generation the grid is at (0 for a starting grid)
+ * long[(columns + 63) / 64] per row, one bit per cell (cell c is bit c % 64 of word c / 64)
+ * </pre>
+ * 
+ * It also converts grids from Life's text format (a "rows columns" header and
+ * then rows of space-separated 0s and 1s) to the binary format, one row at a
+ * time.
+ */
+public class BinaryGrid {
+	/** The first four bytes of every binary grid, "LIFE" in ASCII. */
+	static final int MAGIC = 0x4546494C;
+	/** The version of the binary format. */
+	static final int VERSION = 1;
+	/** The size of the header, in bytes. */
+	static final int HEADER_SIZE = 24;
+	/** The most bytes of rows mapped at once. */
+	static final long MAX_MAP = 1L << 30;
+
+	/**
+	 * This class holds the header of a binary grid.
+	 */
+	static final class Header {
+		/** The number of rows in the grid. */
+		final int rows;
+		/** The number of columns in the grid. */
+		final int columns;
+		/** The generation the grid is at. */
+		final long generation;
+
+		/**
+		 * This is the constructor, which sets all the fields.
+		 * 
+		 * @param rows       The number of rows in the grid.
+		 * @param columns    The number of columns in the grid.
+		 * @param generation The generation the grid is at.
+		 */
+		Header(int rows, int columns, long generation) {
+			this.rows = rows;
+			this.columns = columns;
+			this.generation = generation;
+		}
+	}
+
+	/**
+	 * This checks whether the file at the given path starts with the binary grid
+	 * magic number.
+	 * 
+	 * @param path The path of the file.
+	 * @return true if the file is a binary grid, false otherwise.
+	 * @throws IOException If the file cannot be read, an IOException is thrown.
+	 */
+	public static boolean isBinary(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			ByteBuffer magic = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+			while (magic.hasRemaining() && channel.read(magic) >= 0)
+				;
+			return !magic.hasRemaining() && magic.getInt(0) == MAGIC;
+		} catch (NoSuchFileException e) {
+			throw new FileNotFoundException("This file was not found or could not be properly accessed.");
+		}
+	}
+
+	/**
+	 * This reads and checks the header of the binary grid at the given path.
+	 * 
+	 * @param path The path of the binary grid.
+	 * @return The header of the grid.
+	 * @throws IOException If the file cannot be read or is not a valid binary
+	 *                     grid, an IOException is thrown.
+	 */
+	public static Header readHeader(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			return readHeader(channel);
+		}
+	}
+
+	/**
+	 * This reads and checks the header of the binary grid on the given channel.
+	 * 
+	 * @param channel The channel of the binary grid.
+	 * @return The header of the grid.
+	 * @throws IOException If the file is not a valid binary grid, an IOException
+	 *                     is thrown.
+	 */
+	private static Header readHeader(FileChannel channel) throws IOException {
+		if (channel.size() < HEADER_SIZE)
+			throw new IOException("This file is too short to be a binary grid.");
+		ByteBuffer header = channel.map(MapMode.READ_ONLY, 0, HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION)
+			throw new IOException("This file is not a version " + VERSION + " binary grid.");
+		int rows = header.getInt(8);
+		int columns = header.getInt(12);
+		if (rows < 1 || columns < 1)
+			throw new IOException("The binary grid must have at least 1 row and 1 column.");
+		if (channel.size() < HEADER_SIZE + (long) rows * rowBytes(columns))
+			throw new IOException("This binary grid is shorter than its header says.");
+		return new Header(rows, columns, header.getLong(16));
+	}
+
+	/**
+	 * This returns the number of bytes used to store each row.
+	 * 
+	 * @param columns The number of columns in the grid.
+	 * @return The number of bytes in each row.
+	 */
+	static long rowBytes(int columns) {
+		return 8L * ((columns + 63) >>> 6);
+	}
+
+	/**
+	 * This loads the grid of the binary grid at the given path into the engine,
+	 * which must have the same number of rows and columns.
+	 * 
+	 * @param path   The path of the binary grid.
+	 * @param engine The engine to load the grid into.
+	 * @return The generation the grid is at.
+	 * @throws IOException If the file cannot be read or is not a valid binary
+	 *                     grid for the engine, an IOException is thrown.
+	 */
+	public static long load(Path path, LifeEngine engine) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			Header header = readHeader(channel);
+			if (header.rows != engine.getRows() || header.columns != engine.getColumns())
+				throw new IOException("The binary grid is not the same size as the engine.");
+			long[] words = new long[(header.columns + 63) >>> 6];
+			long rowBytes = rowBytes(header.columns);
+			int rowsPerMap = (int) Math.max(1, Math.min(header.rows, MAX_MAP / rowBytes));
+			for (int first = 0; first < header.rows; first += rowsPerMap) {
+				int count = Math.min(rowsPerMap, header.rows - first);
+				MappedByteBuffer map = channel.map(MapMode.READ_ONLY, HEADER_SIZE + first * rowBytes,
+						count * rowBytes);
+				LongBuffer longs = map.order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+				for (int row = first; row < first + count; row++) {
+					longs.get(words);
+					engine.setRow(row, words);
+				}
+			}
+			return header.generation;
+		}
+	}
+
+	/**
+	 * This saves the current generation of the engine to the given path as a
+	 * binary grid, replacing any file already there.
+	 * 
+	 * @param path       The path to save the binary grid to.
+	 * @param engine     The engine holding the grid to save.
+	 * @param generation The generation the grid is at.
+	 * @throws IOException If the file cannot be written, an IOException is
+	 *                     thrown.
+	 */
+	public static void save(Path path, LifeEngine engine, long generation) throws IOException {
+		save(path, engine.getRows(), engine.getColumns(), generation, (words, row) -> engine.getRow(row, words));
+	}
+
+	/**
+	 * This saves a grid to the given path as a binary grid, replacing any file
+	 * already there. The rows are taken from the given row source one at a time.
+	 * 
+	 * @param path       The path to save the binary grid to.
+	 * @param rows       The number of rows in the grid.
+	 * @param columns    The number of columns in the grid.
+	 * @param generation The generation the grid is at.
+	 * @param rowSource  The source that copies a row (the int) of the grid into
+	 *                   the given words.
+	 * @throws IOException If the file cannot be written, an IOException is
+	 *                     thrown.
+	 */
+	public static void save(Path path, int rows, int columns, long generation, ObjIntConsumer<long[]> rowSource)
+			throws IOException {
+		long[] words = new long[(columns + 63) >>> 6];
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			writeHeader(channel, rows, columns, generation);
+			long rowBytes = rowBytes(columns);
+			int rowsPerMap = (int) Math.max(1, Math.min(rows, MAX_MAP / rowBytes));
+			for (int first = 0; first < rows; first += rowsPerMap) {
+				int count = Math.min(rowsPerMap, rows - first);
+				MappedByteBuffer map = channel.map(MapMode.READ_WRITE, HEADER_SIZE + first * rowBytes,
+						count * rowBytes);
+				LongBuffer longs = map.order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+				for (int row = first; row < first + count; row++) {
+					rowSource.accept(words, row);
+					longs.put(words);
+				}
+				map.force();
+			}
+		}
+	}
+
+	/**
+	 * This writes the header of a binary grid to the start of the channel.
+	 * 
+	 * @param channel    The channel to write to.
+	 * @param rows       The number of rows in the grid.
+	 * @param columns    The number of columns in the grid.
+	 * @param generation The generation the grid is at.
+	 * @throws IOException If the header cannot be written, an IOException is
+	 *                     thrown.
+	 */
+	private static void writeHeader(FileChannel channel, int rows, int columns, long generation)
+			throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		header.putInt(MAGIC).putInt(VERSION).putInt(rows).putInt(columns).putLong(generation).flip();
+		while (header.hasRemaining())
+			channel.write(header, HEADER_SIZE - header.remaining());
+	}
+
+	/**
+	 * This converts a grid in Life's text format to a binary grid, one row at a
+	 * time, so the whole grid never has to be held in memory.
+	 * 
+	 * @param textPath   The path of the grid in the text format.
+	 * @param binaryPath The path to save the binary grid to.
+	 * @throws IOException If either file cannot be read/written or the text grid
+	 *                     is not valid, an IOException is thrown.
+	 */
+	public static void convert(Path textPath, Path binaryPath) throws IOException {
+		try (BufferedReader reader = Files.newBufferedReader(textPath, StandardCharsets.US_ASCII);
+				FileChannel channel = FileChannel.open(binaryPath, StandardOpenOption.CREATE,
+						StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			String[] size = reader.readLine().trim().split("\\s+");
+			int rows = Integer.parseInt(size[0]);
+			int columns = Integer.parseInt(size[1]);
+			if (rows < 1 || columns < 1)
+				throw new IOException("The grid must have at least 1 row and 1 column.");
+			writeHeader(channel, rows, columns, 0);
+			long[] words = new long[(columns + 63) >>> 6];
+			long rowBytes = rowBytes(columns);
+			int rowsPerMap = (int) Math.max(1, Math.min(rows, MAX_MAP / rowBytes));
+			for (int first = 0; first < rows; first += rowsPerMap) {
+				int count = Math.min(rowsPerMap, rows - first);
+				MappedByteBuffer map = channel.map(MapMode.READ_WRITE, HEADER_SIZE + first * rowBytes,
+						count * rowBytes);
+				LongBuffer longs = map.order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+				for (int row = first; row < first + count; row++) {
+					parseRow(reader.readLine(), columns, words);
+					longs.put(words);
+				}
+				map.force();
+			}
+		}
+	}
+
+	/**
+	 * This parses one row of the text format (space-separated 0s and 1s) into
+	 * packed words.
+	 * 
+	 * @param line    The line of text, or null if the file ended early.
+	 * @param columns The number of columns in the grid.
+	 * @param words   The words to pack the row into.
+	 * @throws IOException If the row is missing, too short, or has a value other
+	 *                     than 0 or 1, an IOException is thrown.
+	 */
+	private static void parseRow(String line, int columns, long[] words) throws IOException {
+		if (line == null)
+			throw new IOException("The text grid has fewer rows than its header says.");
+		Arrays.fill(words, 0);
+		int column = 0;
+		for (int i = 0; i < line.length() && column < columns; i++) {
+			char c = line.charAt(i);
+			if (c == '1')
+				words[column >>> 6] |= 1L << (column & 63);
+			else if (Character.isWhitespace(c))
+				continue;
+			else if (c != '0')
+				throw new IOException("The text grid can only have the values 0 or 1.");
+			column++;
+		}
+		if (column < columns)
+			throw new IOException("The text grid has a row with fewer than " + columns + " values.");
+	}
+
+	/**
+	 * The main method converts a grid from the text format to the binary format.
+	 * 
+	 * @param args The command-line arguments: the text grid's file name/path and
+	 *             the binary grid's file name/path.
+	 * @throws IOException              If either file cannot be read/written, an
+	 *                                  IOException is thrown.
+	 * @throws IllegalArgumentException If the command-line arguments are invalid,
+	 *                                  an IllegalArgumentException is thrown.
+	 */
+	public static void main(String[] args) throws IOException, IllegalArgumentException {
+		if (args.length != 2)
+			throw new IllegalArgumentException("The command line input should be in the format: "
+					+ "java edu.ncsu.csc246.main.BinaryGrid <text file name/path> <binary file name/path>.");
+		convert(Paths.get(args[0]), Paths.get(args[1]));
+	}
+}
@@ -0,0 +1,116 @@
+/**
+ * @file Cell.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the Cell class, which represents a cell in the grid.
+ * This program was developed via the Eclipse IDE for Developers.
+ * 
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> [options]
+ */
+package edu.ncsu.csc246.main;
+
+/**
+ * This class represents a cell in the grid for the game of life. It is separate
+ * so it can easily be changed and understood separate from the whole game. This
+ * class contains constructors, accessors, and modifiers for the Cell object.
+ */
+class Cell {
+	/** This is the integer value of whether the cell is alive(1) or dead(0). */
+	private int alive;
+	/**
+	 * This is the integer value of the number of neighbors(0-8) near the cell who
+	 * are alive.
+	 */
+	private int neighbors;
+
+	/**
+	 * This is the default constructor, which sets both the two fields above to 0.
+	 */
+	public Cell() {
+		this.setLife(0);
+		this.setNeighbors(0);
+	}
+
+	/**
+	 * This is the modified constructor, which sets both the neighbor field above to
+	 * 0 and uses an integer parameter (alive) to set the alive field.
+	 * 
+	 * @param alive This is an integer parameter of whether the cell is alive(1) or
+	 *              dead(0).
+	 */
+	public Cell(int alive) {
+		this.setNeighbors(0);
+		this.setLife(alive);
+	}
+
+	/**
+	 * This sets the integer neighbors alive field according to the parameter passed
+	 * in.
+	 * 
+	 * @param neighbors This is the integer parameter of the number of
+	 *                  neighbors(0-8) near the cell who are alive.
+	 * @throws IllegalArgumentException An IllegalArgumentException is thrown if the
+	 *                                  neighbors parameter, which represents the
+	 *                                  number of neighbors(0-8) near the cell who
+	 *                                  are alive, is not valid(0-8).
+	 */
+	public void setNeighbors(int neighbors) throws IllegalArgumentException {
+		if (neighbors < 0 || neighbors > 8)
+			throw new IllegalArgumentException("There can only be between 0 and 8 neighbors for a cell.");
+		this.neighbors = neighbors;
+	}
+
+	/**
+	 * This returns the integer value representing whether or not a cell is alive(1)
+	 * or dead(0).
+	 * 
+	 * @return alive: This is the integer value of whether the cell is alive(1) or
+	 *         dead(0).
+	 */
+	public int getLife() {
+		return alive;
+	}
+
+	/**
+	 * This adds a neighbor to the integer neighbors field, which represents the
+	 * number of neighbors(0-8) near the cell who are alive.
+	 */
+	public void addNeighbor() {
+		neighbors++;
+	}
+
+	/**
+	 * This gets the integer neighbors alive field, which represents the number of
+	 * neighbors(0-8) near the cell who are alive, according to the parameter passed
+	 * in.
+	 * 
+	 * @return neighbors: This is the integer value of the number of neighbors(8)
+	 *         near the cell who are alive.
+	 */
+	public int getNeighbors() {
+		return neighbors;
+	}
+
+	/**
+	 * This sets the integer value representing whether or not a cell is alive(1) or
+	 * dead(0)
+	 * 
+	 * @param alive This is the integer parameter of whether the cell is alive(1) or
+	 *              dead(0).
+	 * @throws IllegalArgumentException If the integer value for the alive
+	 *                                  parameter, which represents the value of
+	 *                                  whether the cell is alive(1) or dead(0), is
+	 *                                  not valid(0-1), an IllegalArgumentException
+	 *                                  is thrown.
+	 */
+	public void setLife(int alive) {
+		if (alive == 0 || alive == 1) {
+			this.alive = alive;
+		} else {
+			throw new IllegalArgumentException("The input alive value can only be 0 or 1.");
+		}
+	}
+}
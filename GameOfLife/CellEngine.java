@@ -0,0 +1,201 @@
+/**
+ * @file CellEngine.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the CellEngine class, the original grid backend made of Cell objects.
+ * This program was developed via the Eclipse IDE for Developers.
+ * 
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> [options]
+ */
+package edu.ncsu.csc246.main;
+
+import java.io.Closeable;
+
+/**
+ * This class is the original grid backend for the game, which stores a grid of
+ * Cell objects and uses CellRule to compute each generation. Two grids are
+ * created up front and swapped every generation (double-buffering), so no
+ * Cell objects or arrays are allocated while the game runs (test/CellEngineTest
+ * checks this by measuring the bytes every thread allocates around step()).
+ * A scheduler created for the engine alone is shut down when the engine is
+ * closed; a shared one (such as CellRule's) is left running.
+ */
+public class CellEngine implements LifeEngine, Closeable {
+	/** The number of rows in the grid. */
+	private final int rows;
+	/** The number of columns in the grid. */
+	private final int columns;
+	/** The grid for the current generation. */
+	private Cell[][] currGen;
+	/** The grid the next generation is saved to, swapped with currGen each step. */
+	private Cell[][] nextGen;
+	/** The scheduler that runs each generation across threads for CellRule. */
+	private final GenerationScheduler scheduler;
+	/** The rules of the game. */
+	private final LifeRule rule;
+	/** Whether the scheduler is shut down when the engine is closed. */
+	private final boolean ownsScheduler;
+
+	/**
+	 * This is the constructor, which creates both grids of dead cells of the given
+	 * size, checked by the pool of threads CellRule shares (one per core).
+	 * 
+	 * @param rows    The number of rows in the grid.
+	 * @param columns The number of columns in the grid.
+	 */
+	public CellEngine(int rows, int columns) {
+		this(rows, columns, CellRule.getScheduler());
+	}
+
+	/**
+	 * This is the constructor, which creates both grids of dead cells of the given
+	 * size, checked by the given scheduler.
+	 * 
+	 * @param rows      The number of rows in the grid.
+	 * @param columns   The number of columns in the grid.
+	 * @param scheduler The scheduler that runs each generation across threads
+	 *                  (such as a StripeScheduler or RowTaskScheduler).
+	 */
+	public CellEngine(int rows, int columns, GenerationScheduler scheduler) {
+		this(rows, columns, scheduler, LifeRule.CONWAY);
+	}
+
+	/**
+	 * This is the constructor, which creates both grids of dead cells of the given
+	 * size, checked by the given scheduler with the given rules.
+	 * 
+	 * @param rows      The number of rows in the grid.
+	 * @param columns   The number of columns in the grid.
+	 * @param scheduler The scheduler that runs each generation across threads
+	 *                  (such as a StripeScheduler or RowTaskScheduler).
+	 * @param rule      The rules of the game.
+	 */
+	public CellEngine(int rows, int columns, GenerationScheduler scheduler, LifeRule rule) {
+		this(rows, columns, scheduler, rule, false);
+	}
+
+	/**
+	 * This is the constructor, which creates both grids of dead cells of the given
+	 * size, checked by the given scheduler with the given rules, and shuts the
+	 * scheduler down when the engine is closed if it was created for this engine
+	 * alone.
+	 * 
+	 * @param rows          The number of rows in the grid.
+	 * @param columns       The number of columns in the grid.
+	 * @param scheduler     The scheduler that runs each generation across threads
+	 *                      (such as a StripeScheduler or RowTaskScheduler).
+	 * @param rule          The rules of the game.
+	 * @param ownsScheduler Whether the scheduler is shut down when the engine is
+	 *                      closed.
+	 */
+	public CellEngine(int rows, int columns, GenerationScheduler scheduler, LifeRule rule, boolean ownsScheduler) {
+		this.rows = rows;
+		this.columns = columns;
+		this.scheduler = scheduler;
+		this.rule = rule;
+		this.ownsScheduler = ownsScheduler;
+		currGen = newGrid();
+		nextGen = newGrid();
+	}
+
+	/**
+	 * This creates a grid of dead cells.
+	 * 
+	 * @return The new grid.
+	 */
+	private Cell[][] newGrid() {
+		Cell[][] grid = new Cell[rows][columns];
+		for (int i = 0; i < rows; i++)
+			for (int j = 0; j < columns; j++)
+				grid[i][j] = new Cell();
+		return grid;
+	}
+
+	/**
+	 * This returns the number of rows in the grid.
+	 * 
+	 * @return rows: The number of rows in the grid.
+	 */
+	@Override
+	public int getRows() {
+		return rows;
+	}
+
+	/**
+	 * This returns the number of columns in the grid.
+	 * 
+	 * @return columns: The number of columns in the grid.
+	 */
+	@Override
+	public int getColumns() {
+		return columns;
+	}
+
+	/**
+	 * This returns the rules the engine applies each generation.
+	 * 
+	 * @return rule: The rules of the game.
+	 */
+	@Override
+	public LifeRule getRule() {
+		return rule;
+	}
+
+	/**
+	 * This returns whether the cell at the given row and column is alive(1) or
+	 * dead(0) via Cell.
+	 * 
+	 * @param row    The row of the cell.
+	 * @param column The column of the cell.
+	 * @return 1 if the cell is alive, 0 if it is dead.
+	 */
+	@Override
+	public int getLife(int row, int column) {
+		return currGen[row][column].getLife();
+	}
+
+	/**
+	 * This sets whether the cell at the given row and column is alive(1) or
+	 * dead(0) via Cell.
+	 * 
+	 * @param row    The row of the cell.
+	 * @param column The column of the cell.
+	 * @param alive  1 if the cell is alive, 0 if it is dead.
+	 * @throws IllegalArgumentException If the alive value is not 0 or 1, an
+	 *                                  IllegalArgumentException is thrown.
+	 */
+	@Override
+	public void setLife(int row, int column, int alive) throws IllegalArgumentException {
+		currGen[row][column].setLife(alive);
+	}
+
+	/**
+	 * This advances the grid by one generation via CellRule (on the engine's pool
+	 * of threads), saving it to the other grid and then swapping the two grids.
+	 * Every cell of the other grid is overwritten, so it does not need to be
+	 * cleared first.
+	 * 
+	 * @throws InterruptedException If the thread waiting on CellRule is
+	 *                              interrupted, an InterruptedException is thrown.
+	 */
+	@Override
+	public void step() throws InterruptedException {
+		scheduler.runGeneration(currGen, nextGen, columns, rows, rule);
+		Cell[][] temp = currGen;
+		currGen = nextGen;
+		nextGen = temp;
+	}
+
+	/**
+	 * This stops the engine's scheduler, if it was created for this engine alone
+	 * (a shared scheduler is left running).
+	 */
+	@Override
+	public void close() {
+		if (ownsScheduler)
+			scheduler.shutdown();
+	}
+}
@@ -0,0 +1,159 @@
+/**
+ * @file CellRule.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the CellRule class, which checks and counts neighbors for the cells of the cell engine.
+ * This program was developed via the Eclipse IDE for Developers.
+ * 
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> [options]
+ */
+package edu.ncsu.csc246.main;
+
+/**
+ * This class checks and counts neighbors for all the cells, so that they can be
+ * transferred to the new generation. It also splits the grid into stripes of
+ * rows that are checked in parallel by a fixed pool of threads, so that an
+ * entire grid can be done simultaneously without a thread per cell.
+ */
+class CellRule {
+	/** The worker pool shared by every generation, created on first use. */
+	private static StripeScheduler scheduler;
+
+	/**
+	 * This function gets the number of neighbors for each cell, and saves the
+	 * future generation based on the number neighbors from arr (the current array)
+	 * to future generation's array.
+	 * 
+	 * @param currGen   The current array that will be checked for neighbors.
+	 * @param futureGen This array will keep track of the future generation.
+	 * @param columns   This is the number of columns for both arrays.
+	 * @param rows      This is the number of rows for both arrays.
+	 */
+	private static void countNeighbors(Cell[][] currGen, int row, int column, int rows, int columns) {
+		// Select the cell based on the passed row and column via the parameters.
+		Cell c = currGen[row][column];
+		c.setNeighbors(0); // Fail-safe to ensure the value is certain before logic is applied
+		// For all cells around the selected cell (passed via row/column in the
+		// parameters)
+		// Check if the cell is alive, if so add a neighbor to the current cell
+		for (int i = -1; i < 2; i++) {
+			for (int j = -1; j < 2; j++) {
+				if (i == 0 && j == 0)
+					continue; // don't check self
+				// Bounds checking and handling (the grid should wrap around)
+				if (row + i < 0) {
+					if (column + j < 0) {
+						if (currGen[rows - 1][columns - 1].getLife() == 1)
+							c.addNeighbor();
+					} else if (column + j >= columns) {
+						if (currGen[rows - 1][0].getLife() == 1)
+							c.addNeighbor();
+					} else {
+						if (currGen[rows - 1][column + j].getLife() == 1)
+							c.addNeighbor();
+					}
+					continue;
+				} else if (row + i >= rows) {
+					if (column + j < 0) {
+						if (currGen[0][columns - 1].getLife() == 1)
+							c.addNeighbor();
+					} else if (column + j >= columns) {
+						if (currGen[0][0].getLife() == 1)
+							c.addNeighbor();
+					} else {
+						if (currGen[0][column + j].getLife() == 1)
+							c.addNeighbor();
+					}
+					continue;
+				} else if (column + j < 0) {
+					if (currGen[row + i][columns - 1].getLife() == 1)
+						c.addNeighbor();
+					continue;
+				} else if (column + j >= columns) {
+					if (currGen[row + i][0].getLife() == 1)
+						c.addNeighbor();
+					continue;
+				}
+				// Normal case
+				if (currGen[row + i][column + j].getLife() == 1) {
+					c.addNeighbor();
+				}
+			}
+		}
+	}
+
+	/**
+	 * This method applies the rules of the game, looking up what the newCell
+	 * should be (alive(1) or dead(0)) from the oldCell's state and neighbors in
+	 * the rule's table instead of checking each rule with conditionals.
+	 * 
+	 * @param oldCell This is the oldCell to check against from the current
+	 *                generation.
+	 * @param newCell This is the newCell to decide for from the next generation.
+	 * @param rule    The rules of the game.
+	 */
+	private static void checkNeighbors(Cell oldCell, Cell newCell, LifeRule rule) {
+		newCell.setLife(rule.next(oldCell.getLife(), oldCell.getNeighbors()));
+	}
+
+	/**
+	 * This method applies the two other methods in the class to every cell in the
+	 * rows [fromRow, toRow) of the current generation's grid, saving the result to
+	 * the same rows of the future generation's grid. Each stripe of rows only
+	 * writes to its own cells, so separate stripes can be checked in parallel.
+	 * 
+	 * @param currGen   The current generation's grid to look for neighbors/apply
+	 *                  rules off of.
+	 * @param futureGen The future generation's grid to save the next generation to.
+	 * @param fromRow   The first row (inclusive) of the stripe.
+	 * @param toRow     The last row (exclusive) of the stripe.
+	 * @param columns   The number of columns in both grids.
+	 * @param rows      The number of rows in both grids.
+	 * @param rule      The rules of the game.
+	 */
+	static void checkStripe(Cell[][] currGen, Cell[][] futureGen, int fromRow, int toRow, int columns, int rows,
+			LifeRule rule) {
+		for (int row = fromRow; row < toRow; row++) {
+			for (int column = 0; column < columns; column++) {
+				countNeighbors(currGen, row, column, rows, columns);
+				checkNeighbors(currGen[row][column], futureGen[row][column], rule);
+			}
+		}
+	}
+
+	/**
+	 * This method implements the two other methods in the class via a fixed pool of
+	 * worker threads (one per available core), each of which checks a stripe of
+	 * rows in the current generation's grid with Conway's rules. The pool is created once and reused
+	 * for every generation, and this method only returns once every stripe is done.
+	 * 
+	 * @param currGen   The current generation's grid to use to continue the game
+	 *                  (to look for neighbors/apply rules off of).
+	 * @param futureGen The future generation's grid to use to save the next
+	 *                  generation as a result from applying all the rules of the
+	 *                  game.
+	 * @param columns   The number of columns in both grids.
+	 * @param rows      The number of rows in both grids.
+	 * @throws InterruptedException If the thread waiting on the stripes is
+	 *                              interrupted, an InterruptedException is thrown.
+	 */
+	public static void checkCells(Cell[][] currGen, Cell[][] futureGen, int columns, int rows)
+			throws InterruptedException {
+		getScheduler().runGeneration(currGen, futureGen, columns, rows);
+	}
+
+	/**
+	 * This method lazily creates the shared StripeScheduler, sized to the number of
+	 * available processors, so the worker threads are only started once.
+	 * 
+	 * @return The StripeScheduler shared by all calls to checkCells.
+	 */
+	static synchronized StripeScheduler getScheduler() {
+		if (scheduler == null)
+			scheduler = new StripeScheduler(Runtime.getRuntime().availableProcessors());
+		return scheduler;
+	}
+}
@@ -0,0 +1,281 @@
+/**
+ * @file CellTable.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the CellTable class, an open-addressing hash table of cell coordinates used by SparseEngine.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> --engine sparse
+ */
+package edu.ncsu.csc246.main;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class is a hash table of cell coordinates, each packed into a long (the
+ * row in the high 32 bits, the column in the low 32 bits), with a small count
+ * for each cell. It uses open addressing with linear probing over plain
+ * arrays, so no objects are created per cell, and it doubles in size when it
+ * is half full. Clearing a table that was less than 1/16 full shrinks it back
+ * to four times what it held, so walking its slots (as SparseEngine does every
+ * generation) costs time in proportion to the population rather than the
+ * largest population the table ever held. It is used both as a set of live
+ * cells (ignoring the counts) and to count the live neighbors of cells. Every
+ * table hashes with its own seed, since walking one table in slot order while
+ * filling another with the same hash would fill the second table's slots in
+ * order too, building long probe runs.
+ */
+class CellTable {
+	/** The key marking an empty slot (row -2^31, column -2^31, which is never used). */
+	static final long EMPTY = 0x8000000080000000L;
+	/** The step between the seeds of tables (2^64 / the golden ratio). */
+	private static final long GAMMA = 0x9E3779B97F4A7C15L;
+	/** The seed of the last table created. */
+	private static final AtomicLong SEEDS = new AtomicLong();
+
+	/** The seed this table mixes into every key's hash. */
+	private final long seed = SEEDS.addAndGet(GAMMA);
+	/** The keys in each slot, or EMPTY. */
+	private long[] keys;
+	/** The count for the key in each slot. */
+	private byte[] counts;
+	/** The number of keys in the table. */
+	private int size;
+	/** The log base 2 of the number of slots. */
+	private int bits;
+
+	/**
+	 * This is the constructor, which creates an empty table.
+	 */
+	CellTable() {
+		bits = 6;
+		keys = new long[1 << bits];
+		counts = new byte[1 << bits];
+		Arrays.fill(keys, EMPTY);
+	}
+
+	/**
+	 * This packs a cell's row and column into a key.
+	 *
+	 * @param row    The row of the cell.
+	 * @param column The column of the cell.
+	 * @return The key for the cell.
+	 */
+	static long key(int row, int column) {
+		return ((long) row << 32) | (column & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * This returns the row of the cell with the given key.
+	 *
+	 * @param key The key for the cell.
+	 * @return The row of the cell.
+	 */
+	static int row(long key) {
+		return (int) (key >> 32);
+	}
+
+	/**
+	 * This returns the column of the cell with the given key.
+	 *
+	 * @param key The key for the cell.
+	 * @return The column of the cell.
+	 */
+	static int column(long key) {
+		return (int) key;
+	}
+
+	/**
+	 * This returns the number of keys in the table.
+	 *
+	 * @return size: The number of keys in the table.
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * This returns the number of slots in the table, for walking over it with
+	 * keyAt and countAt.
+	 *
+	 * @return The number of slots.
+	 */
+	int capacity() {
+		return keys.length;
+	}
+
+	/**
+	 * This returns the key in the given slot.
+	 *
+	 * @param slot The slot.
+	 * @return The key, or EMPTY if the slot is empty.
+	 */
+	long keyAt(int slot) {
+		return keys[slot];
+	}
+
+	/**
+	 * This returns the count in the given slot.
+	 *
+	 * @param slot The slot.
+	 * @return The count for the slot's key.
+	 */
+	int countAt(int slot) {
+		return counts[slot];
+	}
+
+	/**
+	 * This returns the slot the given key starts probing from.
+	 *
+	 * @param key The key.
+	 * @return The key's home slot.
+	 */
+	private int home(long key) {
+		long h = key ^ seed;
+		h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+		h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+		return (int) ((h ^ (h >>> 33)) >>> (64 - bits));
+	}
+
+	/**
+	 * This returns the slot holding the given key, or the empty slot where it
+	 * would go.
+	 *
+	 * @param key The key.
+	 * @return The slot for the key.
+	 */
+	private int find(long key) {
+		int mask = keys.length - 1;
+		int slot = home(key);
+		while (keys[slot] != EMPTY && keys[slot] != key)
+			slot = (slot + 1) & mask;
+		return slot;
+	}
+
+	/**
+	 * This checks whether the table holds the given key.
+	 *
+	 * @param key The key.
+	 * @return true if the key is in the table, false otherwise.
+	 */
+	boolean contains(long key) {
+		return keys[find(key)] == key;
+	}
+
+	/**
+	 * This adds the given key (with a count of 0) if it is not in the table yet.
+	 *
+	 * @param key The key.
+	 */
+	void add(long key) {
+		int slot = find(key);
+		if (keys[slot] == EMPTY)
+			insert(slot, key);
+	}
+
+	/**
+	 * This adds one to the count of the given key, adding the key first if it is
+	 * not in the table yet.
+	 *
+	 * @param key The key.
+	 */
+	void increment(long key) {
+		int slot = find(key);
+		if (keys[slot] == EMPTY)
+			slot = insert(slot, key);
+		counts[slot]++;
+	}
+
+	/**
+	 * This puts a new key in the given empty slot, growing the table if it is now
+	 * half full.
+	 *
+	 * @param slot The empty slot found for the key.
+	 * @param key  The key.
+	 * @return The slot the key ends up in.
+	 */
+	private int insert(int slot, long key) {
+		keys[slot] = key;
+		counts[slot] = 0;
+		if (++size * 2 <= keys.length)
+			return slot;
+		grow();
+		return find(key);
+	}
+
+	/**
+	 * This removes the given key, if it is in the table, moving back any keys
+	 * after it that probed past its slot so that they can still be found.
+	 *
+	 * @param key The key.
+	 */
+	void remove(long key) {
+		int mask = keys.length - 1;
+		int slot = find(key);
+		if (keys[slot] == EMPTY)
+			return;
+		size--;
+		int next = slot;
+		while (true) {
+			next = (next + 1) & mask;
+			long moved = keys[next];
+			if (moved == EMPTY)
+				break;
+			// A key can move back into the gap only if its home is not between the gap and it
+			int home = home(moved);
+			if (((next - home) & mask) >= ((next - slot) & mask)) {
+				keys[slot] = moved;
+				counts[slot] = counts[next];
+				slot = next;
+			}
+		}
+		keys[slot] = EMPTY;
+		counts[slot] = 0;
+	}
+
+	/**
+	 * This removes every key. The table keeps its size unless it was less than
+	 * 1/16 full, in which case it shrinks to four times the number of keys it
+	 * held (expecting to be filled with about as many again).
+	 */
+	void clear() {
+		int wanted = 6;
+		while ((1 << wanted) < size * 4)
+			wanted++;
+		if (wanted < bits - 1) {
+			bits = wanted;
+			keys = new long[1 << bits];
+			counts = new byte[1 << bits];
+		} else {
+			Arrays.fill(counts, (byte) 0);
+		}
+		Arrays.fill(keys, EMPTY);
+		size = 0;
+	}
+
+	/**
+	 * This doubles the number of slots, putting every key back in.
+	 */
+	private void grow() {
+		long[] oldKeys = keys;
+		byte[] oldCounts = counts;
+		bits++;
+		keys = new long[1 << bits];
+		counts = new byte[1 << bits];
+		Arrays.fill(keys, EMPTY);
+		int mask = keys.length - 1;
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] == EMPTY)
+				continue;
+			int slot = home(oldKeys[i]);
+			while (keys[slot] != EMPTY)
+				slot = (slot + 1) & mask;
+			keys[slot] = oldKeys[i];
+			counts[slot] = oldCounts[i];
+		}
+	}
+}
@@ -0,0 +1,171 @@
+/**
+ * @file ChannelSink.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the ChannelSink class, the buffered base for Life's output formats.
+ * This program was developed via the Eclipse IDE for Developers.
+ * 
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> [options]
+ */
+package edu.ncsu.csc246.main;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * This class is the base for output formats that render each generation as
+ * ASCII text into one reusable buffer, which is written to a channel only when
+ * it fills up (or the sink is flushed/closed). This replaces printing every
+ * cell separately to an auto-flushing System.out. When writing to the console,
+ * the buffer is also written out at the end of every generation, so a long run
+ * shows each generation as soon as it is rendered.
+ */
+public abstract class ChannelSink implements GenerationSink {
+	/** The size of the output buffer, in bytes. */
+	static final int BUFFER_SIZE = 1 << 16;
+
+	/** The channel the output is written to. */
+	private final WritableByteChannel channel;
+	/** Whether closing the sink should close the channel. */
+	private final boolean closeChannel;
+	/** Whether the buffer is written out at the end of every generation. */
+	private final boolean flushEachGeneration;
+	/** The reusable output buffer. */
+	private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+	/** The reusable buffer for the digits of a number. */
+	private final byte[] digits = new byte[20];
+
+	/**
+	 * This is the constructor, which writes to the given channel.
+	 * 
+	 * @param channel      The channel to write to.
+	 * @param closeChannel Whether closing the sink should close the channel.
+	 */
+	protected ChannelSink(WritableByteChannel channel, boolean closeChannel) {
+		this(channel, closeChannel, false);
+	}
+
+	/**
+	 * This is the constructor, which writes to the given channel, and writes out
+	 * the buffer at the end of every generation if asked to.
+	 * 
+	 * @param channel             The channel to write to.
+	 * @param closeChannel        Whether closing the sink should close the
+	 *                            channel.
+	 * @param flushEachGeneration Whether the buffer is written out at the end of
+	 *                            every generation (for the console).
+	 */
+	protected ChannelSink(WritableByteChannel channel, boolean closeChannel, boolean flushEachGeneration) {
+		this.channel = channel;
+		this.closeChannel = closeChannel;
+		this.flushEachGeneration = flushEachGeneration;
+	}
+
+	/**
+	 * This returns a channel to the standard output, which is written to directly
+	 * rather than through System.out.
+	 * 
+	 * @return The channel to the standard output.
+	 */
+	static WritableByteChannel standardOutput() {
+		return new FileOutputStream(FileDescriptor.out).getChannel();
+	}
+
+	/**
+	 * This adds one byte to the output.
+	 * 
+	 * @param b The byte to add.
+	 * @throws IOException If the buffer cannot be written, an IOException is
+	 *                     thrown.
+	 */
+	protected void put(byte b) throws IOException {
+		if (!buffer.hasRemaining())
+			drain();
+		buffer.put(b);
+	}
+
+	/**
+	 * This adds the given (ASCII) text to the output.
+	 * 
+	 * @param text The text to add.
+	 * @throws IOException If the buffer cannot be written, an IOException is
+	 *                     thrown.
+	 */
+	protected void put(String text) throws IOException {
+		for (int i = 0; i < text.length(); i++)
+			put((byte) text.charAt(i));
+	}
+
+	/**
+	 * This adds the given number (0 or more) to the output in decimal, without
+	 * creating a String for it.
+	 * 
+	 * @param number The number to add.
+	 * @throws IOException If the buffer cannot be written, an IOException is
+	 *                     thrown.
+	 */
+	protected void putNumber(long number) throws IOException {
+		int length = 0;
+		do {
+			digits[length++] = (byte) ('0' + number % 10);
+			number /= 10;
+		} while (number > 0);
+		while (length > 0)
+			put(digits[--length]);
+	}
+
+	/**
+	 * This writes everything in the buffer to the channel.
+	 * 
+	 * @throws IOException If the buffer cannot be written, an IOException is
+	 *                     thrown.
+	 */
+	private void drain() throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining())
+			channel.write(buffer);
+		buffer.clear();
+	}
+
+	/**
+	 * This marks the end of a generation's output, writing out the buffer if the
+	 * sink writes out every generation.
+	 * 
+	 * @throws IOException If the buffer cannot be written, an IOException is
+	 *                     thrown.
+	 */
+	protected void endGeneration() throws IOException {
+		if (flushEachGeneration)
+			drain();
+	}
+
+	/**
+	 * This writes everything in the buffer to the channel, so it can be seen.
+	 * 
+	 * @throws IOException If the buffer cannot be written, an IOException is
+	 *                     thrown.
+	 */
+	public void flush() throws IOException {
+		drain();
+	}
+
+	/**
+	 * This writes everything in the buffer to the channel, then closes the
+	 * channel if the sink owns it.
+	 * 
+	 * @throws IOException If the buffer cannot be written or the channel cannot
+	 *                     be closed, an IOException is thrown.
+	 */
+	@Override
+	public void close() throws IOException {
+		drain();
+		if (closeChannel)
+			channel.close();
+	}
+}
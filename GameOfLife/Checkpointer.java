@@ -0,0 +1,227 @@
+/**
+ * @file Checkpointer.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the Checkpointer class, which periodically saves snapshots of a running game.
+ * This program was developed via the Eclipse IDE for Developers.
+ * 
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> [options]
+ */
+package edu.ncsu.csc246.main;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * This class saves a snapshot of the game (as a binary grid, with its
+ * generation) every so many generations, so a long run can be resumed from the
+ * latest snapshot after a crash. Taking a snapshot only copies the packed rows
+ * of the grid into a spare buffer and queues it; a background thread writes
+ * queued snapshots to disk while the game keeps running. If a snapshot is
+ * still queued when a newer one is taken, the older one is dropped, so the game
+ * never waits on the disk and the newest snapshot is always the next written.
+ * Each snapshot is written to a temporary file first and then moved over the
+ * checkpoint file, so the checkpoint file is always a complete snapshot.
+ */
+public class Checkpointer implements Closeable {
+	/** The path of the checkpoint file. */
+	private final Path path;
+	/** The path of the temporary file each snapshot is written to first. */
+	private final Path tempPath;
+	/** The number of generations between snapshots. */
+	private final long every;
+	/** The background thread that writes snapshots to disk. */
+	private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+		Thread t = new Thread(r, "life-checkpoint");
+		t.setDaemon(true);
+		return t;
+	});
+	/** The buffer the next snapshot is copied into, only used by the game. */
+	private long[][] spare;
+	/** The newest snapshot waiting to be written, or null if there is none. */
+	private long[][] queued;
+	/** The generation of the queued snapshot. */
+	private long queuedGeneration;
+	/** Whether the background thread is writing (or about to write) snapshots. */
+	private boolean writing;
+	/** The last written snapshot's buffer, handed back for reuse. */
+	private long[][] returned;
+	/** The first failure of the background thread, or null if there is none. */
+	private IOException failure;
+	/** The number of rows in the grid. */
+	private int rows;
+	/** The number of columns in the grid. */
+	private int columns;
+	/** The number of snapshots taken. */
+	private long taken;
+	/** The number of snapshots written to disk. */
+	private long written;
+	/** The number of snapshots dropped because a newer one was taken first. */
+	private long dropped;
+
+	/**
+	 * This is the constructor, which saves to the given file every so many
+	 * generations.
+	 * 
+	 * @param fileName The file name/path of the checkpoint file.
+	 * @param every    The number of generations between snapshots.
+	 * @throws IllegalArgumentException If the number of generations is not
+	 *                                  positive, an IllegalArgumentException is
+	 *                                  thrown.
+	 */
+	public Checkpointer(String fileName, long every) throws IllegalArgumentException {
+		if (every < 1)
+			throw new IllegalArgumentException("There must be at least 1 generation between checkpoints.");
+		this.path = Paths.get(fileName);
+		this.tempPath = Paths.get(fileName + ".tmp");
+		this.every = every;
+	}
+
+	/**
+	 * This returns the next generation after the given one that a snapshot is due
+	 * at.
+	 * 
+	 * @param generation The current generation.
+	 * @return The next generation a snapshot is due at.
+	 */
+	public long nextCheckpoint(long generation) {
+		return (generation / every + 1) * every;
+	}
+
+	/**
+	 * This takes a snapshot of the engine's grid if one is due at the given
+	 * generation, copying the grid and queueing it for the background thread.
+	 * 
+	 * @param engine     The engine holding the grid.
+	 * @param generation The generation the grid is at.
+	 * @throws IOException If an earlier snapshot could not be written, an
+	 *                     IOException is thrown.
+	 */
+	public void checkpoint(LifeEngine engine, long generation) throws IOException {
+		if (generation % every != 0)
+			return;
+		rows = engine.getRows();
+		columns = engine.getColumns();
+		synchronized (this) {
+			if (failure != null)
+				throw failure;
+			if (spare == null) {
+				spare = returned;
+				returned = null;
+			}
+		}
+		if (spare == null)
+			spare = new long[rows][(columns + 63) >>> 6];
+		for (int row = 0; row < rows; row++)
+			engine.getRow(row, spare[row]);
+		taken++;
+		synchronized (this) {
+			long[][] older = queued;
+			queued = spare;
+			queuedGeneration = generation;
+			spare = older;
+			if (older != null)
+				dropped++;
+			if (!writing) {
+				writing = true;
+				writer.execute(this::drain);
+			}
+		}
+	}
+
+	/**
+	 * This is run by the background thread: it writes queued snapshots, newest
+	 * first, until there are none left.
+	 */
+	private void drain() {
+		while (true) {
+			long[][] grid;
+			long generation;
+			synchronized (this) {
+				if (queued == null) {
+					writing = false;
+					notifyAll();
+					return;
+				}
+				grid = queued;
+				generation = queuedGeneration;
+				queued = null;
+			}
+			try {
+				BinaryGrid.save(tempPath, rows, columns, generation,
+						(words, row) -> System.arraycopy(grid[row], 0, words, 0, words.length));
+				Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (IOException e) {
+				synchronized (this) {
+					if (failure == null)
+						failure = new IOException("The checkpoint could not be written to " + path + ".", e);
+				}
+			}
+			synchronized (this) {
+				written++;
+				returned = grid;
+			}
+		}
+	}
+
+	/**
+	 * This returns the number of snapshots taken so far.
+	 * 
+	 * @return taken: The number of snapshots taken.
+	 */
+	public long getTaken() {
+		return taken;
+	}
+
+	/**
+	 * This returns the number of snapshots written to disk so far.
+	 * 
+	 * @return written: The number of snapshots written.
+	 */
+	public synchronized long getWritten() {
+		return written;
+	}
+
+	/**
+	 * This returns the number of snapshots dropped because a newer snapshot was
+	 * taken before they could be written.
+	 * 
+	 * @return dropped: The number of snapshots dropped.
+	 */
+	public synchronized long getDropped() {
+		return dropped;
+	}
+
+	/**
+	 * This waits for the queued snapshots to be written and stops the background
+	 * thread.
+	 * 
+	 * @throws IOException If a snapshot could not be written (or the wait was
+	 *                     interrupted), an IOException is thrown.
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			synchronized (this) {
+				while (writing)
+					wait();
+				if (failure != null)
+					throw failure;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("The checkpoint was interrupted while being written to " + path + ".");
+		} finally {
+			writer.shutdown();
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/**
+ * @file ConsoleMetricsReporter.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the ConsoleMetricsReporter class, which prints a summary of the game's metrics when it ends.
+ * This program was developed via the Eclipse IDE for Developers.
+ * 
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> --metrics console
+ */
+package edu.ncsu.csc246.main;
+
+import java.io.PrintStream;
+
+/**
+ * This class totals the game's metrics as they are recorded, and prints a
+ * summary of them when it is closed: the time spent in each phase (in total
+ * and per generation), the final population, the cells born and died, the
+ * bytes allocated, and the most threads seen. The summary is printed to the
+ * error stream so it never mixes with a grid printed to the console.
+ */
+public class ConsoleMetricsReporter implements MetricsReporter {
+	/** The stream the summary is printed to. */
+	private final PrintStream out;
+	/** The total nanoseconds spent in each phase. */
+	private final long[] nanos = new long[LifeMetrics.Phase.values().length];
+	/** The number of records. */
+	private long records;
+	/** The total number of generations advanced. */
+	private long generations;
+	/** The generation of the last record. */
+	private long lastGeneration;
+	/** The population of the last record. */
+	private long population;
+	/** The total number of cells born, or -1 once it is not known. */
+	private long births;
+	/** The total number of cells that died, or -1 once it is not known. */
+	private long deaths;
+	/** The total bytes allocated, or -1 once it is not known. */
+	private long allocatedBytes;
+	/** The most live threads seen. */
+	private int maxThreads;
+
+	/**
+	 * This is the constructor, which creates a reporter that prints its summary
+	 * to the error stream.
+	 */
+	public ConsoleMetricsReporter() {
+		this(System.err);
+	}
+
+	/**
+	 * This is the modified constructor, which creates a reporter that prints its
+	 * summary to the given stream.
+	 * 
+	 * @param out The stream to print the summary to.
+	 */
+	public ConsoleMetricsReporter(PrintStream out) {
+		this.out = out;
+	}
+
+	/**
+	 * This adds one record of the game's metrics to the totals. Totals of births,
+	 * deaths, or bytes allocated become unknown (-1) once any record does not
+	 * know them, except for the first record, which has nothing to compare with.
+	 * 
+	 * @param metrics The metrics recorded.
+	 */
+	@Override
+	public void report(LifeMetrics metrics) {
+		for (LifeMetrics.Phase phase : LifeMetrics.Phase.values())
+			nanos[phase.ordinal()] += metrics.getNanos(phase);
+		if (records > 0) {
+			births = add(births, metrics.getBirths());
+			deaths = add(deaths, metrics.getDeaths());
+		}
+		allocatedBytes = add(allocatedBytes, metrics.getAllocatedBytes());
+		records++;
+		generations += metrics.getAdvanced();
+		lastGeneration = metrics.getGeneration();
+		population = metrics.getPopulation();
+		maxThreads = Math.max(maxThreads, metrics.getThreads());
+	}
+
+	/**
+	 * This adds a value to a total, where -1 means not known.
+	 * 
+	 * @param total The total.
+	 * @param value The value to add.
+	 * @return The new total, or -1 if either is not known.
+	 */
+	private static long add(long total, long value) {
+		return total < 0 || value < 0 ? -1 : total + value;
+	}
+
+	/**
+	 * This prints the summary of every record.
+	 */
+	@Override
+	public void close() {
+		out.println("Metrics: " + records + " records, " + generations + " generations advanced (to generation "
+				+ lastGeneration + ").");
+		for (LifeMetrics.Phase phase : LifeMetrics.Phase.values()) {
+			long total = nanos[phase.ordinal()];
+			// Loading only happens once, so it is not averaged
+			String perGeneration = generations > 0 && phase != LifeMetrics.Phase.LOAD
+					? ", " + (total / generations) + " ns per generation"
+					: "";
+			out.println("  " + phase.name().toLowerCase() + ": " + total + " ns" + perGeneration);
+		}
+		out.println("  population: " + population);
+		out.println("  births: " + known(births) + ", deaths: " + known(deaths));
+		out.println("  allocated: " + known(allocatedBytes) + " bytes, threads: " + maxThreads);
+		out.flush();
+	}
+
+	/**
+	 * This formats a total that might not be known.
+	 * 
+	 * @param total The total, or -1 if it is not known.
+	 * @return The total, or "unknown".
+	 */
+	private static String known(long total) {
+		return total < 0 ? "unknown" : "" + total;
+	}
+}
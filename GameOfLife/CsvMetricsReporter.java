@@ -0,0 +1,81 @@
+/**
+ * @file CsvMetricsReporter.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the CsvMetricsReporter class, which writes the game's metrics to a CSV file.
+ * This program was developed via the Eclipse IDE for Developers.
+ * 
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> --metrics csv [--metrics-file <file name/path>]
+ */
+package edu.ncsu.csc246.main;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * This class writes each record of the game's metrics as a line of a CSV file,
+ * under a header line naming the columns. Births, deaths, and bytes allocated
+ * are -1 when they are not known. The file is buffered, so writing a line
+ * costs about as much as formatting it.
+ */
+public class CsvMetricsReporter implements MetricsReporter {
+	/** The header line naming the columns. */
+	static final String HEADER = "generation,generations,population,births,deaths,load_ns,step_ns,checkpoint_ns,"
+			+ "cycles_ns,output_ns,allocated_bytes,threads";
+
+	/** The writer for the file. */
+	private final BufferedWriter writer;
+	/** The builder each line is formatted in. */
+	private final StringBuilder line = new StringBuilder();
+
+	/**
+	 * This is the constructor, which creates (or replaces) the given file and
+	 * writes the header line to it.
+	 * 
+	 * @param path The path of the CSV file.
+	 * @throws IOException If the file cannot be written, an IOException is
+	 *                     thrown.
+	 */
+	public CsvMetricsReporter(Path path) throws IOException {
+		writer = Files.newBufferedWriter(path, StandardCharsets.US_ASCII);
+		writer.write(HEADER);
+		writer.newLine();
+	}
+
+	/**
+	 * This writes one record of the game's metrics as a line of the file.
+	 * 
+	 * @param metrics The metrics recorded.
+	 * @throws IOException If the line cannot be written, an IOException is
+	 *                     thrown.
+	 */
+	@Override
+	public void report(LifeMetrics metrics) throws IOException {
+		line.setLength(0);
+		line.append(metrics.getGeneration()).append(',').append(metrics.getAdvanced()).append(',')
+				.append(metrics.getPopulation()).append(',').append(metrics.getBirths()).append(',')
+				.append(metrics.getDeaths());
+		for (LifeMetrics.Phase phase : LifeMetrics.Phase.values())
+			line.append(',').append(metrics.getNanos(phase));
+		line.append(',').append(metrics.getAllocatedBytes()).append(',').append(metrics.getThreads());
+		writer.append(line);
+		writer.newLine();
+	}
+
+	/**
+	 * This flushes and closes the file.
+	 * 
+	 * @throws IOException If the file cannot be closed, an IOException is
+	 *                     thrown.
+	 */
+	@Override
+	public void close() throws IOException {
+		writer.close();
+	}
+}
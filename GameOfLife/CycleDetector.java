@@ -0,0 +1,181 @@
+/**
+ * @file CycleDetector.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the CycleDetector class, which detects when a game settles into a still life or oscillator.
+ * This program was developed via the Eclipse IDE for Developers.
+ * 
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> [options]
+ */
+package edu.ncsu.csc246.main;
+
+import java.util.Arrays;
+
+/**
+ * This class detects when a game repeats an earlier generation, which means it
+ * has settled into a still life (period 1) or an oscillator (period p) and will
+ * repeat forever. Each generation is summarized by a Zobrist-style hash: the
+ * XOR of a fixed random key for every live cell. The hash is updated only for
+ * the cells that changed since the last generation (found by comparing packed
+ * rows 64 cells at a time), and the hashes of the last few generations are kept
+ * in a bounded window. A generation whose hash is in the window is only a
+ * candidate repeat, since different grids can share a hash: the grid is copied,
+ * and the cycle is reported only if the game is back at exactly that grid one
+ * period later. A false match is dropped and the game carries on, so a cycle is
+ * reported one period after it is first seen, starting at the earlier
+ * generation whose hash was matched.
+ */
+public class CycleDetector {
+	/** The number of rows in the grid. */
+	private final int rows;
+	/** The number of columns in the grid. */
+	private final int columns;
+	/** The packed rows of the last generation seen. */
+	private final long[][] previous;
+	/** The buffer the current generation's rows are copied into. */
+	private final long[] current;
+	/** The hashes of the last generations seen, in a circular buffer. */
+	private final long[] hashes;
+	/** The generation of each hash in the window. */
+	private final long[] generations;
+	/** The number of hashes in the window. */
+	private int size;
+	/** The index in the window the next hash is saved to. */
+	private int next;
+	/** The hash of the last generation seen. */
+	private long hash;
+	/** The period of the detected cycle, or 0 if none has been detected. */
+	private long period;
+	/** The first generation of the detected cycle, or -1 if none has been detected. */
+	private long start = -1;
+	/** The packed rows of the candidate repeat being confirmed, or null if there is none. */
+	private long[][] candidate;
+	/** The generation of the candidate repeat. */
+	private long candidateGeneration;
+	/** The period of the candidate repeat. */
+	private long candidatePeriod;
+
+	/**
+	 * This is the constructor, which detects cycles in a grid of the given size
+	 * with periods up to the given window.
+	 * 
+	 * @param rows    The number of rows in the grid.
+	 * @param columns The number of columns in the grid.
+	 * @param window  The number of past generations to remember (the longest
+	 *                period that can be detected).
+	 * @throws IllegalArgumentException If the window is not positive, an
+	 *                                  IllegalArgumentException is thrown.
+	 */
+	public CycleDetector(int rows, int columns, int window) throws IllegalArgumentException {
+		if (window < 1)
+			throw new IllegalArgumentException("The cycle window must remember at least 1 generation.");
+		this.rows = rows;
+		this.columns = columns;
+		previous = new long[rows][(columns + 63) >>> 6];
+		current = new long[(columns + 63) >>> 6];
+		hashes = new long[window];
+		generations = new long[window];
+	}
+
+	/**
+	 * This updates the hash with the engine's current generation and checks it
+	 * against the window of earlier generations, and checks the grid against the
+	 * candidate repeat once a period has gone by since it was seen.
+	 * 
+	 * @param engine     The engine holding the grid.
+	 * @param generation The generation the grid is at.
+	 * @return true if the game is back at exactly the grid of the candidate
+	 *         repeat (a cycle was detected), false otherwise.
+	 */
+	public boolean update(LifeEngine engine, long generation) {
+		for (int row = 0; row < rows; row++) {
+			engine.getRow(row, current);
+			long[] last = previous[row];
+			for (int w = 0; w < current.length; w++) {
+				long changed = current[w] ^ last[w];
+				while (changed != 0) {
+					int column = (w << 6) + Long.numberOfTrailingZeros(changed);
+					hash ^= key((long) row * columns + column);
+					changed &= changed - 1;
+				}
+				last[w] = current[w];
+			}
+		}
+		if (candidate != null && generation == candidateGeneration + candidatePeriod) {
+			if (sameGrid(candidate)) {
+				start = candidateGeneration - candidatePeriod;
+				period = candidatePeriod;
+				return true;
+			}
+			// Error Handling for a false match of the hashes
+			candidate = null;
+		}
+		if (candidate == null) {
+			for (int i = 0; i < size; i++) {
+				if (hashes[i] == hash) {
+					candidate = new long[rows][];
+					for (int row = 0; row < rows; row++)
+						candidate[row] = previous[row].clone();
+					candidateGeneration = generation;
+					candidatePeriod = generation - generations[i];
+					break;
+				}
+			}
+		}
+		hashes[next] = hash;
+		generations[next] = generation;
+		next = (next + 1) % hashes.length;
+		if (size < hashes.length)
+			size++;
+		return false;
+	}
+
+	/**
+	 * This checks whether the last generation seen is exactly the given grid.
+	 * 
+	 * @param grid The packed rows of the grid.
+	 * @return true if every row matches, false otherwise.
+	 */
+	private boolean sameGrid(long[][] grid) {
+		for (int row = 0; row < rows; row++)
+			if (!Arrays.equals(grid[row], previous[row]))
+				return false;
+		return true;
+	}
+
+	/**
+	 * This returns the random key of the given cell, computed from its index with
+	 * the SplitMix64 mixing function so no table of keys has to be stored.
+	 * 
+	 * @param index The index of the cell (row * columns + column).
+	 * @return The key of the cell.
+	 */
+	private static long key(long index) {
+		long z = index * 0x9E3779B97F4A7C15L + 0x632BE59BD9B4E019L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	/**
+	 * This returns the period of the detected cycle (1 for a still life).
+	 * 
+	 * @return period: The period of the cycle, or 0 if none has been detected.
+	 */
+	public long getPeriod() {
+		return period;
+	}
+
+	/**
+	 * This returns the first generation of the detected cycle.
+	 * 
+	 * @return start: The first generation of the cycle, or -1 if none has been
+	 *         detected.
+	 */
+	public long getStart() {
+		return start;
+	}
+}
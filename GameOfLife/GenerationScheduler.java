@@ -0,0 +1,46 @@
+/**
+ * @file GenerationScheduler.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the GenerationScheduler interface, which describes how generations are run for CellEngine.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> --engine cell --scheduler stripe|platform|virtual
+ */
+package edu.ncsu.csc246.main;
+
+/**
+ * This interface describes how CellEngine runs one generation of its grid of
+ * Cells across threads, so the way the work is split up and scheduled can be
+ * changed without changing the engine. StripeScheduler gives each of a fixed
+ * set of threads one stripe of rows, and RowTaskScheduler runs every row as its
+ * own task. A scheduler may be shared by several engines, whose generations
+ * then run one at a time.
+ */
+interface GenerationScheduler {
+
+	/**
+	 * This runs one generation with the given rules, only returning once every
+	 * cell of the future generation's grid has been decided.
+	 *
+	 * @param currGen   The current generation's grid to look for neighbors/apply
+	 *                  rules off of.
+	 * @param futureGen The future generation's grid to save the next generation to.
+	 * @param columns   The number of columns in both grids.
+	 * @param rows      The number of rows in both grids.
+	 * @param rule      The rules of the game.
+	 * @throws InterruptedException If the thread is interrupted while waiting on
+	 *                              the work, an InterruptedException is thrown.
+	 */
+	void runGeneration(Cell[][] currGen, Cell[][] futureGen, int columns, int rows, LifeRule rule)
+			throws InterruptedException;
+
+	/**
+	 * This stops any threads the scheduler keeps. The scheduler cannot be used
+	 * afterwards.
+	 */
+	void shutdown();
+}
@@ -0,0 +1,44 @@
+/**
+ * @file GenerationSink.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the GenerationSink interface, which every output format for the game implements.
+ * This program was developed via the Eclipse IDE for Developers.
+ * 
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> [options]
+ */
+package edu.ncsu.csc246.main;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * This interface describes where and how Life outputs each generation, so the
+ * output format and destination can be changed without changing the game.
+ */
+public interface GenerationSink extends Closeable {
+
+	/**
+	 * This outputs the current generation of the grid under the given
+	 * title (such as "Generation 1: ").
+	 * 
+	 * @param title The title line to output before the grid.
+	 * @param grid  The grid to output.
+	 * @throws IOException If the output cannot be written, an IOException is
+	 *                     thrown.
+	 */
+	void write(String title, LifeGrid grid) throws IOException;
+
+	/**
+	 * This outputs a line of text about the game (such as a detected cycle),
+	 * marked as a comment if the format has comments.
+	 * 
+	 * @param text The text to output.
+	 * @throws IOException If the output cannot be written, an IOException is
+	 *                     thrown.
+	 */
+	void comment(String text) throws IOException;
+}
@@ -0,0 +1,155 @@
+/**
+ * @file GridSnapshot.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the GridSnapshot class, which holds one generation carried to PipelinedSink's renderer.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> --render block|drop
+ */
+package edu.ncsu.csc246.main;
+
+/**
+ * This class is a read-only copy of one generation of an engine's grid (in
+ * packed rows, one bit per cell), or a comment, or the end of the output, as
+ * carried by a SnapshotRing. It is a LifeGrid, so any GenerationSink can
+ * render it. While it is published in the ring it is never written to, so the
+ * renderer sees an immutable generation; once released, the producer reuses
+ * its arrays for a later generation.
+ */
+class GridSnapshot implements LifeGrid {
+	/** The kind of snapshot holding a generation of the grid. */
+	static final int GRID = 0;
+	/** The kind of snapshot holding a comment. */
+	static final int COMMENT = 1;
+	/** The kind of snapshot marking the end of the output. */
+	static final int END = 2;
+
+	/** The kind of snapshot (GRID, COMMENT, or END). */
+	private int kind;
+	/** The title of the generation, or the text of the comment. */
+	private String text;
+	/** The number of rows in the grid. */
+	private int rows;
+	/** The number of columns in the grid. */
+	private int columns;
+	/** The rules of the game. */
+	private LifeRule rule = LifeRule.CONWAY;
+	/** The packed rows of the grid, reused while the size stays the same. */
+	private long[][] words = new long[0][];
+
+	/**
+	 * This copies the current generation of the grid into this snapshot, under
+	 * the given title.
+	 *
+	 * @param title The title of the generation.
+	 * @param grid  The grid to copy.
+	 */
+	void copy(String title, LifeGrid grid) {
+		kind = GRID;
+		text = title;
+		rule = grid.getRule();
+		int width = (grid.getColumns() + 63) >>> 6;
+		if (words.length != grid.getRows() || (words.length > 0 && words[0].length != width))
+			words = new long[grid.getRows()][width];
+		rows = grid.getRows();
+		columns = grid.getColumns();
+		for (int row = 0; row < rows; row++)
+			grid.getRow(row, words[row]);
+	}
+
+	/**
+	 * This copies another snapshot of a generation into this one.
+	 *
+	 * @param other The snapshot to copy.
+	 */
+	void copy(GridSnapshot other) {
+		copy(other.text, other);
+	}
+
+	/**
+	 * This makes this snapshot a comment or the end of the output.
+	 *
+	 * @param kind The kind of snapshot (COMMENT or END).
+	 * @param text The text of the comment, or null.
+	 */
+	void mark(int kind, String text) {
+		this.kind = kind;
+		this.text = text;
+	}
+
+	/**
+	 * This returns the kind of snapshot.
+	 *
+	 * @return kind: GRID, COMMENT, or END.
+	 */
+	int getKind() {
+		return kind;
+	}
+
+	/**
+	 * This returns the title of the generation, or the text of the comment.
+	 *
+	 * @return text: The title or text.
+	 */
+	String getText() {
+		return text;
+	}
+
+	/**
+	 * This returns the number of rows in the grid.
+	 *
+	 * @return rows: The number of rows in the grid.
+	 */
+	@Override
+	public int getRows() {
+		return rows;
+	}
+
+	/**
+	 * This returns the number of columns in the grid.
+	 *
+	 * @return columns: The number of columns in the grid.
+	 */
+	@Override
+	public int getColumns() {
+		return columns;
+	}
+
+	/**
+	 * This returns the rules of the game the grid was running with.
+	 *
+	 * @return rule: The rules of the game.
+	 */
+	@Override
+	public LifeRule getRule() {
+		return rule;
+	}
+
+	/**
+	 * This returns whether the cell at the given row and column is alive(1) or
+	 * dead(0).
+	 *
+	 * @param row    The row of the cell.
+	 * @param column The column of the cell.
+	 * @return 1 if the cell is alive, 0 if it is dead.
+	 */
+	@Override
+	public int getLife(int row, int column) {
+		return (int) (words[row][column >>> 6] >>> column) & 1;
+	}
+
+	/**
+	 * This copies one packed row of the grid.
+	 *
+	 * @param row   The row to copy.
+	 * @param words The packed row to copy into.
+	 */
+	@Override
+	public void getRow(int row, long[] words) {
+		System.arraycopy(this.words[row], 0, words, 0, this.words[row].length);
+	}
+}
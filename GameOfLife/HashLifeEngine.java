@@ -0,0 +1,654 @@
+/**
+ * @file HashLifeEngine.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the HashLifeEngine class, a grid backend that jumps many generations at once via HashLife.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> [options]
+ */
+package edu.ncsu.csc246.main;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class is a grid backend that uses Bill Gosper's HashLife algorithm. The
+ * grid is stored as a quadtree of canonical (shared) nodes, and every node
+ * remembers its own future, so repeated or sparse patterns can be advanced 2^k
+ * generations at once instead of one generation at a time.
+ *
+ * The wraparound (torus) grid is handled by treating it as an infinite plane
+ * tiled with copies of the grid: to advance 2^k generations, a node is built
+ * around the grid that is wide enough for the result (its center) to cover the
+ * whole grid, and the grid is then read back out of the result. Building the
+ * node is memoized by position in the grid, so it only costs as much as the
+ * number of distinct (non-empty) regions of the grid.
+ *
+ * The canonical node table is capped (by an estimate of its memory use). When
+ * it goes over the cap, the table is cleared and every memoized future of the
+ * nodes in it is dropped, so the nodes are no longer reachable from each other
+ * (only from the grid being built or advanced) and their memory can actually be
+ * collected; the memoized futures are then rebuilt as they are needed. This
+ * only costs time, never the result, since a node is correct whether or not it
+ * is canonical. The grid itself is kept packed between jumps, so no node
+ * outlives the jump that made it except through the table.
+ *
+ * Each node memoizes two futures: the full one (2^(level-2) generations), which
+ * is the same for every jump, and the last partial one asked for (fewer
+ * generations), which only the few nodes above the jump's size use.
+ *
+ * HashLife only pays off when the grid is sparse or regular enough that most
+ * regions repeat; on a random grid nearly every node is new, and it is far
+ * slower than the packed engine.
+ *
+ * Any LifeRule can be used except those where dead cells with no neighbors
+ * come to life (B0), since HashLife relies on empty regions staying empty.
+ */
+public class HashLifeEngine implements LifeEngine {
+	/** An estimate of the memory used by each node in the table, in bytes. */
+	static final long BYTES_PER_NODE = 112;
+	/** The dead leaf (level 0) node. */
+	private static final Node DEAD = new Node(0);
+	/** The alive leaf (level 0) node. */
+	private static final Node ALIVE = new Node(1);
+
+	/** The rules of the game. */
+	private final LifeRule rule;
+	/** The number of rows in the grid. */
+	private final int rows;
+	/** The number of columns in the grid. */
+	private final int columns;
+	/** The current generation, packed one bit per cell as in PackedEngine. */
+	private final long[][] cells;
+	/** The mask of the valid (in-grid) bits of the last word of each row. */
+	private final long lastMask;
+	/** The number of live cells in each rectangle [0, r) x [0, c) of the grid. */
+	private final int[][] prefix;
+	/** The smallest level whose nodes are at least as wide/tall as the grid. */
+	private final int gridLevel;
+	/** The largest number of nodes kept in the table. */
+	private final long maxNodes;
+	/** The table of canonical nodes. */
+	private final Map<Node, Node> nodes = new HashMap<>();
+	/** The memo of nodes built from the grid during one jump, by level/position. */
+	private final Map<Long, Node> built = new HashMap<>();
+	/** The canonical empty node of each level. */
+	private final ArrayList<Node> empty = new ArrayList<>();
+	/** The number of times the table has been cleared for going over its cap. */
+	private long collections;
+
+	/**
+	 * This class is one node of the quadtree: either a leaf cell (level 0) or a
+	 * square of 2^level x 2^level cells made of four child nodes. Nodes are never
+	 * changed once made, except for the memoized result.
+	 */
+	static final class Node {
+		/** The level of the node (the node is 2^level cells wide). */
+		final int level;
+		/** The north-west (top-left) child. */
+		final Node nw;
+		/** The north-east (top-right) child. */
+		final Node ne;
+		/** The south-west (bottom-left) child. */
+		final Node sw;
+		/** The south-east (bottom-right) child. */
+		final Node se;
+		/** The number of live cells in the node. */
+		final long population;
+		/** The hash code, computed from the children. */
+		final int hash;
+		/** The memoized center of this node, advanced 2^(level-2) generations. */
+		Node result;
+		/** The memoized center of this node, advanced 2^partialStep generations. */
+		Node partial;
+		/** The number of generations (as a power of two) the partial is advanced. */
+		int partialStep = -1;
+
+		/**
+		 * This is the constructor for a leaf node.
+		 *
+		 * @param alive 1 if the cell is alive, 0 if it is dead.
+		 */
+		Node(int alive) {
+			level = 0;
+			nw = ne = sw = se = null;
+			population = alive;
+			hash = alive;
+		}
+
+		/**
+		 * This is the constructor for a node made of four children of the same
+		 * level.
+		 *
+		 * @param nw The north-west child.
+		 * @param ne The north-east child.
+		 * @param sw The south-west child.
+		 * @param se The south-east child.
+		 */
+		Node(Node nw, Node ne, Node sw, Node se) {
+			level = nw.level + 1;
+			this.nw = nw;
+			this.ne = ne;
+			this.sw = sw;
+			this.se = se;
+			population = nw.population + ne.population + sw.population + se.population;
+			hash = ((nw.hash * 31 + ne.hash) * 31 + sw.hash) * 31 + se.hash + level;
+		}
+
+		/**
+		 * This returns the hash code of the node, computed from its children.
+		 *
+		 * @return hash: The hash code of the node.
+		 */
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		/**
+		 * This checks whether the other object is a node with the very same
+		 * children, which (since children are canonical) means the same cells.
+		 *
+		 * @param o The object to compare to.
+		 * @return true if the nodes have the same children, false otherwise.
+		 */
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Node))
+				return false;
+			Node other = (Node) o;
+			return level == other.level && nw == other.nw && ne == other.ne && sw == other.sw && se == other.se;
+		}
+	}
+
+	/**
+	 * This is the constructor, which creates a grid of dead cells of the given size
+	 * and a node table capped at the given memory.
+	 *
+	 * @param rows           The number of rows in the grid.
+	 * @param columns        The number of columns in the grid.
+	 * @param memoMegabytes  The cap on the memory used by the node table, in
+	 *                       megabytes.
+	 * @throws IllegalArgumentException If the grid size or memory cap is not
+	 *                                  valid, an IllegalArgumentException is
+	 *                                  thrown.
+	 */
+	public HashLifeEngine(int rows, int columns, long memoMegabytes) throws IllegalArgumentException {
+		this(rows, columns, memoMegabytes, LifeRule.CONWAY);
+	}
+
+	/**
+	 * This is the constructor, which creates a grid of dead cells of the given size
+	 * that runs with the given rules, and a node table capped at the given memory.
+	 *
+	 * @param rows           The number of rows in the grid.
+	 * @param columns        The number of columns in the grid.
+	 * @param memoMegabytes  The cap on the memory used by the node table, in
+	 *                       megabytes.
+	 * @param rule           The rules of the game.
+	 * @throws IllegalArgumentException If the grid size or memory cap is not
+	 *                                  valid, or the rule brings cells with no
+	 *                                  neighbors to life, an
+	 *                                  IllegalArgumentException is thrown.
+	 */
+	public HashLifeEngine(int rows, int columns, long memoMegabytes, LifeRule rule) throws IllegalArgumentException {
+		if (rows < 1 || columns < 1 || rows >= (1 << 29) || columns >= (1 << 29))
+			throw new IllegalArgumentException("The grid must have between 1 and 2^29 rows and columns.");
+		if (memoMegabytes < 1)
+			throw new IllegalArgumentException("The memo cache must be at least 1 megabyte.");
+		if (rule.next(0, 0) == 1)
+			throw new IllegalArgumentException("The hashlife engine does not support rules with B0.");
+		this.rule = rule;
+		this.rows = rows;
+		this.columns = columns;
+		cells = new long[rows][(columns + 63) >>> 6];
+		lastMask = -1L >>> (63 - ((columns - 1) & 63));
+		prefix = new int[rows + 1][columns + 1];
+		int level = 0;
+		while ((1L << level) < Math.max(rows, columns))
+			level++;
+		gridLevel = level;
+		maxNodes = Math.max(1024, memoMegabytes * 1024 * 1024 / BYTES_PER_NODE);
+	}
+
+	/**
+	 * This returns the rules the engine applies each generation.
+	 *
+	 * @return rule: The rules of the game.
+	 */
+	@Override
+	public LifeRule getRule() {
+		return rule;
+	}
+
+	/**
+	 * This returns the number of rows in the grid.
+	 *
+	 * @return rows: The number of rows in the grid.
+	 */
+	@Override
+	public int getRows() {
+		return rows;
+	}
+
+	/**
+	 * This returns the number of columns in the grid.
+	 *
+	 * @return columns: The number of columns in the grid.
+	 */
+	@Override
+	public int getColumns() {
+		return columns;
+	}
+
+	/**
+	 * This returns whether the cell at the given row and column is alive(1) or
+	 * dead(0).
+	 *
+	 * @param row    The row of the cell.
+	 * @param column The column of the cell.
+	 * @return 1 if the cell is alive, 0 if it is dead.
+	 */
+	@Override
+	public int getLife(int row, int column) {
+		return (int) (cells[row][column >>> 6] >>> (column & 63)) & 1;
+	}
+
+	/**
+	 * This sets whether the cell at the given row and column is alive(1) or
+	 * dead(0).
+	 *
+	 * @param row    The row of the cell.
+	 * @param column The column of the cell.
+	 * @param alive  1 if the cell is alive, 0 if it is dead.
+	 * @throws IllegalArgumentException If the alive value is not 0 or 1, an
+	 *                                  IllegalArgumentException is thrown.
+	 */
+	@Override
+	public void setLife(int row, int column, int alive) throws IllegalArgumentException {
+		if (alive == 1)
+			cells[row][column >>> 6] |= 1L << (column & 63);
+		else if (alive == 0)
+			cells[row][column >>> 6] &= ~(1L << (column & 63));
+		else
+			throw new IllegalArgumentException("The input alive value can only be 0 or 1.");
+	}
+
+	/**
+	 * This copies one row of the current generation into the given words, which
+	 * is a straight copy since the grid is already packed the same way.
+	 *
+	 * @param row   The row to copy.
+	 * @param words The words to copy the row into.
+	 */
+	@Override
+	public void getRow(int row, long[] words) {
+		System.arraycopy(cells[row], 0, words, 0, cells[row].length);
+	}
+
+	/**
+	 * This sets one row of the current generation from the given words, which is
+	 * a straight copy since the grid is already packed the same way (any bits
+	 * past the last column are cleared).
+	 *
+	 * @param row   The row to set.
+	 * @param words The words to set the row from.
+	 */
+	@Override
+	public void setRow(int row, long[] words) {
+		long[] target = cells[row];
+		System.arraycopy(words, 0, target, 0, target.length);
+		target[target.length - 1] &= lastMask;
+	}
+
+	/**
+	 * This advances the grid by one generation.
+	 */
+	@Override
+	public void step() {
+		advance(1);
+	}
+
+	/**
+	 * This advances the grid by the given number of generations, as a series of
+	 * jumps of 2^k generations (one per set bit of the number, largest first).
+	 *
+	 * @param generations The number of generations to advance.
+	 */
+	@Override
+	public void advance(long generations) {
+		while (generations > 0) {
+			int k = 63 - Long.numberOfLeadingZeros(generations);
+			jump(k);
+			generations -= 1L << k;
+		}
+	}
+
+	/**
+	 * This returns the number of nodes currently in the node table.
+	 *
+	 * @return The number of nodes in the node table.
+	 */
+	public long getNodeCount() {
+		return nodes.size();
+	}
+
+	/**
+	 * This returns the number of times the node table has been cleared because it
+	 * went over its memory cap.
+	 *
+	 * @return collections: The number of times the table has been cleared.
+	 */
+	public long getCollections() {
+		return collections;
+	}
+
+	/**
+	 * This advances the grid by 2^k generations in one step: it builds a node of
+	 * the tiled grid centered on the grid, computes its (memoized) result, and
+	 * reads the grid back out of the result.
+	 *
+	 * @param k The number of generations to advance, as a power of two.
+	 */
+	private void jump(int k) {
+		int level = Math.max(k + 2, gridLevel + 1);
+		// The result is the center of the node, so the node starts a quarter of its
+		// width before the grid's first row and column.
+		long offset = 1L << (level - 2);
+		computePrefix();
+		Node root = build(level, (int) Math.floorMod(-offset, (long) rows),
+				(int) Math.floorMod(-offset, (long) columns));
+		built.clear();
+		Node next = result(root, k);
+		for (long[] row : cells)
+			Arrays.fill(row, 0);
+		write(next, 0, 0);
+	}
+
+	/**
+	 * This recomputes the prefix sums of live cells, so that any region of the
+	 * grid can be checked for live cells in constant time.
+	 */
+	private void computePrefix() {
+		for (int r = 0; r < rows; r++) {
+			int rowCount = 0;
+			for (int c = 0; c < columns; c++) {
+				rowCount += getLife(r, c);
+				prefix[r + 1][c + 1] = prefix[r][c + 1] + rowCount;
+			}
+		}
+	}
+
+	/**
+	 * This returns the number of live cells in the rectangle [r0, r1) x [c0, c1)
+	 * of the grid (without wrapping).
+	 *
+	 * @param r0 The first row (inclusive).
+	 * @param r1 The last row (exclusive).
+	 * @param c0 The first column (inclusive).
+	 * @param c1 The last column (exclusive).
+	 * @return The number of live cells in the rectangle.
+	 */
+	private int count(int r0, int r1, int c0, int c1) {
+		return prefix[r1][c1] - prefix[r0][c1] - prefix[r1][c0] + prefix[r0][c0];
+	}
+
+	/**
+	 * This checks whether the square of the tiled grid with the given top-left
+	 * cell and size has no live cells, wrapping around the grid.
+	 *
+	 * @param row    The top row of the square, within the grid.
+	 * @param column The left column of the square, within the grid.
+	 * @param size   The width/height of the square.
+	 * @return true if there are no live cells in the square, false otherwise.
+	 */
+	private boolean isEmpty(int row, int column, long size) {
+		if (size >= rows || size >= columns)
+			return prefix[rows][columns] == 0;
+		int rowEnd = (int) (row + size);
+		int colEnd = (int) (column + size);
+		int total = count(row, Math.min(rowEnd, rows), column, Math.min(colEnd, columns));
+		if (rowEnd > rows)
+			total += count(0, rowEnd - rows, column, Math.min(colEnd, columns));
+		if (colEnd > columns)
+			total += count(row, Math.min(rowEnd, rows), 0, colEnd - columns);
+		if (rowEnd > rows && colEnd > columns)
+			total += count(0, rowEnd - rows, 0, colEnd - columns);
+		return total == 0;
+	}
+
+	/**
+	 * This builds the node of the tiled grid with the given level and top-left
+	 * cell, memoized by level and position so each region of the grid is only
+	 * built once per jump.
+	 *
+	 * @param level  The level of the node to build.
+	 * @param row    The top row of the node, within the grid.
+	 * @param column The left column of the node, within the grid.
+	 * @return The canonical node for the region.
+	 */
+	private Node build(int level, int row, int column) {
+		if (level == 0)
+			return getLife(row, column) == 1 ? ALIVE : DEAD;
+		long size = 1L << level;
+		if (isEmpty(row, column, size))
+			return emptyNode(level);
+		Long key = ((long) level << 58) | ((long) row << 29) | column;
+		Node node = built.get(key);
+		if (node == null) {
+			long half = size >>> 1;
+			int midRow = (int) ((row + half) % rows);
+			int midColumn = (int) ((column + half) % columns);
+			node = join(build(level - 1, row, column), build(level - 1, row, midColumn),
+					build(level - 1, midRow, column), build(level - 1, midRow, midColumn));
+			built.put(key, node);
+		}
+		return node;
+	}
+
+	/**
+	 * This writes the live cells of the node (whose top-left cell is at the given
+	 * row and column) into the grid, skipping anything outside of the grid.
+	 *
+	 * @param node   The node to write.
+	 * @param row    The row of the node's top-left cell.
+	 * @param column The column of the node's top-left cell.
+	 */
+	private void write(Node node, long row, long column) {
+		if (node.population == 0 || row >= rows || column >= columns)
+			return;
+		if (node.level == 0) {
+			setLife((int) row, (int) column, 1);
+			return;
+		}
+		long half = 1L << (node.level - 1);
+		write(node.nw, row, column);
+		write(node.ne, row, column + half);
+		write(node.sw, row + half, column);
+		write(node.se, row + half, column + half);
+	}
+
+	/**
+	 * This returns the canonical node with the given children, adding it to the
+	 * node table if it is not there yet.
+	 *
+	 * @param nw The north-west child.
+	 * @param ne The north-east child.
+	 * @param sw The south-west child.
+	 * @param se The south-east child.
+	 * @return The canonical node.
+	 */
+	private Node join(Node nw, Node ne, Node sw, Node se) {
+		Node node = new Node(nw, ne, sw, se);
+		Node existing = nodes.get(node);
+		if (existing != null)
+			return existing;
+		if (nodes.size() >= maxNodes)
+			collect();
+		nodes.put(node, node);
+		return node;
+	}
+
+	/**
+	 * This clears the node table, dropping the memoized futures of every node in
+	 * it (and the memo of nodes built from the grid), so that the only nodes left
+	 * reachable are the ones the jump in progress still holds (and the empty
+ * nodes, which are put back).
+	 */
+	private void collect() {
+		for (Node node : nodes.keySet()) {
+			node.result = null;
+			node.partial = null;
+		}
+		nodes.clear();
+		built.clear();
+		// The empty nodes stay canonical (they never memoize a future)
+		for (Node e : empty)
+			if (e.level > 0)
+				nodes.put(e, e);
+		collections++;
+	}
+
+	/**
+	 * This returns the canonical empty node of the given level.
+	 *
+	 * @param level The level of the node.
+	 * @return The empty node of that level.
+	 */
+	private Node emptyNode(int level) {
+		if (empty.isEmpty())
+			empty.add(DEAD);
+		while (empty.size() <= level) {
+			Node e = empty.get(empty.size() - 1);
+			empty.add(join(e, e, e, e));
+		}
+		return empty.get(level);
+	}
+
+	/**
+	 * This returns the center of the node (one level down).
+	 *
+	 * @param n The node, of level 2 or more.
+	 * @return The center of the node.
+	 */
+	private Node center(Node n) {
+		return join(n.nw.se, n.ne.sw, n.sw.ne, n.se.nw);
+	}
+
+	/**
+	 * This returns the node (of the same level) straddling the border between two
+	 * side-by-side nodes.
+	 *
+	 * @param w The west node.
+	 * @param e The east node.
+	 * @return The node between them.
+	 */
+	private Node horizontal(Node w, Node e) {
+		return join(w.ne, e.nw, w.se, e.sw);
+	}
+
+	/**
+	 * This returns the node (of the same level) straddling the border between two
+	 * stacked nodes.
+	 *
+	 * @param n The north node.
+	 * @param s The south node.
+	 * @return The node between them.
+	 */
+	private Node vertical(Node n, Node s) {
+		return join(n.sw, n.se, s.nw, s.ne);
+	}
+
+	/**
+	 * This returns the center of the node (one level down) advanced 2^step
+	 * generations, memoizing it on the node. The node is split into nine
+	 * overlapping sub-nodes which are advanced recursively, either both halves
+	 * of the way (when stepping as far as the node allows) or only the second
+	 * half (for smaller steps).
+	 *
+	 * @param n    The node, of level 2 or more.
+	 * @param step The number of generations to advance as a power of two, at most
+	 *             the node's level minus 2.
+	 * @return The center of the node, 2^step generations later.
+	 */
+	private Node result(Node n, int step) {
+		if (n.population == 0)
+			return emptyNode(n.level - 1);
+		boolean full = step == n.level - 2;
+		if (full && n.result != null)
+			return n.result;
+		if (!full && n.partial != null && n.partialStep == step)
+			return n.partial;
+		Node next;
+		if (n.level == 2) {
+			next = base(n);
+		} else {
+			Node n00 = n.nw;
+			Node n01 = horizontal(n.nw, n.ne);
+			Node n02 = n.ne;
+			Node n10 = vertical(n.nw, n.sw);
+			Node n11 = center(n);
+			Node n12 = vertical(n.ne, n.se);
+			Node n20 = n.sw;
+			Node n21 = horizontal(n.sw, n.se);
+			Node n22 = n.se;
+			int half = full ? step - 1 : step;
+			Node a00 = full ? result(n00, half) : center(n00);
+			Node a01 = full ? result(n01, half) : center(n01);
+			Node a02 = full ? result(n02, half) : center(n02);
+			Node a10 = full ? result(n10, half) : center(n10);
+			Node a11 = full ? result(n11, half) : center(n11);
+			Node a12 = full ? result(n12, half) : center(n12);
+			Node a20 = full ? result(n20, half) : center(n20);
+			Node a21 = full ? result(n21, half) : center(n21);
+			Node a22 = full ? result(n22, half) : center(n22);
+			next = join(result(join(a00, a01, a10, a11), half), result(join(a01, a02, a11, a12), half),
+					result(join(a10, a11, a20, a21), half), result(join(a11, a12, a21, a22), half));
+		}
+		if (full) {
+			n.result = next;
+		} else {
+			n.partial = next;
+			n.partialStep = step;
+		}
+		return next;
+	}
+
+	/**
+	 * This returns the center 2x2 cells of a 4x4 (level 2) node, advanced one
+	 * generation by looking up the rules of the game directly.
+	 *
+	 * @param n The level 2 node.
+	 * @return The center of the node, one generation later.
+	 */
+	private Node base(Node n) {
+		Node[] quads = { n.nw, n.ne, n.sw, n.se };
+		int[][] grid = new int[4][4];
+		for (int q = 0; q < 4; q++) {
+			int r = (q / 2) * 2;
+			int c = (q % 2) * 2;
+			grid[r][c] = (int) quads[q].nw.population;
+			grid[r][c + 1] = (int) quads[q].ne.population;
+			grid[r + 1][c] = (int) quads[q].sw.population;
+			grid[r + 1][c + 1] = (int) quads[q].se.population;
+		}
+		Node[] next = new Node[4];
+		for (int q = 0; q < 4; q++) {
+			int r = 1 + q / 2;
+			int c = 1 + q % 2;
+			int neighbors = 0;
+			for (int i = -1; i < 2; i++)
+				for (int j = -1; j < 2; j++)
+					if (i != 0 || j != 0)
+						neighbors += grid[r + i][c + j];
+			next[q] = rule.next(grid[r][c], neighbors) == 1 ? ALIVE : DEAD;
+		}
+		return join(next[0], next[1], next[2], next[3]);
+	}
+}
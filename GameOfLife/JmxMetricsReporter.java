@@ -0,0 +1,214 @@
+/**
+ * @file JmxMetricsReporter.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the JmxMetricsReporter class, which publishes the game's metrics as a JMX MBean.
+ * This program was developed via the Eclipse IDE for Developers.
+ * 
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> --metrics jmx
+ * (The MBean can then be watched with jconsole, under edu.ncsu.csc246.main:type=LifeMetrics.)
+ */
+package edu.ncsu.csc246.main;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * This class publishes the latest record of the game's metrics, and running
+ * totals, as an MXBean on the platform MBean server, so a running game can be
+ * watched with jconsole or any other JMX client. Each record only sets a few
+ * volatile fields; the values are read when a client asks for them.
+ */
+public class JmxMetricsReporter implements MetricsReporter, LifeMetricsMXBean {
+	/** The name the MBean is registered under. */
+	static final String NAME = "edu.ncsu.csc246.main:type=LifeMetrics";
+
+	/** The server the MBean is registered with. */
+	private final MBeanServer server;
+	/** The name the MBean is registered under. */
+	private final ObjectName name;
+	/** The generation of the latest record. */
+	private volatile long generation;
+	/** The population of the latest record. */
+	private volatile long population;
+	/** The cells born in the latest record. */
+	private volatile long births;
+	/** The cells that died in the latest record. */
+	private volatile long deaths;
+	/** The nanoseconds spent stepping in the latest record. */
+	private volatile long stepNanos;
+	/** The nanoseconds spent stepping in every record. */
+	private volatile long totalStepNanos;
+	/** The nanoseconds spent outside of stepping in every record. */
+	private volatile long totalOtherNanos;
+	/** The total number of generations advanced. */
+	private volatile long totalGenerations;
+	/** The bytes allocated in the latest record. */
+	private volatile long allocatedBytes;
+	/** The number of live threads in the latest record. */
+	private volatile int threads;
+
+	/**
+	 * This is the constructor, which registers the MBean with the platform MBean
+	 * server.
+	 * 
+	 * @throws IOException If the MBean cannot be registered (such as when another
+	 *                     game in this JVM already has), an IOException is
+	 *                     thrown.
+	 */
+	public JmxMetricsReporter() throws IOException {
+		server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			name = new ObjectName(NAME);
+			server.registerMBean(this, name);
+		} catch (JMException e) {
+			throw new IOException("The metrics MBean could not be registered: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * This publishes one record of the game's metrics. Only the game's thread
+	 * writes the fields, so the totals need no locking.
+	 * 
+	 * @param metrics The metrics recorded.
+	 */
+	@Override
+	public void report(LifeMetrics metrics) {
+		long step = metrics.getNanos(LifeMetrics.Phase.STEP);
+		long other = -step;
+		for (LifeMetrics.Phase phase : LifeMetrics.Phase.values())
+			other += metrics.getNanos(phase);
+		generation = metrics.getGeneration();
+		population = metrics.getPopulation();
+		births = metrics.getBirths();
+		deaths = metrics.getDeaths();
+		stepNanos = step;
+		totalStepNanos += step;
+		totalOtherNanos += other;
+		totalGenerations += metrics.getAdvanced();
+		allocatedBytes = metrics.getAllocatedBytes();
+		threads = metrics.getThreads();
+	}
+
+	/**
+	 * This unregisters the MBean.
+	 * 
+	 * @throws IOException If the MBean cannot be unregistered, an IOException is
+	 *                     thrown.
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			server.unregisterMBean(name);
+		} catch (JMException e) {
+			throw new IOException("The metrics MBean could not be unregistered: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * This returns the generation of the latest record.
+	 * 
+	 * @return generation: The current generation.
+	 */
+	@Override
+	public long getGeneration() {
+		return generation;
+	}
+
+	/**
+	 * This returns the number of live cells.
+	 * 
+	 * @return population: The current population.
+	 */
+	@Override
+	public long getPopulation() {
+		return population;
+	}
+
+	/**
+	 * This returns the number of cells born in the latest record.
+	 * 
+	 * @return births: The number of cells born, or -1 if it is not known.
+	 */
+	@Override
+	public long getBirths() {
+		return births;
+	}
+
+	/**
+	 * This returns the number of cells that died in the latest record.
+	 * 
+	 * @return deaths: The number of cells that died, or -1 if it is not known.
+	 */
+	@Override
+	public long getDeaths() {
+		return deaths;
+	}
+
+	/**
+	 * This returns the nanoseconds spent stepping in the latest record.
+	 * 
+	 * @return stepNanos: The nanoseconds spent stepping.
+	 */
+	@Override
+	public long getStepNanos() {
+		return stepNanos;
+	}
+
+	/**
+	 * This returns the nanoseconds spent stepping in every record.
+	 * 
+	 * @return totalStepNanos: The total nanoseconds spent stepping.
+	 */
+	@Override
+	public long getTotalStepNanos() {
+		return totalStepNanos;
+	}
+
+	/**
+	 * This returns the nanoseconds spent outside of stepping in every record.
+	 * 
+	 * @return totalOtherNanos: The total nanoseconds spent outside of stepping.
+	 */
+	@Override
+	public long getTotalOtherNanos() {
+		return totalOtherNanos;
+	}
+
+	/**
+	 * This returns the total number of generations advanced.
+	 * 
+	 * @return totalGenerations: The total number of generations advanced.
+	 */
+	@Override
+	public long getTotalGenerations() {
+		return totalGenerations;
+	}
+
+	/**
+	 * This returns the bytes allocated by the game's thread in the latest record.
+	 * 
+	 * @return allocatedBytes: The bytes allocated, or -1 if it is not known.
+	 */
+	@Override
+	public long getAllocatedBytes() {
+		return allocatedBytes;
+	}
+
+	/**
+	 * This returns the number of live threads in the latest record.
+	 * 
+	 * @return threads: The number of live threads.
+	 */
+	@Override
+	public int getThreads() {
+		return threads;
+	}
+}
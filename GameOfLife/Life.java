@@ -2,25 +2,40 @@
  * @file Life.java
  * @author Amit Prakash (aprakas5)
  * @version JDK 11.0.10
- * This file contains all functionality for this implementation of Game of Life by John Conway.
- * It contains three classes Cell, Life, and CellRule, which contain corresponding behaviors.
+ * This file contains the main functionality for this implementation of Game of Life by John Conway.
+ * It contains the Life class, which contains the main method.
+ * The cells, rules, and grid backends for the game are in the files of the Cell, CellRule, and LifeEngine classes.
  * This program was developed via the Eclipse IDE for Developers.
- * This program is run through the console via the following command: java Life.java <file name/path> <number of generations>
+ * 
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> [options]
  */
 package edu.ncsu.csc246.main;
 
 /**
  * Import several classes here for error handling, for lists, and for I/O.
  */
+import java.io.Closeable;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * This class contains the main method with all functionality for I/O from the
  * console/external input and error-handling for such, along with calling
- * methods to initialize and run the game via the Cell and CellRule classes.
+ * methods to initialize and run the game via the chosen LifeEngine.
  * This method also prints output for the game to the console, so the user can
  * see each generation of the game, as requested. In the future, this class will
  * have to be refactored for better expansion of I/O and initializing the game,
@@ -31,14 +46,15 @@ public class Life {
 	/**
 	 * The main method has all functionality for I/O from the console/external input
 	 * and error-handling for such, along with calling methods to initialize and run
-	 * the game via the Cell and CellRule classes. This method also prints output
+	 * the game via the chosen LifeEngine. This method also prints output
 	 * for the game to the console, so the user can see each generation of the game,
 	 * as requested.
 	 * 
 	 * @param args This parameter is given from the command-line input
-	 * @throws FileNotFoundException    If the file given on the command-line cannot
-	 *                                  be opened/accessed, a FileNotFoundException
-	 *                                  is thrown.
+	 * @throws IOException              If the file given on the command-line cannot
+	 *                                  be opened/accessed (a FileNotFoundException)
+	 *                                  or the output cannot be written, an
+	 *                                  IOException is thrown.
 	 * @throws IllegalArgumentException If any command-line arguments are invalid or
 	 *                                  there is a problem with the Cell field
 	 *                                  modification, an IllegalArgumentException is
@@ -47,326 +63,373 @@ public class Life {
 	 *                                  joined and are interrupted, an
 	 *                                  InterruptedException is thrown.
 	 */
-	public static void main(String[] args)
-			throws FileNotFoundException, IllegalArgumentException, InterruptedException {
-		// Error Handling for the number of command-line inputs
-		if (args.length < 2)
-			throw new IllegalArgumentException(
-					"The command line input should be in the format: java Life.java <file name/path> <number of generations>.");
-		// Initialization for command-line inputs to variables
-		String fileName = args[0];
-		int numGens = 0;
-		// Error Handling for the second command-line input
-		try {
-			numGens = Integer.parseInt(args[1].trim());
-			if (numGens <= 0)
-				throw new Exception();
-		} catch (Exception e) {
-			throw new IllegalArgumentException(
-					"The command line input for the number of generations should be a number greater than 0.");
-		}
-		// Error Handling for the first command-line input
-		try {
-			// Read and Initialize first grid/dimensions from the given file
-			// via java.util.Scanner and java.io.FileInputStream and Cell
-			Scanner fileScanner = new Scanner(new FileInputStream(fileName));
-			int numRows = fileScanner.nextInt();
-			int numCols = fileScanner.nextInt();
-			fileScanner.nextLine();
-			Cell[][] currGen = new Cell[numRows][numCols];
-
-			for (int i = 0; i < numRows; i++) {
-				String[] currLine = fileScanner.nextLine().trim().split(" ");
-				for (int j = 0; j < numCols; j++) {
-					currGen[i][j] = new Cell(Integer.parseInt(currLine[j]));
-				}
+	// The engine's workers are only a resource to close, never used in the body
+	@SuppressWarnings("try")
+	public static void main(String[] args) throws IOException, IllegalArgumentException, InterruptedException {
+		// Error Handling for the command-line inputs
+		LifeOptions options = LifeOptions.parse(args);
+		// Every resource (the metrics, the engine's workers, the checkpointer and
+		// the output) is closed even if the game fails, so no output is lost
+		try (LifeMetrics metrics = createMetrics(options)) {
+			// Read and Initialize first grid/dimensions from the given file via the
+			// chosen engine, or from the snapshot being resumed if there is one
+			LifeEngine engine;
+			long gen = 0;
+			String title = "Your input:";
+			if (options.getResumeFile() != null && Files.exists(Paths.get(options.getResumeFile()))) {
+				Path resume = Paths.get(options.getResumeFile());
+				engine = loadEngine(options, resume);
+				gen = BinaryGrid.readHeader(resume).generation;
+				title = "Resumed at generation " + gen + ":";
+			} else {
+				engine = loadEngine(options, Paths.get(options.getFileName()));
 			}
-
-			fileScanner.close();
-			// Print input to console
-			System.out.print("Your input:\n");
-			for (int j = 0; j < numRows; j++) {
-				for (int k = 0; k < numCols; k++) {
-					System.out.print(currGen[j][k].getLife() + " ");
-				}
-				System.out.print("\n");
-			}
-			System.out.print("\n");
-			// Start the game and run it according to the number of generations as inputted
-			for (int i = 0; i < numGens; i++) {
-				System.out.print("Generation " + (i + 1) + ": \n");
-				// Create a new grid and initialize it so it can store the future generation
-				// later via Cell
-				Cell[][] newGen = new Cell[numRows][numCols];
-				for (int j = 0; j < numRows; j++)
-					for (int k = 0; k < numCols; k++)
-						newGen[j][k] = new Cell();
-				// Check neighbors and implement rules of the game on currGrid via CellRule and
-				// save to newGrid
-				CellRule.checkCells(currGen, newGen, numCols, numRows);
-				// Print out the new generation
-				for (int j = 0; j < numRows; j++) {
-					for (int k = 0; k < numCols; k++) {
-						System.out.print(newGen[j][k].getLife() + " ");
-					}
-					System.out.print("\n");
-				}
-				System.out.print("\n");
-				// Save new generation as the current generation
-				for (int j = 0; j < numRows; j++)
-					for (int k = 0; k < numCols; k++)
-						currGen[j][k].setLife(newGen[j][k].getLife());
+			metrics.end(LifeMetrics.Phase.LOAD);
+			// Say which kernel the vector engine runs, since its fallback is much slower
+			if (engine instanceof VectorEngine)
+				System.err.println(VectorEngine.isVectorized() ? "The vector engine is using the Vector API kernel."
+						: "The vector engine is using the scalar kernel (add the jdk.incubator.vector module on JDK 16+ to use the Vector API).");
+			try (Closeable workers = () -> closeEngine(engine);
+					Checkpointer checkpointer = options.getCheckpointFile() == null ? null
+							: new Checkpointer(options.getCheckpointFile(), options.getCheckpointEvery());
+					GenerationSink sink = createSink(options)) {
+				run(options, engine, gen, title, metrics, checkpointer, sink);
 			}
-
-		} catch (FileNotFoundException e) {
-			throw new FileNotFoundException("This file was not found or could not be properly accessed.");
 		}
 	}
-}
-
-/**
- * This class represents a cell in the grid for the game of life. It is separate
- * so it can easily be changed and understood separate from the whole game. This
- * class contains constructors, accessors, and modifiers for the Cell object.
- */
-class Cell {
-	/** This is the integer value of whether the cell is alive(1) or dead(0). */
-	private int alive;
-	/**
-	 * This is the integer value of the number of neighbors(0-8) near the cell who
-	 * are alive.
-	 */
-	private int neighbors;
 
 	/**
-	 * This is the default constructor, which sets both the two fields above to 0.
+	 * This runs the game from the given generation up to the number of
+	 * generations in the options, printing every so many generations (or only the
+	 * last one), checkpointing, checking for cycles, and recording metrics as
+	 * chosen, then saves the final generation if asked to.
+	 * 
+	 * @param options      The parsed command-line input.
+	 * @param engine       The engine holding the first grid.
+	 * @param gen          The generation of the first grid.
+	 * @param title        The title of the first grid.
+	 * @param metrics      The metrics to record.
+	 * @param checkpointer The checkpointer, or null if there are no checkpoints.
+	 * @param sink         The output sink.
+	 * @throws IOException          If the output, a checkpoint, or the saved grid
+	 *                              cannot be written, an IOException is thrown.
+	 * @throws InterruptedException If the engine's threads are interrupted, an
+	 *                              InterruptedException is thrown.
 	 */
-	public Cell() {
-		this.setLife(0);
-		this.setNeighbors(0);
+	private static void run(LifeOptions options, LifeEngine engine, long gen, String title, LifeMetrics metrics,
+			Checkpointer checkpointer, GenerationSink sink) throws IOException, InterruptedException {
+		long numGens = options.getGenerations();
+		CycleDetector detector = null;
+		if (!options.getCycles().equals("off")) {
+			detector = new CycleDetector(engine.getRows(), engine.getColumns(), options.getCycleWindow());
+			detector.update(engine, gen);
+			metrics.end(LifeMetrics.Phase.CYCLES);
+		}
+		// Print input via the chosen output format
+		sink.write(title, engine);
+		metrics.end(LifeMetrics.Phase.OUTPUT);
+		metrics.record(engine, gen, 0);
+		// Start the game and run it according to the number of generations as
+		// inputted, printing every so many generations (or only the last one)
+		// and stopping at each checkpoint (or every generation, to detect cycles)
+		long every = options.isFinalOnly() ? numGens : options.getEvery();
+		long nextPrint = gen + every;
+		while (gen < numGens) {
+			long target = Math.min(nextPrint, numGens);
+			if (checkpointer != null)
+				target = Math.min(target, checkpointer.nextCheckpoint(gen));
+			if (detector != null)
+				target = gen + 1;
+			// Check neighbors and implement rules of the game via the engine
+			long start = gen;
+			engine.advance(target - gen);
+			gen = target;
+			metrics.end(LifeMetrics.Phase.STEP);
+			if (checkpointer != null) {
+				checkpointer.checkpoint(engine, gen);
+				metrics.end(LifeMetrics.Phase.CHECKPOINT);
+			}
+			// Stop, or skip ahead to the final generation, once the game repeats
+			boolean cycle = detector != null && detector.update(engine, gen);
+			if (detector != null)
+				metrics.end(LifeMetrics.Phase.CYCLES);
+			if (cycle) {
+				sink.comment("Cycle detected: period " + detector.getPeriod() + " starting at generation "
+						+ detector.getStart() + ".");
+				if (options.getCycles().equals("stop")) {
+					sink.write("Generation " + gen + ": ", engine);
+					metrics.end(LifeMetrics.Phase.OUTPUT);
+					metrics.record(engine, gen, gen - start);
+					break;
+				}
+				engine.advance((numGens - gen) % detector.getPeriod());
+				gen = numGens;
+				metrics.end(LifeMetrics.Phase.STEP);
+			}
+			// Print out the new generation
+			if (gen == nextPrint || gen == numGens) {
+				sink.write("Generation " + gen + ": ", engine);
+				nextPrint += every;
+				metrics.end(LifeMetrics.Phase.OUTPUT);
+			}
+			metrics.record(engine, gen, gen - start);
+		}
+		// Save the final generation if asked to
+		if (options.getSaveFile() != null)
+			BinaryGrid.save(Paths.get(options.getSaveFile()), engine, gen);
 	}
 
 	/**
-	 * This is the modified constructor, which sets both the neighbor field above to
-	 * 0 and uses an integer parameter (alive) to set the alive field.
+	 * This stops any worker threads/processes the engine started, if it has any.
 	 * 
-	 * @param alive This is an integer parameter of whether the cell is alive(1) or
-	 *              dead(0).
+	 * @param engine The engine to close.
+	 * @throws IOException If the engine cannot be closed, an IOException is
+	 *                     thrown.
 	 */
-	public Cell(int alive) {
-		this.setNeighbors(0);
-		this.setLife(alive);
+	static void closeEngine(LifeEngine engine) throws IOException {
+		if (engine instanceof Closeable)
+			((Closeable) engine).close();
 	}
 
 	/**
-	 * This sets the integer neighbors alive field according to the parameter passed
-	 * in.
+	 * This reads the first grid/dimensions from the given file into the chosen
+	 * engine. The file is either a binary grid (see BinaryGrid), which is
+	 * memory-mapped, an RLE pattern (see RunLengthReader), whose rule is used
+	 * unless one is given with --rule, or the text format read via
+	 * java.util.Scanner.
 	 * 
-	 * @param neighbors This is the integer parameter of the number of
-	 *                  neighbors(0-8) near the cell who are alive.
-	 * @throws IllegalArgumentException An IllegalArgumentException is thrown if the
-	 *                                  neighbors parameter, which represents the
-	 *                                  number of neighbors(0-8) near the cell who
-	 *                                  are alive, is not valid(0-8).
+	 * @param options The parsed command-line input.
+	 * @param path    The path of the file to read.
+	 * @return The engine holding the first grid.
+	 * @throws IOException              If the file cannot be opened/accessed or is
+	 *                                  not a valid grid, an IOException is thrown.
+	 * @throws IllegalArgumentException If there is a problem with a cell's value,
+	 *                                  an IllegalArgumentException is thrown.
 	 */
-	public void setNeighbors(int neighbors) throws IllegalArgumentException {
-		if (neighbors < 0 || neighbors > 8)
-			throw new IllegalArgumentException("There can only be between 0 and 8 neighbors for a cell.");
-		this.neighbors = neighbors;
+	static LifeEngine loadEngine(LifeOptions options, Path path) throws IOException, IllegalArgumentException {
+		return loadEngine(options, path, null);
 	}
 
 	/**
-	 * This returns the integer value representing whether or not a cell is alive(1)
-	 * or dead(0).
+	 * This reads the first grid/dimensions from the given file into the chosen
+	 * engine, as above, running the engine on the given shared pool if it runs
+	 * on a ForkJoinPool.
 	 * 
-	 * @return alive: This is the integer value of whether the cell is alive(1) or
-	 *         dead(0).
+	 * @param options The parsed command-line input.
+	 * @param path    The path of the file to read.
+	 * @param pool    The shared pool for engines that run on a ForkJoinPool, or
+	 *                null for them to use their own.
+	 * @return The engine holding the first grid.
+	 * @throws IOException              If the file cannot be opened/accessed or is
+	 *                                  not a valid grid, an IOException is thrown.
+	 * @throws IllegalArgumentException If there is a problem with a cell's value,
+	 *                                  an IllegalArgumentException is thrown.
 	 */
-	public int getLife() {
-		return alive;
-	}
+	static LifeEngine loadEngine(LifeOptions options, Path path, ForkJoinPool pool)
+			throws IOException, IllegalArgumentException {
+		if (BinaryGrid.isBinary(path)) {
+			BinaryGrid.Header header = BinaryGrid.readHeader(path);
+			LifeEngine engine = createEngine(options, header.rows, header.columns, pool);
+			try {
+				BinaryGrid.load(path, engine);
+			} catch (IOException | RuntimeException e) {
+				closeEngine(engine);
+				throw e;
+			}
+			return engine;
+		}
+		if (RunLengthReader.isRunLength(path)) {
+			try (RunLengthReader reader = new RunLengthReader(path)) {
+				if (reader.getRule() != null)
+					options.setDefaultRule(reader.getRule());
+				LifeEngine engine = createEngine(options, reader.getRows(), reader.getColumns(), pool);
+				try {
+					reader.readCells(engine);
+				} catch (IOException | RuntimeException e) {
+					closeEngine(engine);
+					throw e;
+				}
+				return engine;
+			}
+		}
+		// Error Handling for the first command-line input
+		try {
+			// Read and Initialize first grid/dimensions from the given file
+			// via java.util.Scanner and java.io.FileInputStream
+			Scanner fileScanner = new Scanner(new FileInputStream(path.toFile()));
+			int numRows = fileScanner.nextInt();
+			int numCols = fileScanner.nextInt();
+			fileScanner.nextLine();
+			LifeEngine engine = createEngine(options, numRows, numCols, pool);
 
-	/**
-	 * This adds a neighbor to the integer neighbors field, which represents the
-	 * number of neighbors(0-8) near the cell who are alive.
-	 */
-	public void addNeighbor() {
-		neighbors++;
+			try {
+				for (int i = 0; i < numRows; i++) {
+					String[] currLine = fileScanner.nextLine().trim().split(" ");
+					for (int j = 0; j < numCols; j++) {
+						engine.setLife(i, j, Integer.parseInt(currLine[j]));
+					}
+				}
+			} catch (RuntimeException e) {
+				closeEngine(engine);
+				throw e;
+			}
+
+			fileScanner.close();
+			return engine;
+		} catch (FileNotFoundException e) {
+			throw new FileNotFoundException("This file was not found or could not be properly accessed.");
+		}
 	}
 
 	/**
-	 * This gets the integer neighbors alive field, which represents the number of
-	 * neighbors(0-8) near the cell who are alive, according to the parameter passed
-	 * in.
+	 * This creates the grid backend for the game chosen in the options, running
+	 * with the rules chosen in the options.
 	 * 
-	 * @return neighbors: This is the integer value of the number of neighbors(8)
-	 *         near the cell who are alive.
+	 * @param options The parsed command-line input.
+	 * @param numRows The number of rows in the grid.
+	 * @param numCols The number of columns in the grid.
+	 * @return The new engine, holding a grid of dead cells.
+	 * @throws IOException              If the engine's worker processes cannot be
+	 *                                  started, an IOException is thrown.
+	 * @throws IllegalArgumentException If the engine name is not known or does
+	 *                                  not support the rules, an
+	 *                                  IllegalArgumentException is thrown.
 	 */
-	public int getNeighbors() {
-		return neighbors;
+	static LifeEngine createEngine(LifeOptions options, int numRows, int numCols)
+			throws IOException, IllegalArgumentException {
+		return createEngine(options, numRows, numCols, null);
 	}
 
 	/**
-	 * This sets the integer value representing whether or not a cell is alive(1) or
-	 * dead(0)
+	 * This creates the grid backend for the game chosen in the options, as above,
+	 * running it on the given shared pool if it runs on a ForkJoinPool (the pool
+	 * is left running when the engine is closed).
 	 * 
-	 * @param alive This is the integer parameter of whether the cell is alive(1) or
-	 *              dead(0).
-	 * @throws IllegalArgumentException If the integer value for the alive
-	 *                                  parameter, which represents the value of
-	 *                                  whether the cell is alive(1) or dead(0), is
-	 *                                  not valid(0-1), an IllegalArgumentException
-	 *                                  is thrown.
+	 * @param options The parsed command-line input.
+	 * @param numRows The number of rows in the grid.
+	 * @param numCols The number of columns in the grid.
+	 * @param pool    The shared pool for engines that run on a ForkJoinPool, or
+	 *                null for them to use their own.
+	 * @return The new engine, holding a grid of dead cells.
+	 * @throws IOException              If the engine's worker processes cannot be
+	 *                                  started, an IOException is thrown.
+	 * @throws IllegalArgumentException If the engine name is not known or does
+	 *                                  not support the rules, an
+	 *                                  IllegalArgumentException is thrown.
 	 */
-	public void setLife(int alive) {
-		if (alive == 0 || alive == 1) {
-			this.alive = alive;
-		} else {
-			throw new IllegalArgumentException("The input alive value can only be 0 or 1.");
+	static LifeEngine createEngine(LifeOptions options, int numRows, int numCols, ForkJoinPool pool)
+			throws IOException, IllegalArgumentException {
+		LifeRule rule = options.getRule();
+		switch (options.getEngine()) {
+		case "cell":
+			int threads = options.getThreads() > 0 ? options.getThreads() : Runtime.getRuntime().availableProcessors();
+			if (!options.getScheduler().equals("stripe"))
+				return new CellEngine(numRows, numCols,
+						new RowTaskScheduler(threads, options.getScheduler().equals("virtual")), rule, true);
+			if (options.getThreads() > 0)
+				return new CellEngine(numRows, numCols, new StripeScheduler(threads), rule, true);
+			return new CellEngine(numRows, numCols, CellRule.getScheduler(), rule);
+		case "packed":
+			return new PackedEngine(numRows, numCols, rule);
+		case "hashlife":
+			return new HashLifeEngine(numRows, numCols, options.getMemoMegabytes(), rule);
+		case "tracking":
+			return new TrackingEngine(numRows, numCols, rule);
+		case "vector":
+			return new VectorEngine(numRows, numCols, rule);
+		case "tiled":
+			if (pool != null)
+				return new TiledEngine(numRows, numCols, rule, pool);
+			if (options.getThreads() > 0)
+				return new TiledEngine(numRows, numCols, rule, options.getThreads());
+			return new TiledEngine(numRows, numCols, rule, ForkJoinPool.commonPool());
+		case "sparse":
+			return new SparseEngine(numRows, numCols, rule);
+		case "banded":
+			return new BandedEngine(numRows, numCols, rule, options.getBands(), bandOptions(options),
+					options.getTransport().equals("socket"));
+		default:
+			throw new IllegalArgumentException(
+					"The engine should be one of: cell, packed, hashlife, tracking, vector, tiled, banded, sparse.");
 		}
 	}
-}
 
-/**
- * This class checks and counts neighbors for all the cells, so that they can be
- * transferred to the new generation. It also creates threads for each of the
- * cells, so that an entire grid can be done simultaneously.
- */
-class CellRule {
 	/**
-	 * This function gets the number of neighbors for each cell, and saves the
-	 * future generation based on the number neighbors from arr (the current array)
-	 * to future generation's array.
+	 * This creates the command-line input for the engine of each band of a
+	 * BandedEngine, carrying over the options that apply to it.
 	 * 
-	 * @param currGen   The current array that will be checked for neighbors.
-	 * @param futureGen This array will keep track of the future generation.
-	 * @param columns   This is the number of columns for both arrays.
-	 * @param rows      This is the number of rows for both arrays.
+	 * @param options The parsed command-line input.
+	 * @return The command-line input for each band's engine.
+	 * @throws IllegalArgumentException If the band engine is banded or sparse,
+	 *                                  an IllegalArgumentException is thrown.
 	 */
-	private static void countNeighbors(Cell[][] currGen, int row, int column, int rows, int columns) {
-		// Select the cell based on the passed row and column via the parameters.
-		Cell c = currGen[row][column];
-		c.setNeighbors(0); // Fail-safe to ensure the value is certain before logic is applied
-		// For all cells around the selected cell (passed via row/column in the
-		// parameters)
-		// Check if the cell is alive, if so add a neighbor to the current cell
-		for (int i = -1; i < 2; i++) {
-			for (int j = -1; j < 2; j++) {
-				if (i == 0 && j == 0)
-					continue; // don't check self
-				// Bounds checking and handling (the grid should wrap around)
-				if (row + i < 0) {
-					if (column + j < 0) {
-						if (currGen[rows - 1][columns - 1].getLife() == 1)
-							c.addNeighbor();
-					} else if (column + j >= columns) {
-						if (currGen[rows - 1][0].getLife() == 1)
-							c.addNeighbor();
-					} else {
-						if (currGen[rows - 1][column + j].getLife() == 1)
-							c.addNeighbor();
-					}
-					continue;
-				} else if (row + i >= rows) {
-					if (column + j < 0) {
-						if (currGen[0][columns - 1].getLife() == 1)
-							c.addNeighbor();
-					} else if (column + j >= columns) {
-						if (currGen[0][0].getLife() == 1)
-							c.addNeighbor();
-					} else {
-						if (currGen[0][column + j].getLife() == 1)
-							c.addNeighbor();
-					}
-					continue;
-				} else if (column + j < 0) {
-					if (currGen[row + i][columns - 1].getLife() == 1)
-						c.addNeighbor();
-					continue;
-				} else if (column + j >= columns) {
-					if (currGen[row + i][0].getLife() == 1)
-						c.addNeighbor();
-					continue;
-				}
-				// Normal case
-				if (currGen[row + i][column + j].getLife() == 1) {
-					c.addNeighbor();
-				}
-			}
+	private static String[] bandOptions(LifeOptions options) throws IllegalArgumentException {
+		if (options.getBandEngine().equals("banded") || options.getBandEngine().equals("sparse"))
+			throw new IllegalArgumentException("The engine for each band cannot be banded or sparse.");
+		List<String> args = new ArrayList<String>(Arrays.asList(options.getFileName(), "1", "--engine",
+				options.getBandEngine(), "--rule", options.getRule().toString(), "--memo",
+				"" + options.getMemoMegabytes()));
+		if (options.getThreads() > 0) {
+			args.add("--threads");
+			args.add("" + options.getThreads());
 		}
+		args.add("--scheduler");
+		args.add(options.getScheduler());
+		return args.toArray(new String[0]);
 	}
 
 	/**
-	 * This method implements the 4 rules for the game, nesting conditionals to
-	 * check the rules more efficiently. This method checks the oldCell's neighbors
-	 * to decide what the newCell should be (alive(1) or dead(0)).
+	 * This creates the metrics for the game, sent to the reporters chosen in the
+	 * options (if none are chosen, nothing is recorded).
 	 * 
-	 * @param oldCell This is the oldCell to check against from the current
-	 *                generation.
-	 * @param newCell This is the newCell to decide for from the next generation.
+	 * @param options The parsed command-line input.
+	 * @return The new metrics.
+	 * @throws IOException If a reporter cannot be created (such as the CSV file
+	 *                     not being writable), an IOException is thrown.
 	 */
-	private static void checkNeighbors(Cell oldCell, Cell newCell) {
-		// Cell is alive
-		if (oldCell.getLife() == 1) {
-			// Cell will stay alive
-			if (oldCell.getNeighbors() == 2 || oldCell.getNeighbors() == 3)
-				newCell.setLife(1);
-			// Cell will die
+	static LifeMetrics createMetrics(LifeOptions options) throws IOException {
+		List<MetricsReporter> reporters = new ArrayList<MetricsReporter>();
+		for (String reporter : options.getMetrics()) {
+			if (reporter.equals("console"))
+				reporters.add(new ConsoleMetricsReporter());
+			else if (reporter.equals("csv"))
+				reporters.add(new CsvMetricsReporter(Paths.get(options.getMetricsFile())));
 			else
-				newCell.setLife(0);
-		}
-		// Cell is dead
-		else {
-			// Cell will come to life
-			if (oldCell.getNeighbors() == 3)
-				newCell.setLife(1);
-			// Cell will stay dead
-			else
-				newCell.setLife(0);
+				reporters.add(new JmxMetricsReporter());
 		}
+		return new LifeMetrics(reporters);
 	}
 
 	/**
-	 * This method implements the two other methods in the class via parallel
-	 * threads for each cell in the current generation's grid. The threads are later
-	 * joined back together in a separate for-each loop.
+	 * This creates the output for the game chosen in the options, writing to the
+	 * console or to the chosen file, and rendering on its own thread if chosen.
 	 * 
-	 * @param currGen   The current generation's grid to use to continue the game
-	 *                  (to look for neighbors/apply rules off of).
-	 * @param futureGen The future generation's grid to use to save the next
-	 *                  generation as a result from applying all the rules of the
-	 *                  game.
-	 * @param columns   The number of columns in both grids.
-	 * @param rows      The number of rows in both grids.
-	 * @throws InterruptedException If thread(s) cannot be joined and are
-	 *                              interrupted, an InterruptedException is thrown.
+	 * @param options The parsed command-line input.
+	 * @return The new output sink.
+	 * @throws IOException If the output file cannot be opened, an IOException (a
+	 *                     FileNotFoundException) is thrown.
 	 */
-	public static void checkCells(Cell[][] currGen, Cell[][] futureGen, int columns, int rows)
-			throws InterruptedException {
-		// List of threads created for each cell
-		ArrayList<Thread> threads = new ArrayList<>();
-		// Loop to create threads and run methods within them.
-		for (int row = 0; row < rows; row++) {
-			for (int column = 0; column < columns; column++) {
-				Integer thread_local_row = row;
-				Integer thread_local_column = column;
-				Thread t = new Thread(() -> {
-					countNeighbors(currGen, thread_local_row, thread_local_column, rows, columns);
-					checkNeighbors(currGen[thread_local_row][thread_local_column],
-							futureGen[thread_local_row][thread_local_column]);
-				});
-				t.start();
-				threads.add(t);
-			}
-		}
-		// Loop to join/terminate the threads, if failed an InterruptedException is
-		// generated.
-		for (Thread t : threads)
+	static GenerationSink createSink(LifeOptions options) throws IOException {
+		WritableByteChannel channel;
+		boolean closeChannel = options.getOutFile() != null;
+		if (closeChannel) {
+			// Error Handling for the output file
 			try {
-				t.join();
-			} catch (InterruptedException e) {
-				throw new InterruptedException(
-						"There was a problem with joining 1 or more threads, as the process has been interrupted.");
+				channel = FileChannel.open(Paths.get(options.getOutFile()), StandardOpenOption.CREATE,
+						StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+			} catch (IOException e) {
+				throw new FileNotFoundException("The output file could not be properly accessed.");
 			}
+		} else
+			channel = ChannelSink.standardOutput();
+		GenerationSink sink;
+		// The console sees every generation as soon as it is rendered
+		if (options.getFormat().equals("rle"))
+			sink = new RunLengthSink(channel, closeChannel, !closeChannel);
+		else
+			sink = new TextSink(channel, closeChannel, !closeChannel);
+		if (options.getRender().equals("sync"))
+			return sink;
+		return new PipelinedSink(sink, options.getRenderBuffer(), options.getRender().equals("drop"));
 	}
 }
@@ -0,0 +1,411 @@
+/**
+ * @file LifeBatch.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the LifeBatch class, which runs many boards from a manifest file in one JVM.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.LifeBatch <manifest file name/path> [batch options] [Life options]
+ */
+package edu.ncsu.csc246.main;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * This class runs many boards in one JVM, so that JVM startup and JIT warmup
+ * are paid once for a whole parameter sweep instead of once per board. The
+ * boards are listed in a manifest file, one per line:
+ *
+ * <pre>
+ * &lt;file name/path&gt; &lt;number of generations&gt; [&lt;output file name/path&gt;]
+ * </pre>
+ *
+ * (relative paths are relative to the manifest's directory, and blank lines and
+ * lines starting with # are skipped). Every board runs in one shared pool of
+ * threads, and engines that run on a ForkJoinPool (the tiled engine) share one
+ * more pool of the same size. The cell engine shares CellRule's scheduler,
+ * which runs the boards' generations one at a time, unless --threads or
+ * --scheduler gives each board a scheduler of its own, shut down when the
+ * board finishes. Each task advances its board a slice of generations and then
+ * puts the board back at the end of the pool's queue, so the boards are
+ * interleaved and a long board does not hold up the short ones behind it. Only
+ * a window of boards is loaded at once, which bounds the memory used however
+ * long the manifest is.
+ *
+ * When a board finishes, its final generation is written to its output file
+ * (if it has one), and its result is written as a line of CSV, in manifest
+ * order, once every board has finished. A board that fails is reported in its
+ * result line without stopping the others.
+ */
+public class LifeBatch {
+	/** The format of the command-line input, used in error messages. */
+	static final String USAGE = "java edu.ncsu.csc246.main.LifeBatch <manifest file name/path> [--pool <n>]"
+			+ " [--slice <n>] [--window <n>] [--out-dir <directory>] [--results <file name/path>]"
+			+ " [--engine <engine>] [--rule <B/S rule>] [--format text|rle] [--memo <megabytes>]"
+			+ " [--bands <n>] [--band-engine <engine>] [--transport socket|local] [--threads <n>]"
+			+ " [--scheduler stripe|platform|virtual]";
+	/** The header line of the results, naming the columns. */
+	static final String HEADER = "file,generations,rows,columns,population,step_ns,status";
+
+	/** The boards in manifest order. */
+	private final List<Board> boards;
+	/** The number of generations each task advances a board. */
+	private final long slice;
+	/** The shared pool the boards run in. */
+	private final ExecutorService pool;
+	/** The shared pool the boards' engines split their generations across. */
+	private final ForkJoinPool engines;
+	/** The count of boards that have not finished yet. */
+	private CountDownLatch remaining;
+	/** The index of the next board to load. */
+	private int next;
+
+	/**
+	 * This is the constructor, which creates a batch of boards run in a pool of
+	 * the given number of threads.
+	 *
+	 * @param boards  The boards in manifest order.
+	 * @param threads The number of threads in the pool.
+	 * @param slice   The number of generations each task advances a board.
+	 */
+	LifeBatch(List<Board> boards, int threads, long slice) {
+		this.boards = boards;
+		this.slice = slice;
+		pool = Executors.newFixedThreadPool(threads);
+		engines = new ForkJoinPool(threads);
+	}
+
+	/**
+	 * This represents one board of the batch: its options (as they would be given
+	 * to Life), the engine running it once it is loaded, and its result.
+	 */
+	static class Board implements Runnable {
+		/** The batch the board belongs to. */
+		private final LifeBatch batch;
+		/** The options for the board, including its input and output files. */
+		private final LifeOptions options;
+		/** The engine running the board, or null before it is loaded. */
+		private LifeEngine engine;
+		/** The current generation. */
+		private long generation;
+		/** The nanoseconds spent advancing the board. */
+		private long nanos;
+		/** The number of rows in the final generation. */
+		private int rows;
+		/** The number of columns in the final generation. */
+		private int columns;
+		/** The number of live cells in the final generation. */
+		private long population;
+		/** The reason the board failed, or null if it did not. */
+		private String failure;
+
+		/**
+		 * This is the constructor, which creates a board that has not been loaded
+		 * yet.
+		 *
+		 * @param batch   The batch the board belongs to.
+		 * @param options The options for the board.
+		 */
+		Board(LifeBatch batch, LifeOptions options) {
+			this.batch = batch;
+			this.options = options;
+		}
+
+		/**
+		 * This runs one task of the board: loading it if needed, advancing it a
+		 * slice of generations, and then either putting it back in the pool's queue
+		 * or finishing it. Whatever is thrown (even an Error) is reported as the
+		 * board's failure, and the board is still finished, so the batch does not
+		 * wait for it forever.
+		 */
+		@Override
+		public void run() {
+			boolean requeued = false;
+			try {
+				if (engine == null)
+					engine = Life.loadEngine(options, Paths.get(options.getFileName()), batch.engines);
+				long start = System.nanoTime();
+				long generations = Math.min(batch.slice, options.getGenerations() - generation);
+				engine.advance(generations);
+				generation += generations;
+				nanos += System.nanoTime() - start;
+				if (generation < options.getGenerations()) {
+					batch.pool.execute(this);
+					requeued = true;
+					return;
+				}
+				rows = engine.getRows();
+				columns = engine.getColumns();
+				population = population(engine);
+				if (options.getOutFile() != null) {
+					try (GenerationSink sink = Life.createSink(options)) {
+						sink.write("Generation " + generation + ": ", engine);
+					}
+				}
+			} catch (Throwable e) {
+				failure = e.getClass().getSimpleName() + ": " + e.getMessage();
+			} finally {
+				if (!requeued)
+					finish();
+			}
+		}
+
+		/**
+		 * This lets go of the board's engine, stopping any threads/processes it
+		 * started, and starts the next board in the manifest.
+		 */
+		private void finish() {
+			try {
+				if (engine instanceof Closeable)
+					((Closeable) engine).close();
+			} catch (IOException | RuntimeException e) {
+				if (failure == null)
+					failure = e.getClass().getSimpleName() + ": " + e.getMessage();
+			} finally {
+				engine = null;
+				try {
+					batch.startNext();
+				} finally {
+					batch.remaining.countDown();
+				}
+			}
+		}
+
+		/**
+		 * This returns the board's result as a line of CSV.
+		 *
+		 * @return The result line.
+		 */
+		private String result() {
+			String status = failure == null ? "ok" : failure.replace('"', '\'');
+			return "\"" + options.getFileName() + "\"," + options.getGenerations() + "," + rows + "," + columns + ","
+					+ population + "," + nanos + ",\"" + status + "\"";
+		}
+	}
+
+	/**
+	 * This loads the next board in the manifest, if there are any left, by handing
+	 * it to the pool.
+	 */
+	private synchronized void startNext() {
+		if (next < boards.size())
+			pool.execute(boards.get(next++));
+	}
+
+	/**
+	 * This runs every board, starting a window of them at once and another one
+	 * each time one finishes, and waits for all of them to finish.
+	 *
+	 * @param window The number of boards loaded at once.
+	 * @throws InterruptedException If the thread is interrupted while waiting on
+	 *                              the boards, an InterruptedException is thrown.
+	 */
+	void run(int window) throws InterruptedException {
+		remaining = new CountDownLatch(boards.size());
+		try {
+			for (int i = 0; i < window; i++)
+				startNext();
+			remaining.await();
+		} finally {
+			pool.shutdown();
+			engines.shutdown();
+		}
+	}
+
+	/**
+	 * This counts the live cells of the engine's grid.
+	 *
+	 * @param engine The engine holding the grid.
+	 * @return The number of live cells.
+	 */
+	static long population(LifeEngine engine) {
+		if (engine instanceof SparseEngine)
+			return ((SparseEngine) engine).getPopulation();
+		long[] words = new long[(engine.getColumns() + 63) >>> 6];
+		long population = 0;
+		for (int row = 0; row < engine.getRows(); row++) {
+			engine.getRow(row, words);
+			for (long word : words)
+				population += Long.bitCount(word);
+		}
+		return population;
+	}
+
+	/**
+	 * The main method reads the manifest, runs every board in it, and writes the
+	 * result of each board, in manifest order, to the results file or the
+	 * console. Any options after the batch options are given to every board as if
+	 * they were given to Life (the engine is packed unless one is given).
+	 *
+	 * @param args The command-line input.
+	 * @throws IOException              If the manifest cannot be read or the
+	 *                                  results cannot be written, an IOException is
+	 *                                  thrown.
+	 * @throws IllegalArgumentException If any command-line input or line of the
+	 *                                  manifest is invalid, an
+	 *                                  IllegalArgumentException is thrown.
+	 * @throws InterruptedException     If the thread is interrupted while waiting
+	 *                                  on the boards, an InterruptedException is
+	 *                                  thrown.
+	 */
+	public static void main(String[] args) throws IOException, IllegalArgumentException, InterruptedException {
+		// Error Handling for the command-line inputs
+		if (args.length < 1 || args.length % 2 == 0)
+			throw new IllegalArgumentException("The command line input should be in the format: " + USAGE + ".");
+		Path manifest = Paths.get(args[0]);
+		int threads = Runtime.getRuntime().availableProcessors();
+		long slice = 64;
+		int window = -1;
+		Path outDir = null;
+		Path results = null;
+		String extension = ".txt";
+		List<String> shared = new ArrayList<String>(Arrays.asList("--engine", "packed"));
+		for (int i = 1; i < args.length; i += 2) {
+			String value = args[i + 1];
+			switch (args[i]) {
+			case "--pool":
+				threads = (int) Math.min(Integer.MAX_VALUE, parsePositive(value,
+						"The command line input for --pool should be a number greater than 0."));
+				break;
+			case "--slice":
+				slice = parsePositive(value, "The command line input for --slice should be a number greater than 0.");
+				break;
+			case "--window":
+				window = (int) Math.min(Integer.MAX_VALUE, parsePositive(value,
+						"The command line input for --window should be a number greater than 0."));
+				break;
+			case "--out-dir":
+				outDir = Paths.get(value);
+				break;
+			case "--results":
+				results = Paths.get(value);
+				break;
+			case "--format":
+				extension = value.equals("rle") ? ".rle" : ".txt";
+				shared.add(args[i]);
+				shared.add(value);
+				break;
+			case "--engine":
+			case "--rule":
+			case "--memo":
+			case "--bands":
+			case "--band-engine":
+			case "--transport":
+			case "--threads":
+			case "--scheduler":
+				shared.add(args[i]);
+				shared.add(value);
+				break;
+			default:
+				throw new IllegalArgumentException("The command line input should be in the format: " + USAGE + ".");
+			}
+		}
+		if (window < 0)
+			window = threads * 4;
+		if (outDir != null)
+			Files.createDirectories(outDir);
+		List<Board> boards = new ArrayList<Board>();
+		LifeBatch batch = new LifeBatch(boards, threads, slice);
+		readManifest(manifest, outDir, shared, extension, batch, boards);
+		batch.run(window);
+		// Write the results, in manifest order, to the chosen file or the console
+		Writer writer = results == null ? new OutputStreamWriter(System.out, StandardCharsets.US_ASCII)
+				: Files.newBufferedWriter(results, StandardCharsets.US_ASCII);
+		try (BufferedWriter out = new BufferedWriter(writer)) {
+			out.write(HEADER);
+			out.newLine();
+			for (Board board : boards) {
+				out.write(board.result());
+				out.newLine();
+			}
+		}
+	}
+
+	/**
+	 * This reads the boards from the manifest, giving each one the shared options
+	 * and its own input file, number of generations, and output file.
+	 *
+	 * @param manifest  The path of the manifest.
+	 * @param outDir    The directory to write output files to when the manifest
+	 *                  does not name one, or null to only write those it names.
+	 * @param shared    The options given to every board.
+	 * @param extension The extension of the output files written to outDir.
+	 * @param batch     The batch the boards belong to.
+	 * @param boards    The list to add the boards to.
+	 * @throws IOException              If the manifest cannot be read, an
+	 *                                  IOException is thrown.
+	 * @throws IllegalArgumentException If a line of the manifest is invalid, an
+	 *                                  IllegalArgumentException is thrown.
+	 */
+	static void readManifest(Path manifest, Path outDir, List<String> shared, String extension,
+			LifeBatch batch, List<Board> boards)
+			throws IOException, IllegalArgumentException {
+		Path base = manifest.toAbsolutePath().getParent();
+		List<String> lines = Files.readAllLines(manifest, StandardCharsets.UTF_8);
+		for (int i = 0; i < lines.size(); i++) {
+			String line = lines.get(i).trim();
+			if (line.isEmpty() || line.startsWith("#"))
+				continue;
+			String[] fields = line.split("\\s+");
+			// Error Handling for each line of the manifest
+			if (fields.length < 2 || fields.length > 3)
+				throw new IllegalArgumentException("Line " + (i + 1) + " of the manifest should be in the format:"
+						+ " <file name/path> <number of generations> [<output file name/path>].");
+			List<String> args = new ArrayList<String>();
+			args.add(base.resolve(fields[0]).toString());
+			args.add(fields[1]);
+			args.addAll(shared);
+			if (fields.length == 3) {
+				args.add("--out");
+				args.add(base.resolve(fields[2]).toString());
+			} else if (outDir != null) {
+				String name = Paths.get(fields[0]).getFileName().toString().replaceFirst("\\.[^.]*$", "");
+				args.add("--out");
+				args.add(outDir.resolve(name + "-" + (boards.size() + 1) + extension).toString());
+			}
+			try {
+				boards.add(new Board(batch, LifeOptions.parse(args.toArray(new String[0]))));
+			} catch (IllegalArgumentException e) {
+				throw new IllegalArgumentException("Line " + (i + 1) + " of the manifest is invalid: " + e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * This parses a number greater than 0 from the command-line input.
+	 *
+	 * @param value   The command-line input to parse.
+	 * @param message The message to use if the input is invalid.
+	 * @return The parsed number.
+	 * @throws IllegalArgumentException If the input is not a number greater than
+	 *                                  0, an IllegalArgumentException is thrown.
+	 */
+	private static long parsePositive(String value, String message) throws IllegalArgumentException {
+		try {
+			long number = Long.parseLong(value.trim());
+			if (number <= 0)
+				throw new Exception();
+			return number;
+		} catch (Exception e) {
+			throw new IllegalArgumentException(message);
+		}
+	}
+}
@@ -0,0 +1,73 @@
+/**
+ * @file LifeEngine.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the LifeEngine interface, which every grid backend for the game implements.
+ * This program was developed via the Eclipse IDE for Developers.
+ * 
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> [options]
+ */
+package edu.ncsu.csc246.main;
+
+/**
+ * This interface describes a grid backend for the game, so that Life can read,
+ * run, and print a game without knowing how the grid is stored or how the next
+ * generation is computed. Every engine uses the same wraparound (torus) grid as
+ * CellRule, and applies the LifeRule it was created with (Conway's by default).
+ * Reading the grid is described by LifeGrid, which this extends with changing
+ * and stepping it.
+ */
+public interface LifeEngine extends LifeGrid {
+
+	/**
+	 * This sets whether the cell at the given row and column is alive(1) or
+	 * dead(0) in the current generation.
+	 * 
+	 * @param row    The row of the cell.
+	 * @param column The column of the cell.
+	 * @param alive  1 if the cell is alive, 0 if it is dead.
+	 * @throws IllegalArgumentException If the alive value is not 0 or 1, an
+	 *                                  IllegalArgumentException is thrown.
+	 */
+	void setLife(int row, int column, int alive) throws IllegalArgumentException;
+
+	/**
+	 * This advances the grid by one generation.
+	 * 
+	 * @throws InterruptedException If the engine's thread(s) are interrupted, an
+	 *                              InterruptedException is thrown.
+	 */
+	void step() throws InterruptedException;
+
+	/**
+	 * This advances the grid by the given number of generations. By default this
+	 * steps one generation at a time, but engines that can jump many generations
+	 * at once (such as HashLifeEngine) override it.
+	 * 
+	 * @param generations The number of generations to advance.
+	 * @throws InterruptedException If the engine's thread(s) are interrupted, an
+	 *                              InterruptedException is thrown.
+	 */
+	default void advance(long generations) throws InterruptedException {
+		for (long i = 0; i < generations; i++)
+			step();
+	}
+
+	/**
+	 * This sets one row of the current generation from the given words, one bit
+	 * per cell (cell c is bit c % 64 of word c / 64), as stored by BinaryGrid. By
+	 * default this sets the row cell by cell, but engines that already store
+	 * packed rows override it.
+	 * 
+	 * @param row   The row to set.
+	 * @param words The words to set the row from, at least (columns + 63) / 64
+	 *              long.
+	 */
+	default void setRow(int row, long[] words) {
+		for (int column = 0; column < getColumns(); column++)
+			setLife(row, column, (int) (words[column >>> 6] >>> (column & 63)) & 1);
+	}
+}
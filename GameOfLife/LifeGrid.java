@@ -0,0 +1,71 @@
+/**
+ * @file LifeGrid.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the LifeGrid interface, which reads one generation of a grid for the game.
+ * This program was developed via the Eclipse IDE for Developers.
+ * 
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> [options]
+ */
+package edu.ncsu.csc246.main;
+
+import java.util.Arrays;
+
+/**
+ * This interface describes a read-only view of one generation of a grid, so
+ * that the output sinks can print a grid whether it is held by a running
+ * engine or by a copy of an earlier generation (such as a GridSnapshot).
+ */
+public interface LifeGrid {
+
+	/**
+	 * This returns the number of rows in the grid.
+	 * 
+	 * @return The number of rows in the grid.
+	 */
+	int getRows();
+
+	/**
+	 * This returns the number of columns in the grid.
+	 * 
+	 * @return The number of columns in the grid.
+	 */
+	int getColumns();
+
+	/**
+	 * This returns the rules of the game the grid is run with.
+	 * 
+	 * @return The rules of the game.
+	 */
+	LifeRule getRule();
+
+	/**
+	 * This returns whether the cell at the given row and column is alive(1) or
+	 * dead(0) in the current generation.
+	 * 
+	 * @param row    The row of the cell.
+	 * @param column The column of the cell.
+	 * @return 1 if the cell is alive, 0 if it is dead.
+	 */
+	int getLife(int row, int column);
+
+	/**
+	 * This copies one row of the current generation into the given words, one bit
+	 * per cell (cell c is bit c % 64 of word c / 64), as stored by BinaryGrid. By
+	 * default this reads the row cell by cell, but grids that already store
+	 * packed rows override it.
+	 * 
+	 * @param row   The row to copy.
+	 * @param words The words to copy the row into, at least (columns + 63) / 64
+	 *              long.
+	 */
+	default void getRow(int row, long[] words) {
+		Arrays.fill(words, 0);
+		for (int column = 0; column < getColumns(); column++)
+			if (getLife(row, column) == 1)
+				words[column >>> 6] |= 1L << (column & 63);
+	}
+}
@@ -0,0 +1,303 @@
+/**
+ * @file LifeMetrics.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the LifeMetrics class, which measures each generation of the game for MetricsReporters.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> --metrics console|csv|jmx
+ */
+package edu.ncsu.csc246.main;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class measures the game as it runs: how long each phase of the game
+ * takes (in nanoseconds), and after each advance, the population, the number
+ * of cells born and died, the bytes allocated by the game's thread, and the
+ * number of live threads. Each record is handed to every MetricsReporter.
+ *
+ * The births and deaths are only known for a record one generation after the
+ * last: over more generations (with --every or --print final) a cell can be
+ * born and die again in between, which comparing the two grids cannot see.
+ * The bytes allocated are only those of the thread driving the game; the
+ * threads of the cell engine's schedulers, the tiled engine's pool, and the
+ * banded engine's bands are not counted.
+ *
+ * Timing a phase is just a call to System.nanoTime, and the population is
+ * counted from packed rows (as in CycleDetector), so the metrics are cheap
+ * enough to leave on. With no reporters, nothing is recorded at all. The same
+ * LifeMetrics object is reused for every record, so reporters must copy out
+ * anything they keep.
+ */
+public class LifeMetrics implements Closeable {
+
+	/**
+	 * This enum lists the phases of the game that are timed.
+	 */
+	public enum Phase {
+		/** Reading/parsing the input file into the engine. */
+		LOAD,
+		/** Advancing the engine (counting neighbors and applying the rules). */
+		STEP,
+		/** Copying the grid for a checkpoint. */
+		CHECKPOINT,
+		/** Checking the grid for a cycle. */
+		CYCLES,
+		/** Printing (or writing) the grid. */
+		OUTPUT
+	}
+
+	/** The reporters each record is handed to. */
+	private final List<MetricsReporter> reporters;
+	/** The JVM's thread statistics. */
+	private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+	/** The time the current phase started at. */
+	private long mark;
+	/** The nanoseconds spent in each phase since the last record. */
+	private final long[] nanos = new long[Phase.values().length];
+	/** The generation of the last record. */
+	private long generation;
+	/** The number of generations advanced since the record before it. */
+	private long advanced;
+	/** The number of live cells. */
+	private long population;
+	/** The number of cells that came to life, or -1 if it is not known. */
+	private long births;
+	/** The number of cells that died, or -1 if it is not known. */
+	private long deaths;
+	/** The bytes allocated by the game's thread, or -1 if it is not known. */
+	private long allocatedBytes;
+	/** The number of live threads in the JVM. */
+	private int threadCount;
+	/** The total bytes allocated by the game's thread when it was last read. */
+	private long lastAllocated = -1;
+	/** The packed rows of the last recorded generation, or null before it. */
+	private long[][] previous;
+	/** A buffer for one packed row of the current generation. */
+	private long[] row;
+
+	/**
+	 * This is the constructor, which creates a LifeMetrics that hands its records
+	 * to the given reporters.
+	 *
+	 * @param reporters The reporters (empty to not record anything).
+	 */
+	public LifeMetrics(List<MetricsReporter> reporters) {
+		this.reporters = reporters;
+		lastAllocated = readAllocated();
+		mark = System.nanoTime();
+	}
+
+	/**
+	 * This returns whether anything is being recorded.
+	 *
+	 * @return true if there are any reporters, false otherwise.
+	 */
+	public boolean isEnabled() {
+		return !reporters.isEmpty();
+	}
+
+	/**
+	 * This starts timing a phase from now.
+	 */
+	public void start() {
+		mark = System.nanoTime();
+	}
+
+	/**
+	 * This ends timing the given phase, adding the time since the last start (or
+	 * end) to it, and starts timing the next phase.
+	 *
+	 * @param phase The phase that just ended.
+	 */
+	public void end(Phase phase) {
+		long now = System.nanoTime();
+		nanos[phase.ordinal()] += now - mark;
+		mark = now;
+	}
+
+	/**
+	 * This records the engine's current generation and hands the record to every
+	 * reporter, then clears the phase timings for the next record.
+	 *
+	 * @param engine     The engine holding the grid.
+	 * @param generation The current generation.
+	 * @param advanced   The number of generations advanced since the last
+	 *                   record.
+	 * @throws IOException If a reporter cannot write the record, an IOException
+	 *                     is thrown.
+	 */
+	public void record(LifeEngine engine, long generation, long advanced) throws IOException {
+		if (reporters.isEmpty())
+			return;
+		this.generation = generation;
+		this.advanced = advanced;
+		countPopulation(engine);
+		long allocated = readAllocated();
+		allocatedBytes = allocated < 0 || lastAllocated < 0 ? -1 : allocated - lastAllocated;
+		lastAllocated = allocated;
+		threadCount = threads.getThreadCount();
+		for (MetricsReporter reporter : reporters)
+			reporter.report(this);
+		Arrays.fill(nanos, 0);
+		mark = System.nanoTime();
+	}
+
+	/**
+	 * This counts the live cells, and the cells born and died since the last
+	 * record, by comparing the packed rows with the last recorded ones. If the
+	 * grid has changed size (or is a window onto the sparse engine's plane, which
+	 * moves), or more than one generation has gone by, the births and deaths are
+	 * not known.
+	 *
+	 * @param engine The engine holding the grid.
+	 */
+	private void countPopulation(LifeEngine engine) {
+		if (engine instanceof SparseEngine) {
+			population = ((SparseEngine) engine).getPopulation();
+			births = -1;
+			deaths = -1;
+			return;
+		}
+		int rows = engine.getRows();
+		int words = (engine.getColumns() + 63) >>> 6;
+		boolean known = previous != null && previous.length == rows && previous[0].length == words;
+		if (!known)
+			previous = new long[rows][words];
+		if (row == null || row.length != words)
+			row = new long[words];
+		population = 0;
+		births = 0;
+		deaths = 0;
+		for (int r = 0; r < rows; r++) {
+			engine.getRow(r, row);
+			long[] old = previous[r];
+			for (int w = 0; w < words; w++) {
+				population += Long.bitCount(row[w]);
+				births += Long.bitCount(row[w] & ~old[w]);
+				deaths += Long.bitCount(old[w] & ~row[w]);
+				old[w] = row[w];
+			}
+		}
+		if (!known || advanced != 1) {
+			births = -1;
+			deaths = -1;
+		}
+	}
+
+	/**
+	 * This reads the total bytes allocated by the current thread (the thread
+	 * driving the game, not any worker threads of the engine), if the JVM can
+	 * measure it.
+	 *
+	 * @return The total bytes allocated, or -1 if it cannot be measured.
+	 */
+	private long readAllocated() {
+		if (threads instanceof com.sun.management.ThreadMXBean) {
+			com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+			if (allocations.isThreadAllocatedMemorySupported() && allocations.isThreadAllocatedMemoryEnabled())
+				return allocations.getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+		return -1;
+	}
+
+	/**
+	 * This returns the generation of the record.
+	 *
+	 * @return generation: The generation of the record.
+	 */
+	public long getGeneration() {
+		return generation;
+	}
+
+	/**
+	 * This returns the number of generations advanced since the record before.
+	 *
+	 * @return advanced: The number of generations advanced.
+	 */
+	public long getAdvanced() {
+		return advanced;
+	}
+
+	/**
+	 * This returns the number of live cells.
+	 *
+	 * @return population: The number of live cells.
+	 */
+	public long getPopulation() {
+		return population;
+	}
+
+	/**
+	 * This returns the number of cells that came to life since the record before,
+	 * if it was one generation before.
+	 *
+	 * @return births: The number of cells born, or -1 if it is not known.
+	 */
+	public long getBirths() {
+		return births;
+	}
+
+	/**
+	 * This returns the number of cells that died since the record before, if it
+	 * was one generation before.
+	 *
+	 * @return deaths: The number of cells that died, or -1 if it is not known.
+	 */
+	public long getDeaths() {
+		return deaths;
+	}
+
+	/**
+	 * This returns the nanoseconds spent in the given phase since the record
+	 * before.
+	 *
+	 * @param phase The phase.
+	 * @return The nanoseconds spent in the phase.
+	 */
+	public long getNanos(Phase phase) {
+		return nanos[phase.ordinal()];
+	}
+
+	/**
+	 * This returns the bytes allocated by the game's thread since the record
+	 * before (not counting any worker threads of the engine).
+	 *
+	 * @return allocatedBytes: The bytes allocated, or -1 if it is not known.
+	 */
+	public long getAllocatedBytes() {
+		return allocatedBytes;
+	}
+
+	/**
+	 * This returns the number of live threads in the JVM (the game's thread plus
+	 * any worker threads the engine uses).
+	 *
+	 * @return threadCount: The number of live threads.
+	 */
+	public int getThreads() {
+		return threadCount;
+	}
+
+	/**
+	 * This closes every reporter (which is when the console reporter prints its
+	 * summary).
+	 *
+	 * @throws IOException If a reporter cannot be closed, an IOException is
+	 *                     thrown.
+	 */
+	@Override
+	public void close() throws IOException {
+		for (MetricsReporter reporter : reporters)
+			reporter.close();
+	}
+}
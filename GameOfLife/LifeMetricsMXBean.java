@@ -0,0 +1,92 @@
+/**
+ * @file LifeMetricsMXBean.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the LifeMetricsMXBean interface, which lists the metrics JmxMetricsReporter publishes.
+ * This program was developed via the Eclipse IDE for Developers.
+ * 
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> --metrics jmx
+ */
+package edu.ncsu.csc246.main;
+
+/**
+ * This interface lists the attributes of the MBean JmxMetricsReporter publishes
+ * the game's metrics through (the name must end in MXBean for JMX to find it).
+ */
+public interface LifeMetricsMXBean {
+
+	/**
+	 * This returns the generation of the latest record.
+	 * 
+	 * @return The current generation.
+	 */
+	long getGeneration();
+
+	/**
+	 * This returns the number of live cells.
+	 * 
+	 * @return The current population.
+	 */
+	long getPopulation();
+
+	/**
+	 * This returns the number of cells born in the latest record.
+	 * 
+	 * @return The number of cells born, or -1 if it is not known.
+	 */
+	long getBirths();
+
+	/**
+	 * This returns the number of cells that died in the latest record.
+	 * 
+	 * @return The number of cells that died, or -1 if it is not known.
+	 */
+	long getDeaths();
+
+	/**
+	 * This returns the nanoseconds spent stepping in the latest record.
+	 * 
+	 * @return The nanoseconds spent stepping.
+	 */
+	long getStepNanos();
+
+	/**
+	 * This returns the nanoseconds spent stepping in every record.
+	 * 
+	 * @return The total nanoseconds spent stepping.
+	 */
+	long getTotalStepNanos();
+
+	/**
+	 * This returns the nanoseconds spent outside of stepping (loading,
+	 * checkpoints, cycle checks, and output) in every record.
+	 * 
+	 * @return The total nanoseconds spent outside of stepping.
+	 */
+	long getTotalOtherNanos();
+
+	/**
+	 * This returns the total number of generations advanced.
+	 * 
+	 * @return The total number of generations advanced.
+	 */
+	long getTotalGenerations();
+
+	/**
+	 * This returns the bytes allocated by the game's thread in the latest
+	 * record.
+	 * 
+	 * @return The bytes allocated, or -1 if it is not known.
+	 */
+	long getAllocatedBytes();
+
+	/**
+	 * This returns the number of live threads in the latest record.
+	 * 
+	 * @return The number of live threads.
+	 */
+	int getThreads();
+}
@@ -0,0 +1,475 @@
+/**
+ * @file LifeOptions.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the LifeOptions class, which parses and holds the command-line input for Life.
+ * This program was developed via the Eclipse IDE for Developers.
+ * 
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> [options]
+ */
+package edu.ncsu.csc246.main;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class parses the command-line input for Life and holds the resulting
+ * options, along with error-handling for any invalid input. The first two
+ * inputs are always the file name/path and the number of generations, and any
+ * others are optional and given as "--name value" pairs.
+ */
+public class LifeOptions {
+	/** The format of the command-line input, used in error messages. */
+	static final String USAGE = "java edu.ncsu.csc246.main.Life <file name/path> <number of generations>"
+			+ " [--engine cell|packed|hashlife|tracking|vector|tiled|banded|sparse] [--every <n>] [--memo <megabytes>]"
+			+ " [--print all|final] [--format text|rle] [--out <file name/path>] [--save <file name/path>]"
+			+ " [--checkpoint <file name/path>] [--checkpoint-every <n>] [--resume <file name/path>]"
+			+ " [--cycles off|stop|skip] [--cycle-window <n>] [--threads <n>] [--rule <B/S rule>]"
+			+ " [--bands <n>] [--band-engine <engine>] [--transport socket|local] [--scheduler stripe|platform|virtual]"
+			+ " [--render sync|block|drop] [--render-buffer <n>]"
+			+ " [--metrics <console,csv,jmx>] [--metrics-file <file name/path>]";
+
+	/** The file name/path of the starting grid. */
+	private String fileName;
+	/** The number of generations to run. */
+	private long generations;
+	/** The name of the grid backend to use. */
+	private String engine = "cell";
+	/** The number of generations between printed generations. */
+	private long every = 1;
+	/** The cap on the memory used by the HashLife node table, in megabytes. */
+	private long memoMegabytes = 256;
+	/** Whether only the final generation is printed. */
+	private boolean finalOnly;
+	/** The name of the output format. */
+	private String format = "text";
+	/** The file name/path to output to, or null for the console. */
+	private String outFile;
+	/** The file name/path to save the final generation to as a binary grid. */
+	private String saveFile;
+	/** The file name/path to periodically save snapshots to, or null for none. */
+	private String checkpointFile;
+	/** The number of generations between snapshots. */
+	private long checkpointEvery = 1000;
+	/** The file name/path of the snapshot to resume from, or null to start over. */
+	private String resumeFile;
+	/** What to do when a cycle is detected ("off" to not detect cycles). */
+	private String cycles = "off";
+	/** The number of past generations remembered to detect cycles. */
+	private int cycleWindow = 256;
+	/** The number of threads for engines that use them, or 0 for one per core. */
+	private int threads;
+	/** The rules of the game. */
+	private LifeRule rule = LifeRule.CONWAY;
+	/** Whether the rules of the game were given in the command-line input. */
+	private boolean ruleGiven;
+	/** The number of bands the banded engine splits the grid into. */
+	private int bands = 2;
+	/** The name of the grid backend each band of the banded engine uses. */
+	private String bandEngine = "packed";
+	/** How the bands of the banded engine are run ("socket" or "local"). */
+	private String transport = "socket";
+	/** How the cell engine schedules its work ("stripe", "platform", or "virtual"). */
+	private String scheduler = "stripe";
+	/** How the output is rendered ("sync", "block", or "drop"). */
+	private String render = "sync";
+	/** The number of generations the renderer's ring buffer holds. */
+	private int renderBuffer = 16;
+	/** The names of the reporters the game's metrics are sent to (empty for none). */
+	private List<String> metrics = new ArrayList<String>();
+	/** The file name/path the csv metrics reporter writes to. */
+	private String metricsFile = "metrics.csv";
+
+	/**
+	 * This parses the given command-line input into a LifeOptions object.
+	 * 
+	 * @param args The command-line input.
+	 * @return The parsed options.
+	 * @throws IllegalArgumentException If any command-line input is invalid, an
+	 *                                  IllegalArgumentException is thrown.
+	 */
+	public static LifeOptions parse(String[] args) throws IllegalArgumentException {
+		// Error Handling for the number of command-line inputs
+		if (args.length < 2)
+			throw new IllegalArgumentException("The command line input should be in the format: " + USAGE + ".");
+		LifeOptions options = new LifeOptions();
+		options.fileName = args[0];
+		// Error Handling for the second command-line input
+		options.generations = parsePositive(args[1],
+				"The command line input for the number of generations should be a number greater than 0.");
+		// Error Handling for the optional command-line inputs
+		for (int i = 2; i < args.length; i += 2) {
+			if (i + 1 >= args.length)
+				throw new IllegalArgumentException("The command line input should be in the format: " + USAGE + ".");
+			String value = args[i + 1];
+			switch (args[i]) {
+			case "--engine":
+				options.engine = value;
+				break;
+			case "--every":
+				options.every = parsePositive(value,
+						"The command line input for --every should be a number greater than 0.");
+				break;
+			case "--memo":
+				options.memoMegabytes = parsePositive(value,
+						"The command line input for --memo should be a number of megabytes greater than 0.");
+				break;
+			case "--print":
+				if (!value.equals("all") && !value.equals("final"))
+					throw new IllegalArgumentException("The command line input for --print should be all or final.");
+				options.finalOnly = value.equals("final");
+				break;
+			case "--format":
+				if (!value.equals("text") && !value.equals("rle"))
+					throw new IllegalArgumentException("The command line input for --format should be text or rle.");
+				options.format = value;
+				break;
+			case "--out":
+				options.outFile = value;
+				break;
+			case "--save":
+				options.saveFile = value;
+				break;
+			case "--checkpoint":
+				options.checkpointFile = value;
+				break;
+			case "--checkpoint-every":
+				options.checkpointEvery = parsePositive(value,
+						"The command line input for --checkpoint-every should be a number greater than 0.");
+				break;
+			case "--resume":
+				options.resumeFile = value;
+				break;
+			case "--cycles":
+				if (!value.equals("off") && !value.equals("stop") && !value.equals("skip"))
+					throw new IllegalArgumentException("The command line input for --cycles should be off, stop, or skip.");
+				options.cycles = value;
+				break;
+			case "--threads":
+				options.threads = (int) Math.min(Integer.MAX_VALUE, parsePositive(value,
+						"The command line input for --threads should be a number greater than 0."));
+				break;
+			case "--rule":
+				options.rule = LifeRule.parse(value);
+				options.ruleGiven = true;
+				break;
+			case "--bands":
+				options.bands = (int) Math.min(Integer.MAX_VALUE, parsePositive(value,
+						"The command line input for --bands should be a number greater than 0."));
+				break;
+			case "--band-engine":
+				options.bandEngine = value;
+				break;
+			case "--transport":
+				if (!value.equals("socket") && !value.equals("local"))
+					throw new IllegalArgumentException("The command line input for --transport should be socket or local.");
+				options.transport = value;
+				break;
+			case "--scheduler":
+				if (!value.equals("stripe") && !value.equals("platform") && !value.equals("virtual"))
+					throw new IllegalArgumentException(
+							"The command line input for --scheduler should be stripe, platform, or virtual.");
+				options.scheduler = value;
+				break;
+			case "--render":
+				if (!value.equals("sync") && !value.equals("block") && !value.equals("drop"))
+					throw new IllegalArgumentException("The command line input for --render should be sync, block, or drop.");
+				options.render = value;
+				break;
+			case "--render-buffer":
+				options.renderBuffer = (int) Math.min(1 << 20, parsePositive(value,
+						"The command line input for --render-buffer should be a number greater than 0."));
+				break;
+			case "--metrics":
+				options.metrics.clear();
+				for (String reporter : value.split(",")) {
+					if (!reporter.equals("console") && !reporter.equals("csv") && !reporter.equals("jmx"))
+						throw new IllegalArgumentException(
+								"The command line input for --metrics should be a comma-separated list of console, csv, and jmx.");
+					if (!options.metrics.contains(reporter))
+						options.metrics.add(reporter);
+				}
+				break;
+			case "--metrics-file":
+				options.metricsFile = value;
+				break;
+			case "--cycle-window":
+				options.cycleWindow = (int) Math.min(Integer.MAX_VALUE, parsePositive(value,
+						"The command line input for --cycle-window should be a number greater than 0."));
+				break;
+			default:
+				throw new IllegalArgumentException("The command line input should be in the format: " + USAGE + ".");
+			}
+		}
+		// Error Handling for options that need the grid to keep its size
+		if (options.engine.equals("sparse") && (!options.cycles.equals("off") || options.checkpointFile != null))
+			throw new IllegalArgumentException(
+					"The sparse engine cannot be used with --cycles or --checkpoint, since its grid changes size.");
+		return options;
+	}
+
+	/**
+	 * This parses a number greater than 0 from the command-line input.
+	 * 
+	 * @param value   The command-line input to parse.
+	 * @param message The message to use if the input is invalid.
+	 * @return The parsed number.
+	 * @throws IllegalArgumentException If the input is not a number greater than
+	 *                                  0, an IllegalArgumentException is thrown.
+	 */
+	private static long parsePositive(String value, String message) throws IllegalArgumentException {
+		try {
+			long number = Long.parseLong(value.trim());
+			if (number <= 0)
+				throw new Exception();
+			return number;
+		} catch (Exception e) {
+			throw new IllegalArgumentException(message);
+		}
+	}
+
+	/**
+	 * This returns the file name/path of the starting grid.
+	 * 
+	 * @return fileName: The file name/path of the starting grid.
+	 */
+	public String getFileName() {
+		return fileName;
+	}
+
+	/**
+	 * This returns the number of generations to run.
+	 * 
+	 * @return generations: The number of generations to run.
+	 */
+	public long getGenerations() {
+		return generations;
+	}
+
+	/**
+	 * This returns the name of the grid backend to use.
+	 * 
+	 * @return engine: The name of the grid backend.
+	 */
+	public String getEngine() {
+		return engine;
+	}
+
+	/**
+	 * This returns the number of generations between printed generations.
+	 * 
+	 * @return every: The number of generations between printed generations.
+	 */
+	public long getEvery() {
+		return every;
+	}
+
+	/**
+	 * This returns the cap on the memory used by the HashLife node table.
+	 * 
+	 * @return memoMegabytes: The cap on the node table, in megabytes.
+	 */
+	public long getMemoMegabytes() {
+		return memoMegabytes;
+	}
+
+	/**
+	 * This returns whether only the final generation is printed.
+	 * 
+	 * @return finalOnly: true if only the final generation is printed.
+	 */
+	public boolean isFinalOnly() {
+		return finalOnly;
+	}
+
+	/**
+	 * This returns the name of the output format ("text" or "rle").
+	 * 
+	 * @return format: The name of the output format.
+	 */
+	public String getFormat() {
+		return format;
+	}
+
+	/**
+	 * This returns the file name/path to output to.
+	 * 
+	 * @return outFile: The file name/path to output to, or null for the console.
+	 */
+	public String getOutFile() {
+		return outFile;
+	}
+
+	/**
+	 * This returns the file name/path to save the final generation to.
+	 * 
+	 * @return saveFile: The file name/path to save to as a binary grid, or null
+	 *         to not save it.
+	 */
+	public String getSaveFile() {
+		return saveFile;
+	}
+
+	/**
+	 * This returns the file name/path to periodically save snapshots to.
+	 * 
+	 * @return checkpointFile: The file name/path of the checkpoint file, or null
+	 *         to not save snapshots.
+	 */
+	public String getCheckpointFile() {
+		return checkpointFile;
+	}
+
+	/**
+	 * This returns the number of generations between snapshots.
+	 * 
+	 * @return checkpointEvery: The number of generations between snapshots.
+	 */
+	public long getCheckpointEvery() {
+		return checkpointEvery;
+	}
+
+	/**
+	 * This returns the file name/path of the snapshot to resume from.
+	 * 
+	 * @return resumeFile: The file name/path of the snapshot, or null to start
+	 *         from the input file.
+	 */
+	public String getResumeFile() {
+		return resumeFile;
+	}
+
+	/**
+	 * This returns what to do when a cycle is detected: "off" to not detect
+	 * cycles, "stop" to stop the game, or "skip" to skip to the final generation.
+	 * 
+	 * @return cycles: What to do when a cycle is detected.
+	 */
+	public String getCycles() {
+		return cycles;
+	}
+
+	/**
+	 * This returns the number of past generations remembered to detect cycles.
+	 * 
+	 * @return cycleWindow: The number of past generations remembered.
+	 */
+	public int getCycleWindow() {
+		return cycleWindow;
+	}
+
+	/**
+	 * This returns the number of threads for engines that use them.
+	 * 
+	 * @return threads: The number of threads, or 0 for one per core.
+	 */
+	public int getThreads() {
+		return threads;
+	}
+
+	/**
+	 * This returns the rules of the game.
+	 * 
+	 * @return rule: The rules of the game (Conway's B3/S23 by default).
+	 */
+	public LifeRule getRule() {
+		return rule;
+	}
+
+	/**
+	 * This sets the rules of the game to the ones given by the input file (such
+	 * as an RLE pattern's header), unless other rules were given in the
+	 * command-line input, which take precedence.
+	 * 
+	 * @param rule The rules of the game given by the input file.
+	 */
+	void setDefaultRule(LifeRule rule) {
+		if (!ruleGiven)
+			this.rule = rule;
+	}
+
+	/**
+	 * This returns the number of bands the banded engine splits the grid into.
+	 * 
+	 * @return bands: The number of bands.
+	 */
+	public int getBands() {
+		return bands;
+	}
+
+	/**
+	 * This returns the name of the grid backend each band of the banded engine
+	 * uses.
+	 * 
+	 * @return bandEngine: The name of the band's grid backend.
+	 */
+	public String getBandEngine() {
+		return bandEngine;
+	}
+
+	/**
+	 * This returns how the bands of the banded engine are run: "socket" for
+	 * separate worker processes linked by localhost sockets, or "local" for
+	 * threads of this process linked by in-process queues.
+	 * 
+	 * @return transport: How the bands are run.
+	 */
+	public String getTransport() {
+		return transport;
+	}
+
+	/**
+	 * This returns how the cell engine schedules its work: "stripe" for a fixed
+	 * pool of threads that each check one stripe of rows, or "platform" or
+	 * "virtual" for one task per row run on a fixed pool of platform threads or
+	 * on virtual threads.
+	 * 
+	 * @return scheduler: How the cell engine schedules its work.
+	 */
+	public String getScheduler() {
+		return scheduler;
+	}
+
+	/**
+	 * This returns how the output is rendered: "sync" on the game's thread, or on
+	 * a renderer thread fed through a ring buffer, where the game either waits
+	 * when the buffer is full ("block") or skips generations ("drop").
+	 * 
+	 * @return render: How the output is rendered.
+	 */
+	public String getRender() {
+		return render;
+	}
+
+	/**
+	 * This returns the number of generations the renderer's ring buffer holds.
+	 * 
+	 * @return renderBuffer: The number of generations the ring buffer holds.
+	 */
+	public int getRenderBuffer() {
+		return renderBuffer;
+	}
+
+	/**
+	 * This returns the names of the reporters the game's metrics are sent to
+	 * ("console", "csv", or "jmx").
+	 * 
+	 * @return metrics: The names of the reporters, or an empty list to not record
+	 *         metrics.
+	 */
+	public List<String> getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * This returns the file name/path the csv metrics reporter writes to.
+	 * 
+	 * @return metricsFile: The file name/path of the CSV file.
+	 */
+	public String getMetricsFile() {
+		return metricsFile;
+	}
+}
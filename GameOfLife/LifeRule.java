@@ -0,0 +1,147 @@
+/**
+ * @file LifeRule.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the LifeRule class, which holds the rules of the game compiled to a lookup table.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> [options]
+ */
+package edu.ncsu.csc246.main;
+
+/**
+ * This class holds the rules of the game as an outer-totalistic rule in B/S
+ * notation: "B" followed by the numbers of neighbors that bring a dead cell to
+ * life, then "S" followed by the numbers of neighbors that keep a live cell
+ * alive. Conway's rules are B3/S23; others include HighLife (B36/S23), Day &
+ * Night (B3678/S34678) and Seeds (B2/S). The rule is compiled once into a
+ * lookup table indexed by whether the cell is alive and its number of
+ * neighbors, so applying it needs no branches.
+ */
+public class LifeRule {
+	/** Conway's rules, B3/S23, which the game uses by default. */
+	public static final LifeRule CONWAY = parse("B3/S23");
+
+	/** The bit mask of the neighbor counts that bring a dead cell to life. */
+	private final int births;
+	/** The bit mask of the neighbor counts that keep a live cell alive. */
+	private final int survivals;
+	/**
+	 * The next state of a cell (1 alive, 0 dead), indexed by alive * 9 plus its
+	 * number of neighbors.
+	 */
+	private final byte[] table = new byte[18];
+
+	/**
+	 * This is the constructor, which compiles the given neighbor counts into the
+	 * lookup table.
+	 *
+	 * @param births    The bit mask of the neighbor counts (0-8) that bring a dead
+	 *                  cell to life.
+	 * @param survivals The bit mask of the neighbor counts (0-8) that keep a live
+	 *                  cell alive.
+	 */
+	private LifeRule(int births, int survivals) {
+		this.births = births;
+		this.survivals = survivals;
+		for (int neighbors = 0; neighbors < 9; neighbors++) {
+			table[neighbors] = (byte) ((births >>> neighbors) & 1);
+			table[9 + neighbors] = (byte) ((survivals >>> neighbors) & 1);
+		}
+	}
+
+	/**
+	 * This parses a rule in B/S notation, such as "B36/S23" (case does not matter,
+	 * and "S23/B36" is also accepted).
+	 *
+	 * @param rule The rule to parse.
+	 * @return The parsed rule.
+	 * @throws IllegalArgumentException If the rule is not in B/S notation, an
+	 *                                  IllegalArgumentException is thrown.
+	 */
+	public static LifeRule parse(String rule) throws IllegalArgumentException {
+		String[] parts = rule.trim().toUpperCase().split("/");
+		// Error Handling for the format of the rule
+		if (parts.length != 2 || parts[0].isEmpty() || parts[1].isEmpty() || parts[0].charAt(0) == parts[1].charAt(0))
+			throw new IllegalArgumentException("The rule should be in B/S notation, such as B3/S23.");
+		int births = 0;
+		int survivals = 0;
+		for (String part : parts) {
+			int mask = 0;
+			for (int i = 1; i < part.length(); i++) {
+				char digit = part.charAt(i);
+				// Error Handling for the neighbor counts of the rule
+				if (digit < '0' || digit > '8')
+					throw new IllegalArgumentException("The rule should be in B/S notation, such as B3/S23.");
+				mask |= 1 << (digit - '0');
+			}
+			if (part.charAt(0) == 'B')
+				births = mask;
+			else if (part.charAt(0) == 'S')
+				survivals = mask;
+			else
+				throw new IllegalArgumentException("The rule should be in B/S notation, such as B3/S23.");
+		}
+		return new LifeRule(births, survivals);
+	}
+
+	/**
+	 * This returns the next state of a cell from the lookup table.
+	 *
+	 * @param alive     1 if the cell is alive, 0 if it is dead.
+	 * @param neighbors The number of live neighbors of the cell (0-8).
+	 * @return 1 if the cell will be alive, 0 if it will be dead.
+	 */
+	public int next(int alive, int neighbors) {
+		return table[alive * 9 + neighbors];
+	}
+
+	/**
+	 * This returns the neighbor counts that bring a dead cell to life.
+	 *
+	 * @return births: The bit mask of the neighbor counts (bit n for n neighbors).
+	 */
+	public int getBirths() {
+		return births;
+	}
+
+	/**
+	 * This returns the neighbor counts that keep a live cell alive.
+	 *
+	 * @return survivals: The bit mask of the neighbor counts (bit n for n
+	 *         neighbors).
+	 */
+	public int getSurvivals() {
+		return survivals;
+	}
+
+	/**
+	 * This returns whether these are Conway's rules (B3/S23).
+	 *
+	 * @return true if these are Conway's rules, false otherwise.
+	 */
+	public boolean isConway() {
+		return births == 1 << 3 && survivals == ((1 << 2) | (1 << 3));
+	}
+
+	/**
+	 * This returns the rule in B/S notation, such as "B36/S23".
+	 *
+	 * @return The rule in B/S notation.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("B");
+		for (int neighbors = 0; neighbors < 9; neighbors++)
+			if ((births >>> neighbors & 1) == 1)
+				sb.append(neighbors);
+		sb.append("/S");
+		for (int neighbors = 0; neighbors < 9; neighbors++)
+			if ((survivals >>> neighbors & 1) == 1)
+				sb.append(neighbors);
+		return sb.toString();
+	}
+}
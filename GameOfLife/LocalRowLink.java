@@ -0,0 +1,95 @@
+/**
+ * @file LocalRowLink.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the LocalRowLink class, which carries boundary rows between bands run in one process.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> --engine banded [--bands <n>]
+ */
+package edu.ncsu.csc246.main;
+
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * This class is an in-process RowLink, which passes copies of rows through a
+ * queue in each direction. It is used to run every band in one process.
+ * Closing either end puts an empty "closed" row in both queues, so a band
+ * waiting on the link (at either end) is woken up and fails instead of waiting
+ * forever for a neighbor that has stopped.
+ */
+class LocalRowLink implements RowLink {
+	/** The row given to the receiver when the link has closed. */
+	private static final long[] CLOSED = new long[0];
+
+	/** The rows sent to this end of the link. */
+	private final BlockingQueue<long[]> incoming;
+	/** The rows sent from this end of the link. */
+	private final BlockingQueue<long[]> outgoing;
+
+	/**
+	 * This is the constructor, which creates one end of a link.
+	 *
+	 * @param incoming The rows sent to this end of the link.
+	 * @param outgoing The rows sent from this end of the link.
+	 */
+	private LocalRowLink(BlockingQueue<long[]> incoming, BlockingQueue<long[]> outgoing) {
+		this.incoming = incoming;
+		this.outgoing = outgoing;
+	}
+
+	/**
+	 * This creates the two connected ends of a link.
+	 *
+	 * @return The two ends of the link.
+	 */
+	static RowLink[] pair() {
+		BlockingQueue<long[]> a = new LinkedBlockingQueue<long[]>();
+		BlockingQueue<long[]> b = new LinkedBlockingQueue<long[]>();
+		return new RowLink[] { new LocalRowLink(a, b), new LocalRowLink(b, a) };
+	}
+
+	/**
+	 * This sends a copy of the row through the queue.
+	 *
+	 * @param row The packed row to send.
+	 */
+	@Override
+	public void send(long[] row) {
+		outgoing.add(row.clone());
+	}
+
+	/**
+	 * This waits for the next row in the queue.
+	 *
+	 * @param row The packed row to receive into.
+	 * @throws IOException          If the link has closed, an IOException is
+	 *                              thrown.
+	 * @throws InterruptedException If the thread is interrupted while waiting, an
+	 *                              InterruptedException is thrown.
+	 */
+	@Override
+	public void receive(long[] row) throws IOException, InterruptedException {
+		long[] next = incoming.take();
+		if (next == CLOSED) {
+			incoming.add(CLOSED);
+			throw new IOException("The link to the neighboring band was closed.");
+		}
+		System.arraycopy(next, 0, row, 0, row.length);
+	}
+
+	/**
+	 * This closes both directions of the link, waking up the band at either end
+	 * if it is waiting for a row.
+	 */
+	@Override
+	public void close() {
+		incoming.add(CLOSED);
+		outgoing.add(CLOSED);
+	}
+}
@@ -0,0 +1,33 @@
+/**
+ * @file MetricsReporter.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the MetricsReporter interface, which every destination for the game's metrics implements.
+ * This program was developed via the Eclipse IDE for Developers.
+ * 
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> --metrics console|csv|jmx
+ */
+package edu.ncsu.csc246.main;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * This interface describes where the metrics LifeMetrics records are sent, so
+ * new destinations can be added without changing the game.
+ */
+public interface MetricsReporter extends Closeable {
+
+	/**
+	 * This reports one record of the game's metrics. The LifeMetrics object is
+	 * reused for the next record, so anything kept must be copied out of it.
+	 * 
+	 * @param metrics The metrics recorded.
+	 * @throws IOException If the record cannot be written, an IOException is
+	 *                     thrown.
+	 */
+	void report(LifeMetrics metrics) throws IOException;
+}
@@ -0,0 +1,335 @@
+/**
+ * @file PackedEngine.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the PackedEngine class, a grid backend that packs 64 cells into each long.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> [options]
+ */
+package edu.ncsu.csc246.main;
+
+/**
+ * This class is a grid backend that stores each row of the grid as an array of
+ * longs, one bit per cell (cell c of a row is bit c % 64 of word c / 64). The
+ * next generation is computed 64 cells at a time by adding the eight
+ * neighbor bit-rows together with bitwise adder logic, instead of counting
+ * neighbors cell by cell. Conway's rules are applied directly to the adder
+ * output; any other LifeRule is applied by comparing the full neighbor count
+ * of all 64 cells against each count in the rule at once. The grid wraps
+ * around (is a torus) exactly as in CellRule.countNeighbors. Two grids are kept and swapped every generation, so
+ * no memory is allocated while the game runs.
+ */
+public class PackedEngine implements LifeEngine {
+	/** The number of rows in the grid. */
+	private final int rows;
+	/** The number of columns in the grid. */
+	private final int columns;
+	/** The number of longs used to store each row. */
+	private final int words;
+	/** The mask of the valid (in-grid) bits of the last word of each row. */
+	private final long lastMask;
+	/** The bit index of the last column within the last word of each row. */
+	private final int lastBit;
+	/** The rules of the game. */
+	private final LifeRule rule;
+	/** The neighbor counts that appear in the rule (as births or survivals). */
+	private final int[] ruleCounts;
+	/** For each count in ruleCounts, all ones if it is a birth, otherwise 0. */
+	private final long[] birthMasks;
+	/** For each count in ruleCounts, all ones if it is a survival, otherwise 0. */
+	private final long[] survivalMasks;
+	/** The packed grid for the current generation. */
+	private long[][] currGen;
+	/** The packed grid the next generation is written to. */
+	private long[][] nextGen;
+
+	/**
+	 * This is the constructor, which creates a packed grid of dead cells of the
+	 * given size.
+	 *
+	 * @param rows    The number of rows in the grid.
+	 * @param columns The number of columns in the grid.
+	 * @throws IllegalArgumentException If the number of rows or columns is not
+	 *                                  positive, an IllegalArgumentException is
+	 *                                  thrown.
+	 */
+	public PackedEngine(int rows, int columns) throws IllegalArgumentException {
+		this(rows, columns, LifeRule.CONWAY);
+	}
+
+	/**
+	 * This is the constructor, which creates a packed grid of dead cells of the
+	 * given size that runs with the given rules.
+	 *
+	 * @param rows    The number of rows in the grid.
+	 * @param columns The number of columns in the grid.
+	 * @param rule    The rules of the game.
+	 * @throws IllegalArgumentException If the number of rows or columns is not
+	 *                                  positive, an IllegalArgumentException is
+	 *                                  thrown.
+	 */
+	public PackedEngine(int rows, int columns, LifeRule rule) throws IllegalArgumentException {
+		if (rows < 1 || columns < 1)
+			throw new IllegalArgumentException("The grid must have at least 1 row and 1 column.");
+		this.rows = rows;
+		this.columns = columns;
+		this.rule = rule;
+		int used = rule.getBirths() | rule.getSurvivals();
+		ruleCounts = new int[Integer.bitCount(used)];
+		birthMasks = new long[ruleCounts.length];
+		survivalMasks = new long[ruleCounts.length];
+		for (int count = 0, i = 0; count < 9; count++) {
+			if ((used >>> count & 1) == 0)
+				continue;
+			ruleCounts[i] = count;
+			birthMasks[i] = -(long) (rule.getBirths() >>> count & 1);
+			survivalMasks[i] = -(long) (rule.getSurvivals() >>> count & 1);
+			i++;
+		}
+		words = (columns + 63) >>> 6;
+		lastBit = (columns - 1) & 63;
+		lastMask = lastBit == 63 ? -1L : (1L << (lastBit + 1)) - 1;
+		currGen = new long[rows][words];
+		nextGen = new long[rows][words];
+	}
+
+	/**
+	 * This returns the number of rows in the grid.
+	 *
+	 * @return rows: The number of rows in the grid.
+	 */
+	@Override
+	public int getRows() {
+		return rows;
+	}
+
+	/**
+	 * This returns the number of columns in the grid.
+	 *
+	 * @return columns: The number of columns in the grid.
+	 */
+	@Override
+	public int getColumns() {
+		return columns;
+	}
+
+	/**
+	 * This returns the rules the engine applies each generation.
+	 *
+	 * @return rule: The rules of the game.
+	 */
+	@Override
+	public LifeRule getRule() {
+		return rule;
+	}
+
+	/**
+	 * This returns whether the cell at the given row and column is alive(1) or
+	 * dead(0) by reading its bit.
+	 *
+	 * @param row    The row of the cell.
+	 * @param column The column of the cell.
+	 * @return 1 if the cell is alive, 0 if it is dead.
+	 */
+	@Override
+	public int getLife(int row, int column) {
+		return (int) (currGen[row][column >>> 6] >>> (column & 63)) & 1;
+	}
+
+	/**
+	 * This sets whether the cell at the given row and column is alive(1) or
+	 * dead(0) by setting or clearing its bit.
+	 *
+	 * @param row    The row of the cell.
+	 * @param column The column of the cell.
+	 * @param alive  1 if the cell is alive, 0 if it is dead.
+	 * @throws IllegalArgumentException If the alive value is not 0 or 1, an
+	 *                                  IllegalArgumentException is thrown.
+	 */
+	@Override
+	public void setLife(int row, int column, int alive) throws IllegalArgumentException {
+		if (alive == 1)
+			currGen[row][column >>> 6] |= 1L << (column & 63);
+		else if (alive == 0)
+			currGen[row][column >>> 6] &= ~(1L << (column & 63));
+		else
+			throw new IllegalArgumentException("The input alive value can only be 0 or 1.");
+	}
+
+	/**
+	 * This copies one row of the current generation into the given words, which
+	 * is a straight copy since the grid is already packed the same way.
+	 *
+	 * @param row   The row to copy.
+	 * @param words The words to copy the row into.
+	 */
+	@Override
+	public void getRow(int row, long[] words) {
+		System.arraycopy(currGen[row], 0, words, 0, currGen[row].length);
+	}
+
+	/**
+	 * This sets one row of the current generation from the given words, which is
+	 * a straight copy since the grid is already packed the same way (any bits
+	 * past the last column are cleared).
+	 *
+	 * @param row   The row to set.
+	 * @param words The words to set the row from.
+	 */
+	@Override
+	public void setRow(int row, long[] words) {
+		long[] target = currGen[row];
+		System.arraycopy(words, 0, target, 0, target.length);
+		target[target.length - 1] &= lastMask;
+	}
+
+	/**
+	 * This advances the grid by one generation, computing each row from the rows
+	 * above and below it (wrapping around) and then swapping the two grids.
+	 */
+	@Override
+	public void step() {
+		boolean conway = rule.isConway();
+		for (int row = 0; row < rows; row++) {
+			long[] up = currGen[row == 0 ? rows - 1 : row - 1];
+			long[] down = currGen[row == rows - 1 ? 0 : row + 1];
+			if (conway)
+				stepRow(up, currGen[row], down, nextGen[row]);
+			else
+				stepRowRule(up, currGen[row], down, nextGen[row]);
+		}
+		long[][] temp = currGen;
+		currGen = nextGen;
+		nextGen = temp;
+	}
+
+	/**
+	 * This computes one row of the next generation from the packed rows above,
+	 * at, and below it. For every word, the eight neighbor bit-rows are summed
+	 * with full adders, so each bit position ends up with its neighbor count
+	 * split into a ones bit and a count of twos, and the rules are applied to all
+	 * 64 cells at once.
+	 *
+	 * @param up     The packed row above.
+	 * @param middle The packed row being computed.
+	 * @param down   The packed row below.
+	 * @param out    The packed row to save the next generation to.
+	 */
+	private void stepRow(long[] up, long[] middle, long[] down, long[] out) {
+		for (int w = 0; w < words; w++) {
+			long u = up[w];
+			long uw = west(up, w);
+			long ue = east(up, w);
+			long m = middle[w];
+			long mw = west(middle, w);
+			long me = east(middle, w);
+			long d = down[w];
+			long dw = west(down, w);
+			long de = east(down, w);
+			// The three cells above sum to upOnes + 2 * upTwos
+			long upOnes = u ^ uw ^ ue;
+			long upTwos = (u & uw) | (ue & (u ^ uw));
+			// The three cells below sum to downOnes + 2 * downTwos
+			long downOnes = d ^ dw ^ de;
+			long downTwos = (d & dw) | (de & (d ^ dw));
+			// The two cells beside sum to sideOnes + 2 * sideTwos
+			long sideOnes = mw ^ me;
+			long sideTwos = mw & me;
+			// Adding the ones gives the lowest bit of the count and one more two
+			long ones = upOnes ^ downOnes ^ sideOnes;
+			long onesTwos = (upOnes & downOnes) | (sideOnes & (upOnes ^ downOnes));
+			// The count is 2 or 3 exactly when exactly one of the four twos is set
+			long pairA = upTwos ^ downTwos;
+			long pairB = sideTwos ^ onesTwos;
+			long oneTwo = (pairA ^ pairB) & ~((upTwos & downTwos) | (sideTwos & onesTwos));
+			// Alive with 2 or 3 neighbors stays alive, dead with 3 comes to life
+			out[w] = oneTwo & (ones | m);
+		}
+		out[words - 1] &= lastMask;
+	}
+
+	/**
+	 * This computes one row of the next generation from the packed rows above,
+	 * at, and below it with any rules. The neighbor bit-rows are summed with full
+	 * adders as in stepRow, but all four bits of each neighbor count are kept, and
+	 * every count in the rule is then matched against all 64 cells at once.
+	 *
+	 * @param up     The packed row above.
+	 * @param middle The packed row being computed.
+	 * @param down   The packed row below.
+	 * @param out    The packed row to save the next generation to.
+	 */
+	private void stepRowRule(long[] up, long[] middle, long[] down, long[] out) {
+		for (int w = 0; w < words; w++) {
+			long u = up[w];
+			long uw = west(up, w);
+			long ue = east(up, w);
+			long m = middle[w];
+			long mw = west(middle, w);
+			long me = east(middle, w);
+			long d = down[w];
+			long dw = west(down, w);
+			long de = east(down, w);
+			long upOnes = u ^ uw ^ ue;
+			long upTwos = (u & uw) | (ue & (u ^ uw));
+			long downOnes = d ^ dw ^ de;
+			long downTwos = (d & dw) | (de & (d ^ dw));
+			long sideOnes = mw ^ me;
+			long sideTwos = mw & me;
+			long ones = upOnes ^ downOnes ^ sideOnes;
+			long onesTwos = (upOnes & downOnes) | (sideOnes & (upOnes ^ downOnes));
+			// Adding the four twos gives the twos, fours, and eights bits of the count
+			long pairA = upTwos ^ downTwos;
+			long pairB = sideTwos ^ onesTwos;
+			long carryA = upTwos & downTwos;
+			long carryB = sideTwos & onesTwos;
+			long carry = pairA & pairB;
+			long twos = pairA ^ pairB;
+			long fours = carryA ^ carryB ^ carry;
+			long eights = (carryA & carryB) | (carry & (carryA ^ carryB));
+			long next = 0;
+			for (int i = 0; i < ruleCounts.length; i++) {
+				int count = ruleCounts[i];
+				long match = ((count & 1) == 0 ? ~ones : ones) & ((count & 2) == 0 ? ~twos : twos)
+						& ((count & 4) == 0 ? ~fours : fours) & ((count & 8) == 0 ? ~eights : eights);
+				next |= match & ((birthMasks[i] & ~m) | (survivalMasks[i] & m));
+			}
+			out[w] = next;
+		}
+		out[words - 1] &= lastMask;
+	}
+
+	/**
+	 * This returns the given word of the row shifted so each bit holds the cell
+	 * to its left (its west neighbor), wrapping the first column around to the
+	 * last.
+	 *
+	 * @param row The packed row.
+	 * @param w   The index of the word.
+	 * @return The west neighbors of the 64 cells in the word.
+	 */
+	private long west(long[] row, int w) {
+		long carry = w == 0 ? (row[words - 1] >>> lastBit) & 1 : row[w - 1] >>> 63;
+		return (row[w] << 1) | carry;
+	}
+
+	/**
+	 * This returns the given word of the row shifted so each bit holds the cell
+	 * to its right (its east neighbor), wrapping the last column around to the
+	 * first.
+	 *
+	 * @param row The packed row.
+	 * @param w   The index of the word.
+	 * @return The east neighbors of the 64 cells in the word.
+	 */
+	private long east(long[] row, int w) {
+		long shifted = row[w] >>> 1;
+		if (w < words - 1)
+			return shifted | (row[w + 1] << 63);
+		return shifted | ((row[0] & 1) << lastBit);
+	}
+}
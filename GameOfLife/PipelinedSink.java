@@ -0,0 +1,188 @@
+/**
+ * @file PipelinedSink.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the PipelinedSink class, which renders the game's output on its own thread.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> --render block|drop [--render-buffer <n>]
+ */
+package edu.ncsu.csc246.main;
+
+import java.io.IOException;
+
+/**
+ * This class moves the rendering of another GenerationSink off the game's
+ * thread, so the game keeps computing generations while earlier ones are
+ * printed. Each generation written is copied into a packed GridSnapshot in a
+ * SnapshotRing, which a renderer thread drains into the other sink, in order.
+ *
+ * When the renderer falls behind and the ring fills up, the game either waits
+ * for it (back-pressure, so every generation is output), or, when only the
+ * latest generations matter (such as for display), skips generations that do
+ * not fit. Skipped generations are kept aside one at a time, so that the last
+ * generation written before a comment or the end is always output, and
+ * comments are never skipped.
+ */
+public class PipelinedSink implements GenerationSink {
+	/** The sink the renderer thread writes to. */
+	private final GenerationSink sink;
+	/** The ring carrying snapshots to the renderer thread. */
+	private final SnapshotRing ring;
+	/** Whether generations that do not fit in the ring are skipped. */
+	private final boolean drop;
+	/** The renderer thread. */
+	private final Thread renderer;
+	/** The latest generation skipped since the last one published, or null. */
+	private GridSnapshot skipped;
+	/** Whether the skipped snapshot holds a generation not yet output. */
+	private boolean pending;
+	/** The number of generations skipped. */
+	private long dropped;
+	/** The first exception thrown by the other sink on the renderer thread. */
+	private volatile IOException failure;
+
+	/**
+	 * This is the constructor, which starts a renderer thread writing to the
+	 * given sink.
+	 *
+	 * @param sink     The sink to render to.
+	 * @param capacity The number of generations the ring holds.
+	 * @param drop     true to skip generations when the ring is full, false to
+	 *                 wait for the renderer.
+	 * @throws IllegalArgumentException If the capacity is not valid, an
+	 *                                  IllegalArgumentException is thrown.
+	 */
+	public PipelinedSink(GenerationSink sink, int capacity, boolean drop) throws IllegalArgumentException {
+		this.sink = sink;
+		this.ring = new SnapshotRing(capacity);
+		this.drop = drop;
+		renderer = new Thread(this::render, "life-renderer");
+		renderer.setDaemon(true);
+		renderer.start();
+	}
+
+	/**
+	 * This copies the current generation into the ring for the renderer, or, if
+	 * generations may be skipped and the ring is full, sets it aside instead.
+	 *
+	 * @param title The title line to output before the grid.
+	 * @param grid  The grid to output.
+	 * @throws IOException If the renderer could not write an earlier generation,
+	 *                     an IOException is thrown.
+	 */
+	@Override
+	public void write(String title, LifeGrid grid) throws IOException {
+		checkFailure();
+		GridSnapshot slot = ring.claim(!drop);
+		if (slot == null) {
+			if (skipped == null)
+				skipped = new GridSnapshot();
+			skipped.copy(title, grid);
+			pending = true;
+			dropped++;
+			return;
+		}
+		slot.copy(title, grid);
+		ring.publish();
+		pending = false;
+	}
+
+	/**
+	 * This hands a comment to the renderer, after the last generation skipped (if
+	 * it was never output).
+	 *
+	 * @param text The text to output.
+	 * @throws IOException If the renderer could not write an earlier generation,
+	 *                     an IOException is thrown.
+	 */
+	@Override
+	public void comment(String text) throws IOException {
+		checkFailure();
+		flushSkipped();
+		ring.claim(true).mark(GridSnapshot.COMMENT, text);
+		ring.publish();
+	}
+
+	/**
+	 * This publishes the last generation skipped, if it was never output, waiting
+	 * for room in the ring.
+	 */
+	private void flushSkipped() {
+		if (!pending)
+			return;
+		ring.claim(true).copy(skipped);
+		ring.publish();
+		dropped--;
+		pending = false;
+	}
+
+	/**
+	 * This throws the exception the renderer failed with, if it has failed.
+	 *
+	 * @throws IOException If the renderer has failed, its IOException is thrown.
+	 */
+	private void checkFailure() throws IOException {
+		if (failure != null)
+			throw failure;
+	}
+
+	/**
+	 * This is the loop the renderer thread runs: take each snapshot from the ring
+	 * in order, write it to the other sink, and release it, until the end of the
+	 * output. After a failure (even an Error), snapshots are still taken and
+	 * released (but not written), so the game never waits on a renderer that has
+	 * stopped.
+	 */
+	private void render() {
+		while (true) {
+			GridSnapshot snapshot = ring.take();
+			int kind = snapshot.getKind();
+			if (kind != GridSnapshot.END && failure == null) {
+				try {
+					if (kind == GridSnapshot.GRID)
+						sink.write(snapshot.getText(), snapshot);
+					else
+						sink.comment(snapshot.getText());
+				} catch (Throwable e) {
+					// Even an Error only fails the output, so the ring keeps draining
+					failure = e instanceof IOException ? (IOException) e
+							: new IOException("The output could not be rendered: " + e.getMessage(), e);
+				}
+			}
+			ring.release();
+			if (kind == GridSnapshot.END)
+				return;
+		}
+	}
+
+	/**
+	 * This outputs the last generation skipped (if it was never output), waits
+	 * for the renderer to finish everything handed to it, and closes the other
+	 * sink. If any generations were skipped, how many is reported to the error
+	 * stream, so a display-only run shows how far the renderer fell behind.
+	 *
+	 * @throws IOException If the renderer failed, or the other sink cannot be
+	 *                     closed, an IOException is thrown.
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			flushSkipped();
+			ring.claim(true).mark(GridSnapshot.END, null);
+			ring.publish();
+			renderer.join();
+			if (dropped > 0)
+				System.err.println("The renderer fell behind, so " + dropped + " generation(s) were skipped.");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("The output was interrupted while being rendered.");
+		} finally {
+			sink.close();
+		}
+		checkFailure();
+	}
+}
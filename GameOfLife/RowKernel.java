@@ -0,0 +1,37 @@
+/**
+ * @file RowKernel.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the RowKernel interface, which describes how rows are computed for VectorEngine.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> [options]
+ */
+package edu.ncsu.csc246.main;
+
+/**
+ * This interface describes how VectorEngine computes one row of the next
+ * generation. Rows are stored one byte per cell (1 alive, 0 dead) with a halo
+ * column on each side: cell c of a row is at index c + 1, index 0 holds a copy
+ * of the last cell, and index columns + 1 holds a copy of the first cell. The
+ * wraparound is then just part of the row, so a kernel can sum the three cells
+ * above, beside, and below every cell without any bounds checks.
+ */
+interface RowKernel {
+
+	/**
+	 * This computes one row of the next generation from the rows above, at, and
+	 * below it, writing cells 1 to columns of the output row (not its halo).
+	 *
+	 * @param up      The padded row above.
+	 * @param middle  The padded row being computed.
+	 * @param down    The padded row below.
+	 * @param out     The padded row to save the next generation to.
+	 * @param columns The number of columns in the grid.
+	 * @param rule    The rules of the game.
+	 */
+	void stepRow(byte[] up, byte[] middle, byte[] down, byte[] out, int columns, LifeRule rule);
+}
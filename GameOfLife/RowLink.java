@@ -0,0 +1,45 @@
+/**
+ * @file RowLink.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the RowLink interface, which describes how boundary rows are carried between bands.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> --engine banded [--bands <n>]
+ */
+package edu.ncsu.csc246.main;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * This interface describes one end of a two-way link between neighboring bands
+ * of a BandedEngine, over which each band sends its edge row and receives the
+ * neighbor's edge row every generation. Rows are packed one bit per cell as in
+ * LifeEngine.getRow.
+ */
+interface RowLink extends Closeable {
+
+	/**
+	 * This sends a row to the band at the other end of the link. It does not wait
+	 * for the other band to receive it.
+	 *
+	 * @param row The packed row to send.
+	 * @throws IOException If the row cannot be sent, an IOException is thrown.
+	 */
+	void send(long[] row) throws IOException;
+
+	/**
+	 * This waits for the next row from the band at the other end of the link.
+	 *
+	 * @param row The packed row to receive into.
+	 * @throws IOException          If the link is closed or broken, an
+	 *                              IOException is thrown.
+	 * @throws InterruptedException If the thread is interrupted while waiting, an
+	 *                              InterruptedException is thrown.
+	 */
+	void receive(long[] row) throws IOException, InterruptedException;
+}
@@ -0,0 +1,258 @@
+/**
+ * @file RowTaskScheduler.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the RowTaskScheduler class, which runs generations for CellEngine as one task per row.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> --engine cell --scheduler platform|virtual
+ */
+package edu.ncsu.csc246.main;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class runs each generation as one small task per row, which is as close
+ * to the original thread-per-cell design as is practical. With virtual threads
+ * (JDK 21 and later), every task gets its own virtual thread from
+ * Executors.newVirtualThreadPerTaskExecutor, so thousands of tasks per
+ * generation are cheap; the executor is looked up reflectively, so this still
+ * compiles and runs on JDK 11, but asking for virtual threads on an older JVM
+ * is an error rather than a silent fall back. Otherwise, the tasks run on a
+ * fixed pool of platform threads.
+ *
+ * The task for each row is created once and submitted again every generation,
+ * reading the generation to run from the scheduler (as StripeScheduler's
+ * workers do), so no tasks or latches are created per generation. Each
+ * generation is joined as a structured unit: runGeneration only returns once
+ * every task of the generation has finished, even if one of them fails or the
+ * waiting thread is interrupted (the remaining tasks then skip their rows), so
+ * no task can still be writing to the grids afterwards. The first failure is
+ * rethrown to the caller. Engines sharing one scheduler run their generations
+ * one at a time, under a lock held for the whole generation.
+ */
+class RowTaskScheduler implements GenerationScheduler {
+	/** The executor the row tasks run on. */
+	private final ExecutorService executor;
+	/**
+	 * The lock held for a whole generation (waiting on the tasks releases this
+	 * scheduler's monitor, so it cannot keep out another generation).
+	 */
+	private final Object generationLock = new Object();
+	/** The task for each row, created the first time a grid that tall is run. */
+	private RowTask[] tasks = new RowTask[0];
+	/** The current generation's grid for the generation being run. */
+	private Cell[][] currGen;
+	/** The future generation's grid for the generation being run. */
+	private Cell[][] futureGen;
+	/** The number of columns in both grids. */
+	private int columns;
+	/** The number of rows in both grids. */
+	private int rows;
+	/** The rules of the game for the generation being run. */
+	private LifeRule rule;
+	/** The number of tasks of the current generation that have not finished yet. */
+	private final AtomicInteger remaining = new AtomicInteger();
+	/** The first exception thrown (or interruption) during the current generation. */
+	private volatile Throwable failure;
+
+	/**
+	 * This class is the task that checks one row of the generation being run.
+	 */
+	private class RowTask implements Runnable {
+		/** The row the task checks. */
+		private final int row;
+
+		/**
+		 * This is the constructor, which creates the task for the given row.
+		 *
+		 * @param row The row the task checks.
+		 */
+		RowTask(int row) {
+			this.row = row;
+		}
+
+		/**
+		 * This checks the row (unless the generation has already failed), and wakes
+		 * the waiting thread if it is the last task of the generation to finish.
+		 */
+		@Override
+		public void run() {
+			try {
+				if (failure == null)
+					CellRule.checkStripe(currGen, futureGen, row, row + 1, columns, rows, rule);
+			} catch (Throwable e) {
+				fail(e);
+			} finally {
+				finishTasks(1);
+			}
+		}
+	}
+
+	/**
+	 * This is the constructor, which creates a scheduler running its tasks on
+	 * virtual threads, or on a fixed pool of the given number of platform threads.
+	 *
+	 * @param numThreads The number of platform threads, if virtual threads are
+	 *                   not used.
+	 * @param virtual    true to use virtual threads, false to use platform
+	 *                   threads.
+	 * @throws IllegalArgumentException If the number of threads is not positive,
+	 *                                  or virtual threads are asked for and the
+	 *                                  JVM does not have them, an
+	 *                                  IllegalArgumentException is thrown.
+	 */
+	RowTaskScheduler(int numThreads, boolean virtual) throws IllegalArgumentException {
+		if (numThreads < 1)
+			throw new IllegalArgumentException("There must be at least 1 worker thread.");
+		if (virtual) {
+			executor = newVirtualExecutor();
+			// Error Handling for a JVM without virtual threads
+			if (executor == null)
+				throw new IllegalArgumentException(
+						"Virtual threads (--scheduler virtual) need JDK 21 or later; use --scheduler platform instead.");
+		} else {
+			executor = Executors.newFixedThreadPool(numThreads, task -> {
+				Thread thread = new Thread(task, "life-row-task");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+	/**
+	 * This creates an executor that starts a new virtual thread for each task,
+	 * if the JVM has virtual threads.
+	 *
+	 * @return The executor, or null if the JVM does not have virtual threads.
+	 */
+	static ExecutorService newVirtualExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			// Older JVMs (or virtual threads as a disabled preview) do not have them
+			return null;
+		}
+	}
+
+	/**
+	 * This runs one generation as one task per row, waiting for every task to
+	 * finish before returning.
+	 *
+	 * @param currGen   The current generation's grid to look for neighbors/apply
+	 *                  rules off of.
+	 * @param futureGen The future generation's grid to save the next generation to.
+	 * @param columns   The number of columns in both grids.
+	 * @param rows      The number of rows in both grids.
+	 * @param rule      The rules of the game.
+	 * @throws InterruptedException If the thread is interrupted while waiting on
+	 *                              the tasks, an InterruptedException is thrown
+	 *                              (once every task has finished or skipped its
+	 *                              row).
+	 */
+	@Override
+	public void runGeneration(Cell[][] currGen, Cell[][] futureGen, int columns, int rows, LifeRule rule)
+			throws InterruptedException {
+		synchronized (generationLock) {
+			runTasks(currGen, futureGen, columns, rows, rule);
+		}
+	}
+
+	/**
+	 * This submits one task per row for one generation and waits for every task
+	 * to finish. The generationLock must be held.
+	 *
+	 * @param currGen   The current generation's grid to look for neighbors/apply
+	 *                  rules off of.
+	 * @param futureGen The future generation's grid to save the next generation to.
+	 * @param columns   The number of columns in both grids.
+	 * @param rows      The number of rows in both grids.
+	 * @param rule      The rules of the game.
+	 * @throws InterruptedException If the thread is interrupted while waiting on
+	 *                              the tasks, an InterruptedException is thrown.
+	 */
+	private synchronized void runTasks(Cell[][] currGen, Cell[][] futureGen, int columns, int rows,
+			LifeRule rule) throws InterruptedException {
+		if (tasks.length < rows) {
+			RowTask[] grown = new RowTask[rows];
+			System.arraycopy(tasks, 0, grown, 0, tasks.length);
+			for (int i = tasks.length; i < rows; i++)
+				grown[i] = new RowTask(i);
+			tasks = grown;
+		}
+		this.currGen = currGen;
+		this.futureGen = futureGen;
+		this.columns = columns;
+		this.rows = rows;
+		this.rule = rule;
+		failure = null;
+		remaining.set(rows);
+		for (int i = 0; i < rows; i++) {
+			try {
+				executor.execute(tasks[i]);
+			} catch (RejectedExecutionException e) {
+				// The rows that were never submitted will never finish, so count them now
+				fail(e);
+				finishTasks(rows - i);
+				break;
+			}
+		}
+		boolean interrupted = false;
+		while (remaining.get() > 0) {
+			try {
+				wait();
+			} catch (InterruptedException e) {
+				// Tell the remaining tasks to skip their rows, but still wait for them
+				interrupted = true;
+				fail(e);
+			}
+		}
+		if (interrupted)
+			throw new InterruptedException(
+					"There was a problem with waiting on 1 or more threads, as the process has been interrupted.");
+		Throwable error = failure;
+		if (error instanceof RuntimeException)
+			throw (RuntimeException) error;
+		if (error instanceof Error)
+			throw (Error) error;
+	}
+
+	/**
+	 * This saves the first failure of the current generation.
+	 *
+	 * @param e The failure.
+	 */
+	private synchronized void fail(Throwable e) {
+		if (failure == null)
+			failure = e;
+	}
+
+	/**
+	 * This counts the given number of tasks as finished, waking the waiting thread
+	 * once every task of the generation has.
+	 *
+	 * @param count The number of tasks that finished.
+	 */
+	private void finishTasks(int count) {
+		if (remaining.addAndGet(-count) == 0) {
+			synchronized (this) {
+				notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * This stops the executor and its threads. The scheduler cannot be used
+	 * afterwards.
+	 */
+	@Override
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+}
@@ -0,0 +1,222 @@
+/**
+ * @file RunLengthReader.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the RunLengthReader class, which reads a grid in the run-length encoded (RLE) pattern format.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <RLE file name/path> <number of generations> [options]
+ */
+package edu.ncsu.csc246.main;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * This class reads a grid in the standard run-length encoded (RLE) Life
+ * pattern format, as written by RunLengthSink: any "#" comment lines, a header
+ * line "x = columns, y = rows" (optionally followed by ", rule = B3/S23"),
+ * then runs of dead ("b") and alive ("o") cells, with "$" ending each row and
+ * "!" ending the grid. The runs are read straight from the file into the
+ * engine, one byte at a time through a buffer, and only the live cells are
+ * set, so a large sparse pattern loads in time proportional to the size of
+ * its encoding rather than the area of its grid.
+ */
+public class RunLengthReader implements Closeable {
+	/** The stream the pattern is read from. */
+	private final InputStream in;
+	/** The path of the pattern, used in error messages. */
+	private final Path path;
+	/** The number of rows in the grid (y). */
+	private int rows;
+	/** The number of columns in the grid (x). */
+	private int columns;
+	/** The rules of the game given in the header, or null if none are given. */
+	private LifeRule rule;
+
+	/**
+	 * This is the constructor, which opens the pattern and reads its header.
+	 *
+	 * @param path The path of the pattern.
+	 * @throws IOException If the pattern cannot be read or its header is not
+	 *                     valid, an IOException is thrown.
+	 */
+	public RunLengthReader(Path path) throws IOException {
+		this.path = path;
+		in = new BufferedInputStream(Files.newInputStream(path), 1 << 16);
+		try {
+			readHeader();
+		} catch (IOException | RuntimeException e) {
+			in.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * This checks whether the given file looks like an RLE pattern, meaning its
+	 * first character (after any whitespace) starts a comment or the header.
+	 *
+	 * @param path The path of the file.
+	 * @return true if the file is an RLE pattern, false otherwise.
+	 * @throws IOException If the file cannot be read, an IOException is thrown.
+	 */
+	public static boolean isRunLength(Path path) throws IOException {
+		try (InputStream file = new BufferedInputStream(Files.newInputStream(path), 256)) {
+			int b = file.read();
+			while (b == ' ' || b == '\t' || b == '\r' || b == '\n')
+				b = file.read();
+			return b == '#' || b == 'x';
+		}
+	}
+
+	/**
+	 * This reads the comment lines and the header line.
+	 *
+	 * @throws IOException If the header is missing or not valid, an IOException
+	 *                     is thrown.
+	 */
+	private void readHeader() throws IOException {
+		String line = readLine();
+		while (line != null && (line.isEmpty() || line.startsWith("#")))
+			line = readLine();
+		if (line == null)
+			throw new IOException("The RLE pattern " + path + " has no x = ..., y = ... header.");
+		rows = -1;
+		columns = -1;
+		for (String field : line.split(",")) {
+			String[] pair = field.split("=", 2);
+			if (pair.length != 2)
+				throw new IOException("The RLE header \"" + line + "\" is not valid.");
+			String key = pair[0].trim();
+			String value = pair[1].trim();
+			try {
+				if (key.equals("x"))
+					columns = Integer.parseInt(value);
+				else if (key.equals("y"))
+					rows = Integer.parseInt(value);
+				else if (key.equals("rule"))
+					rule = LifeRule.parse(value);
+			} catch (IllegalArgumentException e) {
+				throw new IOException("The RLE header \"" + line + "\" is not valid: " + e.getMessage());
+			}
+		}
+		// Error Handling for the size of the grid
+		if (rows < 1 || columns < 1)
+			throw new IOException("The RLE header \"" + line + "\" should give an x and y of at least 1.");
+	}
+
+	/**
+	 * This reads one line of text (without its line ending).
+	 *
+	 * @return The line, or null at the end of the file.
+	 * @throws IOException If the file cannot be read, an IOException is thrown.
+	 */
+	private String readLine() throws IOException {
+		StringBuilder line = new StringBuilder();
+		int b = in.read();
+		if (b < 0)
+			return null;
+		while (b >= 0 && b != '\n') {
+			if (b != '\r')
+				line.append((char) b);
+			b = in.read();
+		}
+		return line.toString().trim();
+	}
+
+	/**
+	 * This returns the number of rows in the grid (the header's y).
+	 *
+	 * @return rows: The number of rows in the grid.
+	 */
+	public int getRows() {
+		return rows;
+	}
+
+	/**
+	 * This returns the number of columns in the grid (the header's x).
+	 *
+	 * @return columns: The number of columns in the grid.
+	 */
+	public int getColumns() {
+		return columns;
+	}
+
+	/**
+	 * This returns the rules of the game given in the header.
+	 *
+	 * @return rule: The rules of the game, or null if the header gives none.
+	 */
+	public LifeRule getRule() {
+		return rule;
+	}
+
+	/**
+	 * This reads the runs of the grid into the engine, setting each live cell.
+	 * The engine's grid must be the size given in the header, and all dead.
+	 *
+	 * @param engine The engine to read the grid into.
+	 * @throws IOException If the runs are not valid or go outside the grid, an
+	 *                     IOException is thrown.
+	 */
+	public void readCells(LifeEngine engine) throws IOException {
+		int row = 0;
+		int column = 0;
+		long count = 0;
+		while (true) {
+			int b = in.read();
+			if (b >= '0' && b <= '9') {
+				count = count * 10 + (b - '0');
+				if (count > Integer.MAX_VALUE)
+					throw new IOException("The RLE pattern " + path + " has a run that is too long.");
+				continue;
+			}
+			if (b == ' ' || b == '\t' || b == '\r' || b == '\n')
+				continue;
+			long run = count == 0 ? 1 : count;
+			count = 0;
+			switch (b) {
+			case 'b':
+			case '.':
+				column = (int) Math.min(column + run, columns);
+				break;
+			case 'o':
+				// Error Handling for live cells outside of the grid
+				if (row >= rows || column + run > columns)
+					throw new IOException("The RLE pattern " + path + " has live cells outside of its x = " + columns
+							+ ", y = " + rows + " grid.");
+				for (int i = 0; i < run; i++)
+					engine.setLife(row, column + i, 1);
+				column += (int) run;
+				break;
+			case '$':
+				row = (int) Math.min(row + run, rows);
+				column = 0;
+				break;
+			case '!':
+			case -1:
+				return;
+			default:
+				throw new IOException(
+						"The RLE pattern " + path + " has the character '" + (char) b + "', which is not b, o, $, or !.");
+			}
+		}
+	}
+
+	/**
+	 * This closes the pattern's file.
+	 *
+	 * @throws IOException If the file cannot be closed, an IOException is thrown.
+	 */
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+}
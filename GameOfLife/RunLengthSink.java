@@ -0,0 +1,172 @@
+/**
+ * @file RunLengthSink.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the RunLengthSink class, which outputs each generation in the compact run-length (RLE) format.
+ * This program was developed via the Eclipse IDE for Developers.
+ * 
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> [options]
+ */
+package edu.ncsu.csc246.main;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * This class outputs each generation in the standard run-length encoded (RLE)
+ * Life pattern format: the title line as a "#C" comment, a header line with the
+ * size of the grid, then runs of dead ("b") and alive ("o") cells, with "$" at
+ * the end of each row and "!" at the end of the grid. Runs of dead cells at the
+ * end of a row and empty rows at the end of the grid are left out, and lines
+ * are kept to at most 70 characters. The runs are found by scanning each packed
+ * row a word (64 cells) at a time for the next live or dead cell, so a sparse
+ * grid is written in time proportional to its rows and runs rather than its
+ * cells. RunLengthReader reads the format back in.
+ */
+public class RunLengthSink extends ChannelSink {
+	/** The longest line of runs to output. */
+	static final int LINE_LENGTH = 70;
+
+	/** The number of characters on the current line of runs. */
+	private int lineLength;
+	/** The packed row being written, reused between rows. */
+	private long[] words = new long[0];
+
+	/**
+	 * This is the constructor, which writes to the given channel.
+	 * 
+	 * @param channel      The channel to write to.
+	 * @param closeChannel Whether closing the sink should close the channel.
+	 */
+	public RunLengthSink(WritableByteChannel channel, boolean closeChannel) {
+		super(channel, closeChannel);
+	}
+
+	/**
+	 * This is the constructor, which writes to the given channel, and writes out
+	 * every generation as soon as it is rendered if asked to.
+	 * 
+	 * @param channel             The channel to write to.
+	 * @param closeChannel        Whether closing the sink should close the
+	 *                            channel.
+	 * @param flushEachGeneration Whether every generation is written out as soon
+	 *                            as it is rendered (for the console).
+	 */
+	public RunLengthSink(WritableByteChannel channel, boolean closeChannel, boolean flushEachGeneration) {
+		super(channel, closeChannel, flushEachGeneration);
+	}
+
+	/**
+	 * This outputs the current generation of the grid in the RLE format.
+	 * 
+	 * @param title The title line to output before the grid.
+	 * @param grid  The grid to output.
+	 * @throws IOException If the output cannot be written, an IOException is
+	 *                     thrown.
+	 */
+	@Override
+	public void write(String title, LifeGrid grid) throws IOException {
+		put("#C ");
+		put(title.trim());
+		put("\nx = ");
+		putNumber(grid.getColumns());
+		put(", y = ");
+		putNumber(grid.getRows());
+		put(", rule = ");
+		put(grid.getRule().toString());
+		put("\n");
+		lineLength = 0;
+		int columns = grid.getColumns();
+		if (words.length != (columns + 63) >>> 6)
+			words = new long[(columns + 63) >>> 6];
+		// Rows with no live cells are saved up, since they are left out at the end
+		long emptyRows = 0;
+		for (int j = 0; j < grid.getRows(); j++) {
+			grid.getRow(j, words);
+			if ((columns & 63) != 0)
+				words[words.length - 1] &= (1L << columns) - 1;
+			int column = nextCell(words, 0, columns, 0);
+			if (column < columns) {
+				putRun(emptyRows, '$');
+				emptyRows = 0;
+			}
+			int end = 0;
+			while (column < columns) {
+				putRun(column - end, 'b');
+				end = nextCell(words, column, columns, -1L);
+				putRun(end - column, 'o');
+				column = nextCell(words, end, columns, 0);
+			}
+			emptyRows++;
+		}
+		put("!\n");
+		endGeneration();
+	}
+
+	/**
+	 * This finds the next cell at or after the given column that is alive (or
+	 * dead), skipping whole words of the opposite state at once.
+	 * 
+	 * @param words   The packed row.
+	 * @param from    The column to start at.
+	 * @param columns The number of columns in the row.
+	 * @param flip    0 to find a live cell, or -1 to find a dead cell.
+	 * @return The column of the cell, or columns if there is none.
+	 */
+	private static int nextCell(long[] words, int from, int columns, long flip) {
+		if (from >= columns)
+			return columns;
+		int w = from >>> 6;
+		long word = (words[w] ^ flip) & (-1L << from);
+		while (word == 0) {
+			if (++w == words.length)
+				return columns;
+			word = words[w] ^ flip;
+		}
+		return Math.min(columns, (w << 6) + Long.numberOfTrailingZeros(word));
+	}
+
+	/**
+	 * This outputs one run (its count, if more than 1, then its tag), starting a
+	 * new line if the run would make the line too long.
+	 * 
+	 * @param count The number of times the tag is repeated (nothing is output for
+	 *              0).
+	 * @param tag   The tag of the run.
+	 * @throws IOException If the output cannot be written, an IOException is
+	 *                     thrown.
+	 */
+	private void putRun(long count, char tag) throws IOException {
+		if (count == 0)
+			return;
+		int width = 1;
+		if (count > 1)
+			for (long n = count; n > 0; n /= 10)
+				width++;
+		if (lineLength + width > LINE_LENGTH) {
+			put((byte) '\n');
+			lineLength = 0;
+		}
+		if (count > 1)
+			putNumber(count);
+		put((byte) tag);
+		lineLength += width;
+	}
+
+	/**
+	 * This outputs a line of text about the game, as a "#C" comment line.
+	 * 
+	 * @param text The text to output.
+	 * @throws IOException If the output cannot be written, an IOException is
+	 *                     thrown.
+	 */
+	@Override
+	public void comment(String text) throws IOException {
+		put("#C ");
+		put(text);
+		put((byte) '\n');
+	}
+}
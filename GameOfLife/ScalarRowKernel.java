@@ -0,0 +1,58 @@
+/**
+ * @file ScalarRowKernel.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the ScalarRowKernel class, which computes rows for VectorEngine one cell at a time.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> [options]
+ */
+package edu.ncsu.csc246.main;
+
+/**
+ * This class is the scalar RowKernel, which computes one cell at a time. It is
+ * used whenever the Vector API is not available, and for the cells left over
+ * at the end of a row by the vector kernel.
+ */
+class ScalarRowKernel implements RowKernel {
+
+	/**
+	 * This computes one row of the next generation one cell at a time, summing
+	 * each cell's neighbors straight from the padded rows and looking the next
+	 * state up in the rule.
+	 *
+	 * @param up      The padded row above.
+	 * @param middle  The padded row being computed.
+	 * @param down    The padded row below.
+	 * @param out     The padded row to save the next generation to.
+	 * @param columns The number of columns in the grid.
+	 * @param rule    The rules of the game.
+	 */
+	@Override
+	public void stepRow(byte[] up, byte[] middle, byte[] down, byte[] out, int columns, LifeRule rule) {
+		stepCells(up, middle, down, out, 1, columns + 1, rule);
+	}
+
+	/**
+	 * This computes the cells at indexes [from, to) of one padded row of the next
+	 * generation.
+	 *
+	 * @param up     The padded row above.
+	 * @param middle The padded row being computed.
+	 * @param down   The padded row below.
+	 * @param out    The padded row to save the next generation to.
+	 * @param from   The first index (inclusive) to compute, at least 1.
+	 * @param to     The last index (exclusive) to compute, at most columns + 1.
+	 * @param rule   The rules of the game.
+	 */
+	static void stepCells(byte[] up, byte[] middle, byte[] down, byte[] out, int from, int to, LifeRule rule) {
+		for (int i = from; i < to; i++) {
+			int neighbors = up[i - 1] + up[i] + up[i + 1] + middle[i - 1] + middle[i + 1] + down[i - 1] + down[i]
+					+ down[i + 1];
+			out[i] = (byte) rule.next(middle[i], neighbors);
+		}
+	}
+}
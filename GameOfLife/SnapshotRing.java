@@ -0,0 +1,134 @@
+/**
+ * @file SnapshotRing.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the SnapshotRing class, which carries generations from the game to PipelinedSink's renderer.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> --render block|drop
+ */
+package edu.ncsu.csc246.main;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * This class is a bounded ring buffer of GridSnapshots with a single producer
+ * (the game's thread) and a single consumer (the renderer's thread), without
+ * any locks. The producer only ever writes the tail index and the consumer
+ * only ever writes the head index, each with an ordered (release) store that
+ * the other side reads, so a slot is only published once it is fully written
+ * and only reused once it is fully read. Each side also caches the other's
+ * index, so it only reads the shared one when the ring looks full or empty.
+ *
+ * The slots are allocated on first use and then reused, so a running game does
+ * not allocate a snapshot per generation. A side that has to wait spins
+ * briefly, then yields, then parks for growing intervals (up to a millisecond),
+ * so a full or empty ring costs little CPU.
+ */
+class SnapshotRing {
+	/** The slots of the ring, allocated on first use. */
+	private final GridSnapshot[] slots;
+	/** The mask that turns an index into a slot. */
+	private final int mask;
+	/** The index of the next slot to read, only written by the consumer. */
+	private final AtomicLong head = new AtomicLong();
+	/** The index of the next slot to write, only written by the producer. */
+	private final AtomicLong tail = new AtomicLong();
+	/** The producer's last read of the head index. */
+	private long cachedHead;
+	/** The consumer's last read of the tail index. */
+	private long cachedTail;
+
+	/**
+	 * This is the constructor, which creates an empty ring holding at least the
+	 * given number of snapshots (rounded up to a power of 2).
+	 *
+	 * @param capacity The number of snapshots the ring holds.
+	 * @throws IllegalArgumentException If the capacity is not positive, an
+	 *                                  IllegalArgumentException is thrown.
+	 */
+	SnapshotRing(int capacity) throws IllegalArgumentException {
+		if (capacity < 1 || capacity > 1 << 20)
+			throw new IllegalArgumentException("The ring must hold between 1 and 2^20 snapshots.");
+		int size = Integer.highestOneBit(capacity);
+		if (size < capacity)
+			size <<= 1;
+		slots = new GridSnapshot[size];
+		mask = size - 1;
+	}
+
+	/**
+	 * This returns the next free slot for the producer to fill, waiting for the
+	 * consumer to free one if the ring is full and the producer is willing to
+	 * wait. The slot is not seen by the consumer until it is published.
+	 *
+	 * @param wait true to wait for a free slot, false to give up at once.
+	 * @return The free slot, or null if the ring is full and the producer did not
+	 *         wait.
+	 */
+	GridSnapshot claim(boolean wait) {
+		long next = tail.get();
+		for (int idle = 0; next - cachedHead >= slots.length; idle++) {
+			cachedHead = head.get();
+			if (next - cachedHead < slots.length)
+				break;
+			if (!wait)
+				return null;
+			pause(idle);
+		}
+		int slot = (int) next & mask;
+		if (slots[slot] == null)
+			slots[slot] = new GridSnapshot();
+		return slots[slot];
+	}
+
+	/**
+	 * This publishes the slot last claimed by the producer to the consumer.
+	 */
+	void publish() {
+		tail.lazySet(tail.get() + 1);
+	}
+
+	/**
+	 * This returns the oldest published slot for the consumer to read, waiting
+	 * for the producer to publish one if the ring is empty. The slot is not
+	 * reused by the producer until it is released.
+	 *
+	 * @return The oldest published slot.
+	 */
+	GridSnapshot take() {
+		long next = head.get();
+		for (int idle = 0; next >= cachedTail; idle++) {
+			cachedTail = tail.get();
+			if (next < cachedTail)
+				break;
+			pause(idle);
+		}
+		return slots[(int) next & mask];
+	}
+
+	/**
+	 * This releases the slot last taken by the consumer back to the producer.
+	 */
+	void release() {
+		head.lazySet(head.get() + 1);
+	}
+
+	/**
+	 * This waits a little, for longer the more times in a row it has waited.
+	 *
+	 * @param idle The number of times in a row the caller has waited.
+	 */
+	private static void pause(int idle) {
+		if (idle < 64)
+			Thread.onSpinWait();
+		else if (idle < 128)
+			Thread.yield();
+		else
+			LockSupport.parkNanos(Math.min(1000000L, 1000L << Math.min(10, (idle - 128) / 16)));
+	}
+}
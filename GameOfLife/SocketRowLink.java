@@ -0,0 +1,129 @@
+/**
+ * @file SocketRowLink.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the SocketRowLink class, which carries boundary rows between bands over a socket.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> --engine banded [--bands <n>]
+ */
+package edu.ncsu.csc246.main;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * This class is a RowLink over a (localhost) socket. Rows are written as raw
+ * longs, and a daemon reader thread reads incoming rows into a few reused
+ * buffers as soon as they arrive, so both ends can send before receiving
+ * without filling the socket's buffers and blocking each other.
+ */
+class SocketRowLink implements RowLink {
+	/** The number of buffers for rows that have arrived but not been received. */
+	private static final int BUFFERS = 3;
+	/** The row given to the receiver when the connection has closed. */
+	private static final long[] CLOSED = new long[0];
+
+	/** The socket to the other band. */
+	private final Socket socket;
+	/** The stream rows are sent through. */
+	private final DataOutputStream out;
+	/** The rows that have arrived, in order. */
+	private final BlockingQueue<long[]> ready = new ArrayBlockingQueue<long[]>(BUFFERS + 1);
+	/** The buffers free to read rows into. */
+	private final BlockingQueue<long[]> free = new ArrayBlockingQueue<long[]>(BUFFERS);
+
+	/**
+	 * This is the constructor, which wraps a connected socket and starts the
+	 * reader thread.
+	 *
+	 * @param socket The socket to the other band.
+	 * @param words  The number of longs in each row.
+	 * @throws IOException If the socket's streams cannot be opened, an
+	 *                     IOException is thrown.
+	 */
+	SocketRowLink(Socket socket, int words) throws IOException {
+		this.socket = socket;
+		socket.setTcpNoDelay(true);
+		out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 1 << 16));
+		DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), 1 << 16));
+		for (int i = 0; i < BUFFERS; i++)
+			free.add(new long[words]);
+		Thread reader = new Thread(() -> read(in), "life-row-link");
+		reader.setDaemon(true);
+		reader.start();
+	}
+
+	/**
+	 * This is the loop the reader thread runs: take a free buffer, read a row
+	 * into it, and hand it to the receiver, until the connection closes.
+	 *
+	 * @param in The stream rows arrive through.
+	 */
+	private void read(DataInputStream in) {
+		try {
+			while (true) {
+				long[] row = free.take();
+				for (int i = 0; i < row.length; i++)
+					row[i] = in.readLong();
+				ready.put(row);
+			}
+		} catch (IOException | InterruptedException e) {
+			ready.offer(CLOSED);
+		}
+	}
+
+	/**
+	 * This writes the row to the socket.
+	 *
+	 * @param row The packed row to send.
+	 * @throws IOException If the row cannot be written, an IOException is thrown.
+	 */
+	@Override
+	public void send(long[] row) throws IOException {
+		for (long word : row)
+			out.writeLong(word);
+		out.flush();
+	}
+
+	/**
+	 * This waits for the reader thread to hand over the next row, then returns
+	 * its buffer.
+	 *
+	 * @param row The packed row to receive into.
+	 * @throws IOException          If the connection has closed, an IOException is
+	 *                              thrown.
+	 * @throws InterruptedException If the thread is interrupted while waiting, an
+	 *                              InterruptedException is thrown.
+	 */
+	@Override
+	public void receive(long[] row) throws IOException, InterruptedException {
+		long[] next = ready.take();
+		if (next == CLOSED) {
+			ready.offer(CLOSED);
+			throw new IOException("The connection to the neighboring band was closed.");
+		}
+		System.arraycopy(next, 0, row, 0, row.length);
+		free.put(next);
+	}
+
+	/**
+	 * This closes the socket, which also stops the reader thread.
+	 *
+	 * @throws IOException If the socket cannot be closed, an IOException is
+	 *                     thrown.
+	 */
+	@Override
+	public void close() throws IOException {
+		socket.close();
+	}
+}
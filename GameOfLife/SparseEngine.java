@@ -0,0 +1,216 @@
+/**
+ * @file SparseEngine.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the SparseEngine class, a grid backend for an unbounded plane that only stores live cells.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> --engine sparse
+ */
+package edu.ncsu.csc246.main;
+
+/**
+ * This class is a grid backend for an unbounded plane instead of a torus: the
+ * grid from the input file is placed on an infinite plane, so patterns such as
+ * gliders and guns can run forever without wrapping into themselves. Only the
+ * live cells are stored, as coordinates in a CellTable, so memory and time per
+ * generation are proportional to the population rather than the size of the
+ * area the pattern covers. Each generation, every live cell adds one to the
+ * neighbor count of the cells around it, and the cells whose counts (and
+ * states) satisfy the rule make up the next generation.
+ *
+ * Since the plane has no edges, the grid seen through the LifeEngine methods
+ * is a window onto it: the input grid's rows and columns until the first
+ * generation, and from then on the smallest rectangle holding every live cell
+ * (the window stays where it was if every cell dies). The size of the grid can
+ * therefore change from one generation to the next.
+ */
+public class SparseEngine implements LifeEngine {
+	/** The rules of the game. */
+	private final LifeRule rule;
+	/** The live cells of the current generation. */
+	private CellTable live = new CellTable();
+	/** The table the next generation is built in, swapped with live. */
+	private CellTable next = new CellTable();
+	/** The live neighbor counts of the cells around the live cells. */
+	private final CellTable neighbors = new CellTable();
+	/** The row of the plane at the top of the window. */
+	private int top;
+	/** The column of the plane at the left of the window. */
+	private int left;
+	/** The number of rows in the window. */
+	private int rows;
+	/** The number of columns in the window. */
+	private int columns;
+
+	/**
+	 * This is the constructor, which creates an empty plane viewed through a
+	 * window of the given size, that runs with the given rules.
+	 *
+	 * @param rows    The number of rows in the starting window.
+	 * @param columns The number of columns in the starting window.
+	 * @param rule    The rules of the game.
+	 * @throws IllegalArgumentException If the number of rows or columns is not
+	 *                                  positive, or the rule brings cells with no
+	 *                                  neighbors to life, an
+	 *                                  IllegalArgumentException is thrown.
+	 */
+	public SparseEngine(int rows, int columns, LifeRule rule) throws IllegalArgumentException {
+		if (rows < 1 || columns < 1)
+			throw new IllegalArgumentException("The grid must have at least 1 row and 1 column.");
+		// An empty plane would come to life everywhere at once
+		if (rule.next(0, 0) == 1)
+			throw new IllegalArgumentException("The sparse engine does not support rules with B0.");
+		this.rows = rows;
+		this.columns = columns;
+		this.rule = rule;
+	}
+
+	/**
+	 * This returns the number of rows in the window onto the plane.
+	 *
+	 * @return rows: The number of rows in the window.
+	 */
+	@Override
+	public int getRows() {
+		return rows;
+	}
+
+	/**
+	 * This returns the number of columns in the window onto the plane.
+	 *
+	 * @return columns: The number of columns in the window.
+	 */
+	@Override
+	public int getColumns() {
+		return columns;
+	}
+
+	/**
+	 * This returns the rules the engine applies each generation.
+	 *
+	 * @return rule: The rules of the game.
+	 */
+	@Override
+	public LifeRule getRule() {
+		return rule;
+	}
+
+	/**
+	 * This returns the row of the plane at the top of the window (the input
+	 * grid's top row is row 0).
+	 *
+	 * @return top: The row at the top of the window.
+	 */
+	public int getTop() {
+		return top;
+	}
+
+	/**
+	 * This returns the column of the plane at the left of the window (the input
+	 * grid's left column is column 0).
+	 *
+	 * @return left: The column at the left of the window.
+	 */
+	public int getLeft() {
+		return left;
+	}
+
+	/**
+	 * This returns the number of live cells on the whole plane.
+	 *
+	 * @return The number of live cells.
+	 */
+	public int getPopulation() {
+		return live.size();
+	}
+
+	/**
+	 * This returns whether the cell at the given row and column of the window is
+	 * alive(1) or dead(0).
+	 *
+	 * @param row    The row of the cell within the window.
+	 * @param column The column of the cell within the window.
+	 * @return 1 if the cell is alive, 0 if it is dead.
+	 */
+	@Override
+	public int getLife(int row, int column) {
+		return live.contains(CellTable.key(top + row, left + column)) ? 1 : 0;
+	}
+
+	/**
+	 * This sets whether the cell at the given row and column of the window is
+	 * alive(1) or dead(0).
+	 *
+	 * @param row    The row of the cell within the window.
+	 * @param column The column of the cell within the window.
+	 * @param alive  1 if the cell is alive, 0 if it is dead.
+	 * @throws IllegalArgumentException If the alive value is not 0 or 1, an
+	 *                                  IllegalArgumentException is thrown.
+	 */
+	@Override
+	public void setLife(int row, int column, int alive) throws IllegalArgumentException {
+		if (alive == 1)
+			live.add(CellTable.key(top + row, left + column));
+		else if (alive == 0)
+			live.remove(CellTable.key(top + row, left + column));
+		else
+			throw new IllegalArgumentException("The input alive value can only be 0 or 1.");
+	}
+
+	/**
+	 * This advances the plane by one generation. The neighbor counts are built by
+	 * walking over the live cells only (each live cell is also added with its own
+	 * count, so rules where cells survive with no neighbors work), then every
+	 * counted cell is checked against the rule, and the window is moved to fit the
+	 * new live cells.
+	 */
+	@Override
+	public void step() {
+		neighbors.clear();
+		for (int slot = 0; slot < live.capacity(); slot++) {
+			long key = live.keyAt(slot);
+			if (key == CellTable.EMPTY)
+				continue;
+			int row = CellTable.row(key);
+			int column = CellTable.column(key);
+			neighbors.add(key);
+			for (int i = -1; i < 2; i++)
+				for (int j = -1; j < 2; j++)
+					if (i != 0 || j != 0)
+						neighbors.increment(CellTable.key(row + i, column + j));
+		}
+		next.clear();
+		int minRow = Integer.MAX_VALUE;
+		int maxRow = Integer.MIN_VALUE;
+		int minColumn = Integer.MAX_VALUE;
+		int maxColumn = Integer.MIN_VALUE;
+		for (int slot = 0; slot < neighbors.capacity(); slot++) {
+			long key = neighbors.keyAt(slot);
+			if (key == CellTable.EMPTY)
+				continue;
+			int alive = live.contains(key) ? 1 : 0;
+			if (rule.next(alive, neighbors.countAt(slot)) == 0)
+				continue;
+			next.add(key);
+			int row = CellTable.row(key);
+			int column = CellTable.column(key);
+			minRow = Math.min(minRow, row);
+			maxRow = Math.max(maxRow, row);
+			minColumn = Math.min(minColumn, column);
+			maxColumn = Math.max(maxColumn, column);
+		}
+		CellTable temp = live;
+		live = next;
+		next = temp;
+		if (live.size() > 0) {
+			top = minRow;
+			left = minColumn;
+			rows = maxRow - minRow + 1;
+			columns = maxColumn - minColumn + 1;
+		}
+	}
+}
@@ -0,0 +1,205 @@
+/**
+ * @file StripeScheduler.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the StripeScheduler class, which checks stripes of rows for CellRule on a fixed pool of worker threads.
+ * This program was developed via the Eclipse IDE for Developers.
+ * 
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> [options]
+ */
+package edu.ncsu.csc246.main;
+
+/**
+ * This class keeps a fixed pool of worker threads that check stripes of rows
+ * for CellRule. The threads are started once and then wait between
+ * generations, so no threads are created per cell or per generation. The
+ * thread calling runGeneration acts as a barrier, only returning once every
+ * worker has finished its stripe for that generation. Engines may share one
+ * scheduler (as they share CellRule's): each generation holds a lock of its
+ * own until it ends, so the generations of different engines run one at a
+ * time rather than over each other's grids.
+ */
+class StripeScheduler implements GenerationScheduler {
+	/** The worker threads, each of which owns one stripe of rows. */
+	private final Thread[] workers;
+	/**
+	 * The lock held for a whole generation (waiting on the workers releases this
+	 * scheduler's monitor, so it cannot keep out another generation).
+	 */
+	private final Object generationLock = new Object();
+	/** The current generation's grid for the generation being run. */
+	private Cell[][] currGen;
+	/** The future generation's grid for the generation being run. */
+	private Cell[][] futureGen;
+	/** The number of columns in both grids. */
+	private int columns;
+	/** The number of rows in both grids. */
+	private int rows;
+	/** The rules of the game for the generation being run. */
+	private LifeRule rule;
+	/** The number of generations started, which the workers use to see new work. */
+	private long generation;
+	/** The number of workers that have not finished their stripe yet. */
+	private int remaining;
+	/** The first exception thrown by a worker during the current generation. */
+	private RuntimeException failure;
+
+	/**
+	 * This is the constructor, which starts the given number of (daemon) worker
+	 * threads so that they do not keep the program alive after main returns.
+	 * 
+	 * @param numThreads The number of worker threads (and stripes) to use.
+	 * @throws IllegalArgumentException If the number of threads is not positive,
+	 *                                  an IllegalArgumentException is thrown.
+	 */
+	public StripeScheduler(int numThreads) throws IllegalArgumentException {
+		if (numThreads < 1)
+			throw new IllegalArgumentException("There must be at least 1 worker thread.");
+		workers = new Thread[numThreads];
+		for (int i = 0; i < numThreads; i++) {
+			int stripe = i;
+			workers[i] = new Thread(() -> work(stripe), "life-stripe-" + i);
+			workers[i].setDaemon(true);
+			workers[i].start();
+		}
+	}
+
+	/**
+	 * This runs one generation with Conway's rules, handing each worker its stripe
+	 * of rows and waiting for all of them to finish before returning.
+	 * 
+	 * @param currGen   The current generation's grid to look for neighbors/apply
+	 *                  rules off of.
+	 * @param futureGen The future generation's grid to save the next generation to.
+	 * @param columns   The number of columns in both grids.
+	 * @param rows      The number of rows in both grids.
+	 * @throws InterruptedException If the thread is interrupted while waiting on
+	 *                              the workers, an InterruptedException is thrown.
+	 */
+	public void runGeneration(Cell[][] currGen, Cell[][] futureGen, int columns, int rows)
+			throws InterruptedException {
+		runGeneration(currGen, futureGen, columns, rows, LifeRule.CONWAY);
+	}
+
+	/**
+	 * This runs one generation with the given rules, handing each worker its
+	 * stripe of rows and waiting for all of them to finish before returning.
+	 * 
+	 * @param currGen   The current generation's grid to look for neighbors/apply
+	 *                  rules off of.
+	 * @param futureGen The future generation's grid to save the next generation to.
+	 * @param columns   The number of columns in both grids.
+	 * @param rows      The number of rows in both grids.
+	 * @param rule      The rules of the game.
+	 * @throws InterruptedException If the thread is interrupted while waiting on
+	 *                              the workers, an InterruptedException is thrown.
+	 */
+	@Override
+	public void runGeneration(Cell[][] currGen, Cell[][] futureGen, int columns, int rows, LifeRule rule)
+			throws InterruptedException {
+		synchronized (generationLock) {
+			runStripes(currGen, futureGen, columns, rows, rule);
+		}
+	}
+
+	/**
+	 * This hands each worker its stripe of rows for one generation and waits for
+	 * all of them to finish. The generationLock must be held.
+	 * 
+	 * @param currGen   The current generation's grid to look for neighbors/apply
+	 *                  rules off of.
+	 * @param futureGen The future generation's grid to save the next generation to.
+	 * @param columns   The number of columns in both grids.
+	 * @param rows      The number of rows in both grids.
+	 * @param rule      The rules of the game.
+	 * @throws InterruptedException If the thread is interrupted while waiting on
+	 *                              the workers, an InterruptedException is thrown.
+	 */
+	private synchronized void runStripes(Cell[][] currGen, Cell[][] futureGen, int columns, int rows,
+			LifeRule rule) throws InterruptedException {
+		this.currGen = currGen;
+		this.futureGen = futureGen;
+		this.columns = columns;
+		this.rows = rows;
+		this.rule = rule;
+		failure = null;
+		remaining = workers.length;
+		generation++;
+		notifyAll();
+		try {
+			while (remaining > 0)
+				wait();
+		} catch (InterruptedException e) {
+			throw new InterruptedException(
+					"There was a problem with waiting on 1 or more threads, as the process has been interrupted.");
+		}
+		if (failure != null)
+			throw failure;
+	}
+
+	/**
+	 * This stops all the worker threads. The scheduler cannot be used afterwards.
+	 */
+	@Override
+	public void shutdown() {
+		for (Thread worker : workers)
+			worker.interrupt();
+	}
+
+	/**
+	 * This returns the number of worker threads (and stripes) used.
+	 * 
+	 * @return The number of worker threads.
+	 */
+	public int getThreads() {
+		return workers.length;
+	}
+
+	/**
+	 * This is the loop each worker thread runs: wait for a new generation, check
+	 * its stripe of rows, then report that it is done.
+	 * 
+	 * @param stripe The index of the stripe this worker owns.
+	 */
+	private void work(int stripe) {
+		long seen = 0;
+		while (true) {
+			Cell[][] curr;
+			Cell[][] future;
+			int cols;
+			int numRows;
+			LifeRule genRule;
+			synchronized (this) {
+				try {
+					while (generation == seen)
+						wait();
+				} catch (InterruptedException e) {
+					return;
+				}
+				seen = generation;
+				curr = currGen;
+				future = futureGen;
+				cols = columns;
+				numRows = rows;
+				genRule = rule;
+			}
+			RuntimeException error = null;
+			try {
+				int fromRow = (int) ((long) numRows * stripe / workers.length);
+				int toRow = (int) ((long) numRows * (stripe + 1) / workers.length);
+				CellRule.checkStripe(curr, future, fromRow, toRow, cols, numRows, genRule);
+			} catch (RuntimeException e) {
+				error = e;
+			}
+			synchronized (this) {
+				if (error != null && failure == null)
+					failure = error;
+				if (--remaining == 0)
+					notifyAll();
+			}
+		}
+	}
+}
@@ -0,0 +1,85 @@
+/**
+ * @file TextSink.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the TextSink class, which outputs each generation in Life's original text format.
+ * This program was developed via the Eclipse IDE for Developers.
+ * 
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> [options]
+ */
+package edu.ncsu.csc246.main;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * This class outputs each generation in Life's original text format: the title
+ * line, then one line per row with each cell as "0 " or "1 ", then a blank
+ * line.
+ */
+public class TextSink extends ChannelSink {
+
+	/**
+	 * This is the constructor, which writes to the given channel.
+	 * 
+	 * @param channel      The channel to write to.
+	 * @param closeChannel Whether closing the sink should close the channel.
+	 */
+	public TextSink(WritableByteChannel channel, boolean closeChannel) {
+		super(channel, closeChannel);
+	}
+
+	/**
+	 * This is the constructor, which writes to the given channel, and writes out
+	 * every generation as soon as it is rendered if asked to.
+	 * 
+	 * @param channel             The channel to write to.
+	 * @param closeChannel        Whether closing the sink should close the
+	 *                            channel.
+	 * @param flushEachGeneration Whether every generation is written out as soon
+	 *                            as it is rendered (for the console).
+	 */
+	public TextSink(WritableByteChannel channel, boolean closeChannel, boolean flushEachGeneration) {
+		super(channel, closeChannel, flushEachGeneration);
+	}
+
+	/**
+	 * This outputs the current generation of the grid in the original
+	 * text format.
+	 * 
+	 * @param title The title line to output before the grid.
+	 * @param grid  The grid to output.
+	 * @throws IOException If the output cannot be written, an IOException is
+	 *                     thrown.
+	 */
+	@Override
+	public void write(String title, LifeGrid grid) throws IOException {
+		put(title);
+		put((byte) '\n');
+		for (int j = 0; j < grid.getRows(); j++) {
+			for (int k = 0; k < grid.getColumns(); k++) {
+				put((byte) ('0' + grid.getLife(j, k)));
+				put((byte) ' ');
+			}
+			put((byte) '\n');
+		}
+		put((byte) '\n');
+		endGeneration();
+	}
+
+	/**
+	 * This outputs a line of text about the game on its own line.
+	 * 
+	 * @param text The text to output.
+	 * @throws IOException If the output cannot be written, an IOException is
+	 *                     thrown.
+	 */
+	@Override
+	public void comment(String text) throws IOException {
+		put(text);
+		put((byte) '\n');
+	}
+}
@@ -0,0 +1,337 @@
+/**
+ * @file TiledEngine.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the TiledEngine class, a grid backend that stores and computes the grid in cache-sized tiles.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> [options]
+ */
+package edu.ncsu.csc246.main;
+
+import java.io.Closeable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This class is a grid backend that splits the grid into square tiles (64x64
+ * cells, smaller at the bottom/right edges), each stored in its own small
+ * array one byte per cell with a one-cell halo around it. Each generation,
+ * every tile first refreshes its halo from the edges of the tiles around it
+ * (wrapping around, as in CellRule.countNeighbors) and then computes its next
+ * generation from its own array alone, so the working set of each task fits in
+ * the cache no matter how wide the grid is. The tiles are run on a
+ * ForkJoinPool, which splits them between its threads and lets idle threads
+ * steal tiles from busy ones. Each tile keeps two arrays that are swapped every
+ * generation, so nothing is allocated while the game runs. The pool is either
+ * shared (and left running when the engine is closed) or created for the engine
+ * alone (and shut down when the engine is closed).
+ */
+public class TiledEngine implements LifeEngine, Closeable {
+	/** The width/height of each tile, in cells (a power of two). */
+	static final int TILE = 64;
+	/** The log base 2 of TILE. */
+	private static final int SHIFT = 6;
+	/** The width of each row of a tile's array, including its halo. */
+	private static final int STRIDE = TILE + 2;
+
+	/** The number of rows in the grid. */
+	private final int rows;
+	/** The number of columns in the grid. */
+	private final int columns;
+	/** The rules of the game. */
+	private final LifeRule rule;
+	/** The number of tiles down the grid. */
+	private final int tileRows;
+	/** The number of tiles across the grid. */
+	private final int tileColumns;
+	/** The tiles, row by row. */
+	private final Tile[] tiles;
+	/** The pool of threads the tiles are run on. */
+	private final ForkJoinPool pool;
+	/** Whether the pool was created for this engine alone. */
+	private final boolean ownsPool;
+
+	/**
+	 * This class is one tile of the grid: its position, its size, and its two
+	 * padded arrays.
+	 */
+	private static class Tile {
+		/** The row of the grid the tile starts at. */
+		final int fromRow;
+		/** The column of the grid the tile starts at. */
+		final int fromColumn;
+		/** The number of rows in the tile. */
+		final int height;
+		/** The number of columns in the tile. */
+		final int width;
+		/** The current generation, with cell (r, c) at (r + 1) * STRIDE + c + 1. */
+		byte[] curr = new byte[STRIDE * STRIDE];
+		/** The array the next generation is written to, swapped with curr. */
+		byte[] next = new byte[STRIDE * STRIDE];
+
+		/**
+		 * This is the constructor, which creates a tile of dead cells.
+		 *
+		 * @param fromRow    The row of the grid the tile starts at.
+		 * @param fromColumn The column of the grid the tile starts at.
+		 * @param height     The number of rows in the tile.
+		 * @param width      The number of columns in the tile.
+		 */
+		Tile(int fromRow, int fromColumn, int height, int width) {
+			this.fromRow = fromRow;
+			this.fromColumn = fromColumn;
+			this.height = height;
+			this.width = width;
+		}
+	}
+
+	/**
+	 * This class is the ForkJoin task that runs a range of tiles, splitting the
+	 * range in half until it is a single tile so that idle threads can steal
+	 * work.
+	 */
+	private class TileTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		/** The first tile (inclusive) of the range. */
+		private final int from;
+		/** The last tile (exclusive) of the range. */
+		private final int to;
+
+		/**
+		 * This is the constructor, which creates a task for the given tiles.
+		 *
+		 * @param from The first tile (inclusive) of the range.
+		 * @param to   The last tile (exclusive) of the range.
+		 */
+		TileTask(int from, int to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		/**
+		 * This runs the tiles in the range, or splits the range in two.
+		 */
+		@Override
+		protected void compute() {
+			if (to - from == 1) {
+				Tile tile = tiles[from];
+				refreshHalo(tile);
+				stepTile(tile);
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new TileTask(from, middle), new TileTask(middle, to));
+		}
+	}
+
+	/**
+	 * This is the constructor, which creates a tiled grid of dead cells of the
+	 * given size that runs with the given rules on the given shared pool, which is
+	 * left running when the engine is closed.
+	 *
+	 * @param rows    The number of rows in the grid.
+	 * @param columns The number of columns in the grid.
+	 * @param rule    The rules of the game.
+	 * @param pool    The pool of threads to run the tiles on.
+	 * @throws IllegalArgumentException If the number of rows or columns is not
+	 *                                  positive, an IllegalArgumentException is
+	 *                                  thrown.
+	 */
+	public TiledEngine(int rows, int columns, LifeRule rule, ForkJoinPool pool) throws IllegalArgumentException {
+		this(rows, columns, rule, pool, false);
+	}
+
+	/**
+	 * This is the constructor, which creates a tiled grid of dead cells of the
+	 * given size that runs with the given rules on a pool of its own with the
+	 * given number of threads, shut down when the engine is closed.
+	 *
+	 * @param rows    The number of rows in the grid.
+	 * @param columns The number of columns in the grid.
+	 * @param rule    The rules of the game.
+	 * @param threads The number of threads in the engine's pool.
+	 * @throws IllegalArgumentException If the number of rows, columns, or threads
+	 *                                  is not positive, an
+	 *                                  IllegalArgumentException is thrown.
+	 */
+	public TiledEngine(int rows, int columns, LifeRule rule, int threads) throws IllegalArgumentException {
+		this(rows, columns, rule, new ForkJoinPool(threads), true);
+	}
+
+	/**
+	 * This is the constructor, which creates a tiled grid of dead cells of the
+	 * given size that runs with the given rules on the given pool.
+	 *
+	 * @param rows     The number of rows in the grid.
+	 * @param columns  The number of columns in the grid.
+	 * @param rule     The rules of the game.
+	 * @param pool     The pool of threads to run the tiles on.
+	 * @param ownsPool Whether the pool is shut down when the engine is closed.
+	 * @throws IllegalArgumentException If the number of rows or columns is not
+	 *                                  positive, an IllegalArgumentException is
+	 *                                  thrown.
+	 */
+	private TiledEngine(int rows, int columns, LifeRule rule, ForkJoinPool pool, boolean ownsPool)
+			throws IllegalArgumentException {
+		if (rows < 1 || columns < 1) {
+			if (ownsPool)
+				pool.shutdown();
+			throw new IllegalArgumentException("The grid must have at least 1 row and 1 column.");
+		}
+		this.rows = rows;
+		this.columns = columns;
+		this.rule = rule;
+		this.pool = pool;
+		this.ownsPool = ownsPool;
+		tileRows = (rows + TILE - 1) >>> SHIFT;
+		tileColumns = (columns + TILE - 1) >>> SHIFT;
+		tiles = new Tile[tileRows * tileColumns];
+		for (int tr = 0; tr < tileRows; tr++) {
+			for (int tc = 0; tc < tileColumns; tc++) {
+				int fromRow = tr << SHIFT;
+				int fromColumn = tc << SHIFT;
+				tiles[tr * tileColumns + tc] = new Tile(fromRow, fromColumn, Math.min(TILE, rows - fromRow),
+						Math.min(TILE, columns - fromColumn));
+			}
+		}
+	}
+
+	/**
+	 * This returns the number of rows in the grid.
+	 *
+	 * @return rows: The number of rows in the grid.
+	 */
+	@Override
+	public int getRows() {
+		return rows;
+	}
+
+	/**
+	 * This returns the number of columns in the grid.
+	 *
+	 * @return columns: The number of columns in the grid.
+	 */
+	@Override
+	public int getColumns() {
+		return columns;
+	}
+
+	/**
+	 * This returns the rules the engine applies each generation.
+	 *
+	 * @return rule: The rules of the game.
+	 */
+	@Override
+	public LifeRule getRule() {
+		return rule;
+	}
+
+	/**
+	 * This returns whether the cell at the given row and column is alive(1) or
+	 * dead(0) by reading it from its tile.
+	 *
+	 * @param row    The row of the cell.
+	 * @param column The column of the cell.
+	 * @return 1 if the cell is alive, 0 if it is dead.
+	 */
+	@Override
+	public int getLife(int row, int column) {
+		Tile tile = tiles[(row >>> SHIFT) * tileColumns + (column >>> SHIFT)];
+		return tile.curr[((row & (TILE - 1)) + 1) * STRIDE + (column & (TILE - 1)) + 1];
+	}
+
+	/**
+	 * This sets whether the cell at the given row and column is alive(1) or
+	 * dead(0) in its tile. The halos of the tiles around it are refreshed at the
+	 * start of the next generation.
+	 *
+	 * @param row    The row of the cell.
+	 * @param column The column of the cell.
+	 * @param alive  1 if the cell is alive, 0 if it is dead.
+	 * @throws IllegalArgumentException If the alive value is not 0 or 1, an
+	 *                                  IllegalArgumentException is thrown.
+	 */
+	@Override
+	public void setLife(int row, int column, int alive) throws IllegalArgumentException {
+		if (alive != 0 && alive != 1)
+			throw new IllegalArgumentException("The input alive value can only be 0 or 1.");
+		Tile tile = tiles[(row >>> SHIFT) * tileColumns + (column >>> SHIFT)];
+		tile.curr[((row & (TILE - 1)) + 1) * STRIDE + (column & (TILE - 1)) + 1] = (byte) alive;
+	}
+
+	/**
+	 * This advances the grid by one generation, running every tile on the pool
+	 * and then swapping each tile's arrays. A tile only reads the current
+	 * generation (its own and its neighbors' edges) and only writes its own halo
+	 * and next generation, so the tiles can run in any order.
+	 */
+	@Override
+	public void step() {
+		pool.invoke(new TileTask(0, tiles.length));
+		for (Tile tile : tiles) {
+			byte[] temp = tile.curr;
+			tile.curr = tile.next;
+			tile.next = temp;
+		}
+	}
+
+	/**
+	 * This copies the cells around the tile (from the edges of the tiles around
+	 * it, wrapping around the grid) into the tile's halo.
+	 *
+	 * @param tile The tile to refresh.
+	 */
+	private void refreshHalo(Tile tile) {
+		byte[] cells = tile.curr;
+		int above = tile.fromRow == 0 ? rows - 1 : tile.fromRow - 1;
+		int below = tile.fromRow + tile.height == rows ? 0 : tile.fromRow + tile.height;
+		int left = tile.fromColumn == 0 ? columns - 1 : tile.fromColumn - 1;
+		int right = tile.fromColumn + tile.width == columns ? 0 : tile.fromColumn + tile.width;
+		// The rows above and below, including the corners
+		for (int c = -1; c <= tile.width; c++) {
+			int column = c < 0 ? left : c == tile.width ? right : tile.fromColumn + c;
+			cells[c + 1] = (byte) getLife(above, column);
+			cells[(tile.height + 1) * STRIDE + c + 1] = (byte) getLife(below, column);
+		}
+		// The columns to the left and right
+		for (int r = 0; r < tile.height; r++) {
+			cells[(r + 1) * STRIDE] = (byte) getLife(tile.fromRow + r, left);
+			cells[(r + 1) * STRIDE + tile.width + 1] = (byte) getLife(tile.fromRow + r, right);
+		}
+	}
+
+	/**
+	 * This computes the next generation of the tile from its padded current
+	 * generation, looking each cell's next state up in the rule.
+	 *
+	 * @param tile The tile to compute.
+	 */
+	private void stepTile(Tile tile) {
+		byte[] cells = tile.curr;
+		byte[] out = tile.next;
+		for (int r = 1; r <= tile.height; r++) {
+			int here = r * STRIDE;
+			int up = here - STRIDE;
+			int down = here + STRIDE;
+			for (int c = 1; c <= tile.width; c++) {
+				int neighbors = cells[up + c - 1] + cells[up + c] + cells[up + c + 1] + cells[here + c - 1]
+						+ cells[here + c + 1] + cells[down + c - 1] + cells[down + c] + cells[down + c + 1];
+				out[here + c] = (byte) rule.next(cells[here + c], neighbors);
+			}
+		}
+	}
+
+	/**
+	 * This stops the engine's pool of threads, if it was created for this engine
+	 * alone (a shared pool is left running).
+	 */
+	@Override
+	public void close() {
+		if (ownsPool)
+			pool.shutdown();
+	}
+}
@@ -0,0 +1,252 @@
+/**
+ * @file TrackingEngine.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the TrackingEngine class, a grid backend that only checks the regions that can change.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      java edu.ncsu.csc246.main.Life <file name/path> <number of generations> [options]
+ */
+package edu.ncsu.csc246.main;
+
+import java.util.Arrays;
+
+/**
+ * This class is a grid backend that tracks which parts of the grid can change.
+ * The grid is split into square tiles, and a tile is only checked if it is
+ * "dirty": a cell in it or next to it changed in the last generation (or was
+ * set). Since a cell can only change if it or one of its neighbors changed,
+ * every other tile is skipped, so mostly-empty or mostly-stable grids run in
+ * time proportional to their activity rather than their area. (With a rule
+ * where dead cells with no neighbors come to life, B0, every tile starts
+ * dirty, since an empty grid changes.) The grid wraps
+ * around (is a torus) exactly as in CellRule.countNeighbors.
+ */
+public class TrackingEngine implements LifeEngine {
+	/** The width/height of each tile, in cells. */
+	static final int TILE = 16;
+
+	/** The number of rows in the grid. */
+	private final int rows;
+	/** The number of columns in the grid. */
+	private final int columns;
+	/** The rules of the game. */
+	private final LifeRule rule;
+	/** The cells of the current generation (1 alive, 0 dead), row by row. */
+	private final byte[] cells;
+	/** The row above each row, wrapping around. */
+	private final int[] up;
+	/** The row below each row, wrapping around. */
+	private final int[] down;
+	/** The column left of each column, wrapping around. */
+	private final int[] left;
+	/** The column right of each column, wrapping around. */
+	private final int[] right;
+	/** The number of tiles across the grid. */
+	private final int tileColumns;
+	/** Whether each tile is in the dirty list. */
+	private final boolean[] dirty;
+	/** The list of dirty tiles, which are checked in the next generation. */
+	private final int[] active;
+	/** The number of dirty tiles in the list. */
+	private int activeCount;
+	/** The cells (as row * columns + column) that change in this generation. */
+	private int[] changes = new int[64];
+
+	/**
+	 * This is the constructor, which creates a grid of dead cells of the given
+	 * size, with no dirty tiles.
+	 *
+	 * @param rows    The number of rows in the grid.
+	 * @param columns The number of columns in the grid.
+	 * @throws IllegalArgumentException If the number of rows or columns is not
+	 *                                  positive, an IllegalArgumentException is
+	 *                                  thrown.
+	 */
+	public TrackingEngine(int rows, int columns) throws IllegalArgumentException {
+		this(rows, columns, LifeRule.CONWAY);
+	}
+
+	/**
+	 * This is the constructor, which creates a grid of dead cells of the given
+	 * size that runs with the given rules, with no dirty tiles (or every tile
+	 * dirty if the rule brings cells with no neighbors to life).
+	 *
+	 * @param rows    The number of rows in the grid.
+	 * @param columns The number of columns in the grid.
+	 * @param rule    The rules of the game.
+	 * @throws IllegalArgumentException If the number of rows or columns is not
+	 *                                  positive, an IllegalArgumentException is
+	 *                                  thrown.
+	 */
+	public TrackingEngine(int rows, int columns, LifeRule rule) throws IllegalArgumentException {
+		if (rows < 1 || columns < 1)
+			throw new IllegalArgumentException("The grid must have at least 1 row and 1 column.");
+		this.rows = rows;
+		this.columns = columns;
+		this.rule = rule;
+		cells = new byte[rows * columns];
+		up = new int[rows];
+		down = new int[rows];
+		for (int r = 0; r < rows; r++) {
+			up[r] = r == 0 ? rows - 1 : r - 1;
+			down[r] = r == rows - 1 ? 0 : r + 1;
+		}
+		left = new int[columns];
+		right = new int[columns];
+		for (int c = 0; c < columns; c++) {
+			left[c] = c == 0 ? columns - 1 : c - 1;
+			right[c] = c == columns - 1 ? 0 : c + 1;
+		}
+		tileColumns = (columns + TILE - 1) / TILE;
+		int tiles = ((rows + TILE - 1) / TILE) * tileColumns;
+		dirty = new boolean[tiles];
+		active = new int[tiles];
+		if (rule.next(0, 0) == 1) {
+			for (int tile = 0; tile < tiles; tile++) {
+				dirty[tile] = true;
+				active[activeCount++] = tile;
+			}
+		}
+	}
+
+	/**
+	 * This returns the number of rows in the grid.
+	 *
+	 * @return rows: The number of rows in the grid.
+	 */
+	@Override
+	public int getRows() {
+		return rows;
+	}
+
+	/**
+	 * This returns the number of columns in the grid.
+	 *
+	 * @return columns: The number of columns in the grid.
+	 */
+	@Override
+	public int getColumns() {
+		return columns;
+	}
+
+	/**
+	 * This returns the rules the engine applies each generation.
+	 *
+	 * @return rule: The rules of the game.
+	 */
+	@Override
+	public LifeRule getRule() {
+		return rule;
+	}
+
+	/**
+	 * This returns whether the cell at the given row and column is alive(1) or
+	 * dead(0).
+	 *
+	 * @param row    The row of the cell.
+	 * @param column The column of the cell.
+	 * @return 1 if the cell is alive, 0 if it is dead.
+	 */
+	@Override
+	public int getLife(int row, int column) {
+		return cells[row * columns + column];
+	}
+
+	/**
+	 * This sets whether the cell at the given row and column is alive(1) or
+	 * dead(0), marking the tiles around it dirty if it changed.
+	 *
+	 * @param row    The row of the cell.
+	 * @param column The column of the cell.
+	 * @param alive  1 if the cell is alive, 0 if it is dead.
+	 * @throws IllegalArgumentException If the alive value is not 0 or 1, an
+	 *                                  IllegalArgumentException is thrown.
+	 */
+	@Override
+	public void setLife(int row, int column, int alive) throws IllegalArgumentException {
+		if (alive != 0 && alive != 1)
+			throw new IllegalArgumentException("The input alive value can only be 0 or 1.");
+		if (cells[row * columns + column] != alive) {
+			cells[row * columns + column] = (byte) alive;
+			markAround(row, column);
+		}
+	}
+
+	/**
+	 * This returns the number of tiles that will be checked in the next
+	 * generation.
+	 *
+	 * @return activeCount: The number of dirty tiles.
+	 */
+	public int getActiveTiles() {
+		return activeCount;
+	}
+
+	/**
+	 * This advances the grid by one generation. Every cell in a dirty tile is
+	 * checked against the current generation and any changes are recorded; the
+	 * changes are then applied, marking the tiles around each changed cell dirty
+	 * for the next generation.
+	 */
+	@Override
+	public void step() {
+		int changeCount = 0;
+		for (int i = 0; i < activeCount; i++) {
+			int tile = active[i];
+			dirty[tile] = false;
+			int fromRow = (tile / tileColumns) * TILE;
+			int fromColumn = (tile % tileColumns) * TILE;
+			int toRow = Math.min(fromRow + TILE, rows);
+			int toColumn = Math.min(fromColumn + TILE, columns);
+			for (int r = fromRow; r < toRow; r++) {
+				int above = up[r] * columns;
+				int here = r * columns;
+				int below = down[r] * columns;
+				for (int c = fromColumn; c < toColumn; c++) {
+					int w = left[c];
+					int e = right[c];
+					int neighbors = cells[above + w] + cells[above + c] + cells[above + e] + cells[here + w]
+							+ cells[here + e] + cells[below + w] + cells[below + c] + cells[below + e];
+					int alive = cells[here + c];
+					int next = rule.next(alive, neighbors);
+					if (next != alive) {
+						if (changeCount == changes.length)
+							changes = Arrays.copyOf(changes, changeCount * 2);
+						changes[changeCount++] = here + c;
+					}
+				}
+			}
+		}
+		activeCount = 0;
+		for (int i = 0; i < changeCount; i++) {
+			int index = changes[i];
+			cells[index] ^= 1;
+			markAround(index / columns, index % columns);
+		}
+	}
+
+	/**
+	 * This marks the tiles holding the given cell and its eight neighbors dirty,
+	 * wrapping around the grid.
+	 *
+	 * @param row    The row of the cell.
+	 * @param column The column of the cell.
+	 */
+	private void markAround(int row, int column) {
+		for (int i = -1; i < 2; i++) {
+			int r = i < 0 ? up[row] : i > 0 ? down[row] : row;
+			for (int j = -1; j < 2; j++) {
+				int c = j < 0 ? left[column] : j > 0 ? right[column] : column;
+				int tile = (r / TILE) * tileColumns + c / TILE;
+				if (!dirty[tile]) {
+					dirty[tile] = true;
+					active[activeCount++] = tile;
+				}
+			}
+		}
+	}
+}
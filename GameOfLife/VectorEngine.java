@@ -0,0 +1,172 @@
+/**
+ * @file VectorEngine.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the VectorEngine class, a grid backend that computes rows in SIMD lanes when it can.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands:
+ *      javac -d . *.java
+ *      javac --add-modules jdk.incubator.vector -cp . -d . vector/*.java   (optional, JDK 16+)
+ *      java [--add-modules jdk.incubator.vector] edu.ncsu.csc246.main.Life <file name/path> <number of generations> --engine vector
+ */
+package edu.ncsu.csc246.main;
+
+/**
+ * This class is a grid backend that stores each row one byte per cell, padded
+ * with a halo column on each side that mirrors the opposite edge of the grid
+ * (see RowKernel), so the torus wraparound needs no branches. Each row of the
+ * next generation is computed by a RowKernel: the vector kernel (in the vector
+ * directory) sums the shifted rows of many cells at once in SIMD lanes using
+ * the JDK Vector API, and the scalar kernel is used instead whenever the
+ * vector kernel was not compiled or the jdk.incubator.vector module was not
+ * added when running. Two grids are kept and swapped every generation.
+ */
+public class VectorEngine implements LifeEngine {
+	/** The class name of the vector kernel, loaded only if it is available. */
+	static final String VECTOR_KERNEL = "edu.ncsu.csc246.main.VectorRowKernel";
+	/** The kernel used by every VectorEngine, chosen once. */
+	private static final RowKernel KERNEL = loadKernel();
+
+	/** The number of rows in the grid. */
+	private final int rows;
+	/** The number of columns in the grid. */
+	private final int columns;
+	/** The rules of the game. */
+	private final LifeRule rule;
+	/** The padded grid for the current generation. */
+	private byte[][] currGen;
+	/** The padded grid the next generation is written to. */
+	private byte[][] nextGen;
+
+	/**
+	 * This is the constructor, which creates a padded grid of dead cells of the
+	 * given size that runs with the given rules.
+	 *
+	 * @param rows    The number of rows in the grid.
+	 * @param columns The number of columns in the grid.
+	 * @param rule    The rules of the game.
+	 * @throws IllegalArgumentException If the number of rows or columns is not
+	 *                                  positive, an IllegalArgumentException is
+	 *                                  thrown.
+	 */
+	public VectorEngine(int rows, int columns, LifeRule rule) throws IllegalArgumentException {
+		if (rows < 1 || columns < 1 || columns > Integer.MAX_VALUE - 2)
+			throw new IllegalArgumentException("The grid must have at least 1 row and 1 column.");
+		this.rows = rows;
+		this.columns = columns;
+		this.rule = rule;
+		currGen = new byte[rows][columns + 2];
+		nextGen = new byte[rows][columns + 2];
+	}
+
+	/**
+	 * This loads the vector kernel if it was compiled and the Vector API is
+	 * available, and otherwise falls back to the scalar kernel.
+	 *
+	 * @return The kernel to use.
+	 */
+	private static RowKernel loadKernel() {
+		try {
+			return (RowKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException | LinkageError e) {
+			return new ScalarRowKernel();
+		}
+	}
+
+	/**
+	 * This returns whether rows are computed with the Vector API (rather than the
+	 * scalar fallback).
+	 *
+	 * @return true if the vector kernel is used, false otherwise.
+	 */
+	public static boolean isVectorized() {
+		return !(KERNEL instanceof ScalarRowKernel);
+	}
+
+	/**
+	 * This returns the number of rows in the grid.
+	 *
+	 * @return rows: The number of rows in the grid.
+	 */
+	@Override
+	public int getRows() {
+		return rows;
+	}
+
+	/**
+	 * This returns the number of columns in the grid.
+	 *
+	 * @return columns: The number of columns in the grid.
+	 */
+	@Override
+	public int getColumns() {
+		return columns;
+	}
+
+	/**
+	 * This returns the rules the engine applies each generation.
+	 *
+	 * @return rule: The rules of the game.
+	 */
+	@Override
+	public LifeRule getRule() {
+		return rule;
+	}
+
+	/**
+	 * This returns whether the cell at the given row and column is alive(1) or
+	 * dead(0).
+	 *
+	 * @param row    The row of the cell.
+	 * @param column The column of the cell.
+	 * @return 1 if the cell is alive, 0 if it is dead.
+	 */
+	@Override
+	public int getLife(int row, int column) {
+		return currGen[row][column + 1];
+	}
+
+	/**
+	 * This sets whether the cell at the given row and column is alive(1) or
+	 * dead(0), updating the halo column that mirrors it if it is on an edge.
+	 *
+	 * @param row    The row of the cell.
+	 * @param column The column of the cell.
+	 * @param alive  1 if the cell is alive, 0 if it is dead.
+	 * @throws IllegalArgumentException If the alive value is not 0 or 1, an
+	 *                                  IllegalArgumentException is thrown.
+	 */
+	@Override
+	public void setLife(int row, int column, int alive) throws IllegalArgumentException {
+		if (alive != 0 && alive != 1)
+			throw new IllegalArgumentException("The input alive value can only be 0 or 1.");
+		byte[] padded = currGen[row];
+		padded[column + 1] = (byte) alive;
+		if (column == 0)
+			padded[columns + 1] = (byte) alive;
+		if (column == columns - 1)
+			padded[0] = (byte) alive;
+	}
+
+	/**
+	 * This advances the grid by one generation, computing each row with the
+	 * kernel from the rows above and below it (wrapping around), refreshing the
+	 * new row's halo, and then swapping the two grids.
+	 */
+	@Override
+	public void step() {
+		for (int row = 0; row < rows; row++) {
+			byte[] up = currGen[row == 0 ? rows - 1 : row - 1];
+			byte[] down = currGen[row == rows - 1 ? 0 : row + 1];
+			byte[] out = nextGen[row];
+			KERNEL.stepRow(up, currGen[row], down, out, columns, rule);
+			out[0] = out[columns];
+			out[columns + 1] = out[1];
+		}
+		byte[][] temp = currGen;
+		currGen = nextGen;
+		nextGen = temp;
+	}
+}
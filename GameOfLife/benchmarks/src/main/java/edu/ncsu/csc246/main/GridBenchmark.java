@@ -0,0 +1,227 @@
+/**
+ * @file GridBenchmark.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains the JMH benchmarks for this implementation of Game of Life by John Conway.
+ * It contains the GridBenchmark class, which seeds the grids the engine benchmarks run on.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands (from GameOfLife/benchmarks):
+ *      mvn -B package
+ *      java -jar target/benchmarks.jar [-p engine=packed] [-prof gc]
+ */
+package edu.ncsu.csc246.main;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class holds what the engine benchmarks share: square grids of several
+ * sizes, seeded with well-known patterns from the benchmark resources (the
+ * R-pentomino and the Gosper glider gun placed in the middle of the grid, and a
+ * 30% random grid tiled across the whole grid). The grid is reset before every
+ * iteration, so each iteration runs the same generations. Each subclass chooses
+ * its own engines and patterns, so only combinations that measure something
+ * different are run: LifeBenchmark steps the single-threaded engines,
+ * ParallelLifeBenchmark steps the engines that use threads on 1 and 4 threads,
+ * and JumpBenchmark advances the single-threaded engines many generations at
+ * once.
+ *
+ * The score is generations per second, and the "cells" counter is cells per
+ * second (generations times the area of the grid). The allocation rate is
+ * measured by running with the GC profiler (-prof gc). The vector engine only
+ * uses the Vector API if the forks are run with the jdk.incubator.vector
+ * module added; otherwise it measures the scalar fallback, and which kernel it
+ * measures is printed before the first iteration.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public abstract class GridBenchmark {
+	/** The width/height of the grid. */
+	@Param({ "256", "1024", "2048" })
+	public int size;
+
+	/** The rules of the game, in B/S notation. */
+	@Param({ "B3/S23" })
+	public String rule;
+
+	/** The pattern's cells (1 alive, 0 dead), read once per trial. */
+	private int[][] seed;
+	/** The engine being benchmarked, recreated before every iteration. */
+	protected LifeEngine life;
+	/** Whether the vector engine's kernel has been reported this trial. */
+	private boolean kernelReported;
+
+	/**
+	 * This class counts the cells computed, reported by JMH per second.
+	 */
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	@State(Scope.Thread)
+	public static class Cells {
+		/** The number of cells computed. */
+		public long cells;
+
+		/**
+		 * This resets the counter before every iteration.
+		 */
+		@Setup(Level.Iteration)
+		public void reset() {
+			cells = 0;
+		}
+	}
+
+	/**
+	 * This returns the name of the pattern the grid is seeded with.
+	 *
+	 * @return pattern: The name of the pattern.
+	 */
+	protected abstract String getPattern();
+
+	/**
+	 * This creates an empty engine of the benchmark's size.
+	 *
+	 * @return engine: The engine to benchmark.
+	 * @throws IOException If the engine cannot be created, an IOException is
+	 *                     thrown.
+	 */
+	protected abstract LifeEngine createEngine() throws IOException;
+
+	/**
+	 * This starts any threads the engines share for the whole trial (none by
+	 * default).
+	 */
+	protected void startTrial() {
+	}
+
+	/**
+	 * This stops any threads the engines share at the end of the trial (none by
+	 * default).
+	 */
+	protected void stopTrial() {
+	}
+
+	/**
+	 * This reads the pattern and starts any shared threads once per trial.
+	 *
+	 * @throws IOException If the pattern cannot be read, an IOException is thrown.
+	 */
+	@Setup(Level.Trial)
+	public void setUpTrial() throws IOException {
+		seed = readPattern(getPattern());
+		startTrial();
+	}
+
+	/**
+	 * This creates the engine and seeds the grid before every iteration.
+	 *
+	 * @throws IOException If the engine cannot be created, an IOException is
+	 *                     thrown.
+	 */
+	@Setup(Level.Iteration)
+	public void setUpIteration() throws IOException {
+		life = createEngine();
+		if (life instanceof VectorEngine && !kernelReported) {
+			System.out.println(VectorEngine.isVectorized() ? "The vector engine is using the Vector API kernel."
+					: "The vector engine is using the scalar kernel.");
+			kernelReported = true;
+		}
+		boolean tile = getPattern().startsWith("random");
+		int rowOffset = tile ? 0 : (size - seed.length) / 2;
+		int columnOffset = tile ? 0 : (size - seed[0].length) / 2;
+		for (int row = 0; row < size; row++) {
+			for (int column = 0; column < size; column++) {
+				int r = row - rowOffset;
+				int c = column - columnOffset;
+				if (tile) {
+					r %= seed.length;
+					c %= seed[0].length;
+				} else if (r < 0 || c < 0 || r >= seed.length || c >= seed[0].length) {
+					continue;
+				}
+				if (seed[r][c] == 1)
+					life.setLife(row, column, 1);
+			}
+		}
+	}
+
+	/**
+	 * This stops the engine's threads, if it started any, after every iteration.
+	 *
+	 * @throws IOException If the engine cannot be closed, an IOException is
+	 *                     thrown.
+	 */
+	@TearDown(Level.Iteration)
+	public void tearDownIteration() throws IOException {
+		if (life instanceof Closeable)
+			((Closeable) life).close();
+	}
+
+	/**
+	 * This stops any shared threads at the end of the trial.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDownTrial() {
+		stopTrial();
+	}
+
+	/**
+	 * This creates an engine of the benchmark's size from the same options as Life.
+	 *
+	 * @param engine  The name of the engine.
+	 * @param threads The number of threads for engines that use them.
+	 * @return engine: The new engine.
+	 * @throws IOException If the engine cannot be created, an IOException is
+	 *                     thrown.
+	 */
+	protected LifeEngine createEngine(String engine, int threads) throws IOException {
+		return Life.createEngine(LifeOptions.parse(
+				new String[] { "benchmark", "1", "--engine", engine, "--threads", "" + threads, "--rule", rule }),
+				size, size);
+	}
+
+	/**
+	 * This reads a pattern (in Life's text format) from the benchmark resources.
+	 *
+	 * @param name The name of the pattern.
+	 * @return The pattern's cells.
+	 * @throws IOException If the pattern cannot be read, an IOException is thrown.
+	 */
+	static int[][] readPattern(String name) throws IOException {
+		InputStream in = GridBenchmark.class.getResourceAsStream("/patterns/" + name + ".txt");
+		if (in == null)
+			throw new IOException("There is no pattern named " + name + ".");
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.US_ASCII))) {
+			String[] header = reader.readLine().trim().split("\\s+");
+			int[][] cells = new int[Integer.parseInt(header[0])][Integer.parseInt(header[1])];
+			for (int[] row : cells) {
+				String[] values = reader.readLine().trim().split("\\s+");
+				for (int column = 0; column < row.length; column++)
+					row[column] = Integer.parseInt(values[column]);
+			}
+			return cells;
+		}
+	}
+}
@@ -0,0 +1,78 @@
+/**
+ * @file JumpBenchmark.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains the JMH benchmarks for this implementation of Game of Life by John Conway.
+ * It contains the JumpBenchmark class, which measures how fast each engine advances many generations at once.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands (from GameOfLife/benchmarks):
+ *      mvn -B package
+ *      java -jar target/benchmarks.jar JumpBenchmark [-p engine=hashlife] [-prof gc]
+ */
+package edu.ncsu.csc246.main;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * This class benchmarks advancing the grid many generations at once, which
+ * engines such as HashLife can do faster than one at a time, on the patterns
+ * that settle into repeating structure. The random pattern is left out: its
+ * chaos defeats HashLife's memo, so one invocation on a large grid takes
+ * minutes and measures nothing the step benchmarks do not.
+ */
+@State(Scope.Thread)
+public class JumpBenchmark extends GridBenchmark {
+	/** The number of generations per invocation. */
+	static final int JUMP = 1024;
+
+	/** The engine to benchmark. */
+	@Param({ "packed", "hashlife", "tracking", "vector", "sparse" })
+	public String engine;
+
+	/** The pattern the grid is seeded with. */
+	@Param({ "r-pentomino", "gosper-gun" })
+	public String pattern;
+
+	/**
+	 * This returns the name of the pattern the grid is seeded with.
+	 *
+	 * @return pattern: The name of the pattern.
+	 */
+	@Override
+	protected String getPattern() {
+		return pattern;
+	}
+
+	/**
+	 * This creates an empty engine of the benchmark's size.
+	 *
+	 * @return engine: The engine to benchmark.
+	 * @throws IOException If the engine cannot be created, an IOException is
+	 *                     thrown.
+	 */
+	@Override
+	protected LifeEngine createEngine() throws IOException {
+		return createEngine(engine, 1);
+	}
+
+	/**
+	 * This benchmarks advancing the grid JUMP generations at once.
+	 *
+	 * @param counter The counter of cells computed.
+	 * @throws InterruptedException If the engine's threads are interrupted, an
+	 *                              InterruptedException is thrown.
+	 */
+	@Benchmark
+	@Measurement(iterations = 3, time = 5)
+	public void jump(Cells counter) throws InterruptedException {
+		life.advance(JUMP);
+		counter.cells += (long) size * size * JUMP;
+	}
+}
@@ -0,0 +1,72 @@
+/**
+ * @file LifeBenchmark.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains the JMH benchmarks for this implementation of Game of Life by John Conway.
+ * It contains the LifeBenchmark class, which measures how fast each single-threaded engine runs generations.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands (from GameOfLife/benchmarks):
+ *      mvn -B package
+ *      java -jar target/benchmarks.jar [-p engine=packed] [-prof gc]
+ */
+package edu.ncsu.csc246.main;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * This class benchmarks the engines that run on the calling thread alone,
+ * advancing the grid one generation at a time on every size and pattern of
+ * GridBenchmark. The engines that use threads of their own are benchmarked on
+ * each number of threads by ParallelLifeBenchmark.
+ */
+@State(Scope.Thread)
+public class LifeBenchmark extends GridBenchmark {
+	/** The engine to benchmark. */
+	@Param({ "packed", "hashlife", "tracking", "vector", "sparse" })
+	public String engine;
+
+	/** The pattern the grid is seeded with. */
+	@Param({ "r-pentomino", "gosper-gun", "random-30" })
+	public String pattern;
+
+	/**
+	 * This returns the name of the pattern the grid is seeded with.
+	 *
+	 * @return pattern: The name of the pattern.
+	 */
+	@Override
+	protected String getPattern() {
+		return pattern;
+	}
+
+	/**
+	 * This creates an empty engine of the benchmark's size.
+	 *
+	 * @return engine: The engine to benchmark.
+	 * @throws IOException If the engine cannot be created, an IOException is
+	 *                     thrown.
+	 */
+	@Override
+	protected LifeEngine createEngine() throws IOException {
+		return createEngine(engine, 1);
+	}
+
+	/**
+	 * This benchmarks advancing the grid one generation at a time.
+	 *
+	 * @param counter The counter of cells computed.
+	 * @throws InterruptedException If the engine's threads are interrupted, an
+	 *                              InterruptedException is thrown.
+	 */
+	@Benchmark
+	public void step(Cells counter) throws InterruptedException {
+		life.step();
+		counter.cells += (long) size * size;
+	}
+}
@@ -0,0 +1,106 @@
+/**
+ * @file ParallelLifeBenchmark.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains the JMH benchmarks for this implementation of Game of Life by John Conway.
+ * It contains the ParallelLifeBenchmark class, which measures how fast the engines that use threads run generations.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands (from GameOfLife/benchmarks):
+ *      mvn -B package
+ *      java -jar target/benchmarks.jar ParallelLifeBenchmark [-p threads=4] [-prof gc]
+ */
+package edu.ncsu.csc246.main;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * This class benchmarks the engines that split each generation across threads
+ * of their own (the cell engine's stripes, the tiled engine's tiles, and the
+ * banded engine's bands) on each number of threads, advancing the grid one
+ * generation at a time on every size and pattern of GridBenchmark. The banded
+ * engine runs one band per thread with the local transport, so it measures
+ * the bands and the trading of their edge rows rather than starting worker
+ * processes for every iteration.
+ */
+@State(Scope.Thread)
+public class ParallelLifeBenchmark extends GridBenchmark {
+	/** The engine to benchmark. */
+	@Param({ "cell", "tiled", "banded" })
+	public String engine;
+
+	/** The pattern the grid is seeded with. */
+	@Param({ "r-pentomino", "gosper-gun", "random-30" })
+	public String pattern;
+
+	/** The number of threads (or bands) the engine uses. */
+	@Param({ "1", "4" })
+	public int threads;
+
+	/** The pool of threads for the cell engine, shared by the whole trial. */
+	private StripeScheduler scheduler;
+
+	/**
+	 * This returns the name of the pattern the grid is seeded with.
+	 *
+	 * @return pattern: The name of the pattern.
+	 */
+	@Override
+	protected String getPattern() {
+		return pattern;
+	}
+
+	/**
+	 * This starts the cell engine's threads once per trial.
+	 */
+	@Override
+	protected void startTrial() {
+		if (engine.equals("cell"))
+			scheduler = new StripeScheduler(threads);
+	}
+
+	/**
+	 * This stops the cell engine's threads at the end of the trial.
+	 */
+	@Override
+	protected void stopTrial() {
+		if (scheduler != null)
+			scheduler.shutdown();
+	}
+
+	/**
+	 * This creates an empty engine of the benchmark's size on the benchmark's
+	 * threads.
+	 *
+	 * @return engine: The engine to benchmark.
+	 * @throws IOException If the engine cannot be created, an IOException is
+	 *                     thrown.
+	 */
+	@Override
+	protected LifeEngine createEngine() throws IOException {
+		if (engine.equals("cell"))
+			return new CellEngine(size, size, scheduler, LifeRule.parse(rule));
+		if (engine.equals("banded"))
+			return Life.createEngine(LifeOptions.parse(new String[] { "benchmark", "1", "--engine", "banded", "--bands",
+					"" + threads, "--transport", "local", "--rule", rule }), size, size);
+		return createEngine(engine, threads);
+	}
+
+	/**
+	 * This benchmarks advancing the grid one generation at a time.
+	 *
+	 * @param counter The counter of cells computed.
+	 * @throws InterruptedException If the engine's threads are interrupted, an
+	 *                              InterruptedException is thrown.
+	 */
+	@Benchmark
+	public void step(Cells counter) throws InterruptedException {
+		life.step();
+		counter.cells += (long) size * size;
+	}
+}
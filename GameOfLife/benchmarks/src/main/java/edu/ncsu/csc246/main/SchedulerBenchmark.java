@@ -0,0 +1,115 @@
+/**
+ * @file SchedulerBenchmark.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains the JMH benchmarks for this implementation of Game of Life by John Conway.
+ * It contains the SchedulerBenchmark class, which measures how fast the cell engine runs under each scheduler.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands (from GameOfLife/benchmarks):
+ *      mvn -B package
+ *      java -jar target/benchmarks.jar SchedulerBenchmark [-p scheduler=virtual]
+ */
+package edu.ncsu.csc246.main;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks the cell engine's generations under each scheduler:
+ * one stripe of rows per thread of a fixed pool ("stripe"), one task per row on
+ * a fixed pool of platform threads ("platform"), and one task per row on its
+ * own virtual thread ("virtual"), across grid sizes seeded with the 30% random
+ * pattern. The virtual scheduler fails on JVMs without virtual threads, so
+ * run the forks on JDK 21 or later to compare it.
+ *
+ * The score is generations per second.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchedulerBenchmark {
+	/** The scheduler to benchmark. */
+	@Param({ "stripe", "platform", "virtual" })
+	public String scheduler;
+
+	/** The width/height of the grid. */
+	@Param({ "64", "256", "1024" })
+	public int size;
+
+	/** The number of platform threads for the stripe and platform schedulers. */
+	@Param({ "4" })
+	public int threads;
+
+	/** The scheduler being benchmarked, shared by the whole trial. */
+	private GenerationScheduler generations;
+	/** The engine being benchmarked. */
+	private CellEngine life;
+
+	/** The pattern's cells (1 alive, 0 dead), read once per trial. */
+	private int[][] seed;
+
+	/**
+	 * This starts the scheduler and reads the pattern once per trial.
+	 *
+	 * @throws IOException If the pattern cannot be read, an IOException is thrown.
+	 */
+	@Setup(Level.Trial)
+	public void setUpTrial() throws IOException {
+		if (scheduler.equals("stripe"))
+			generations = new StripeScheduler(threads);
+		else
+			generations = new RowTaskScheduler(threads, scheduler.equals("virtual"));
+		seed = GridBenchmark.readPattern("random-30");
+	}
+
+	/**
+	 * This creates the engine and seeds the grid before every iteration, so each
+	 * iteration runs the same generations of the random pattern rather than a
+	 * grid that has mostly died out.
+	 */
+	@Setup(Level.Iteration)
+	public void setUpIteration() {
+		life = new CellEngine(size, size, generations, LifeRule.CONWAY);
+		for (int row = 0; row < size; row++)
+			for (int column = 0; column < size; column++)
+				if (seed[row % seed.length][column % seed[0].length] == 1)
+					life.setLife(row, column, 1);
+	}
+
+	/**
+	 * This stops the scheduler's threads at the end of the trial.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDownTrial() {
+		generations.shutdown();
+	}
+
+	/**
+	 * This benchmarks advancing the grid one generation.
+	 *
+	 * @throws InterruptedException If the scheduler's threads are interrupted, an
+	 *                              InterruptedException is thrown.
+	 */
+	@Benchmark
+	public void step() throws InterruptedException {
+		life.step();
+	}
+}
@@ -0,0 +1,180 @@
+/**
+ * @file BandedEngineTest.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some tests for this implementation of Game of Life by John Conway.
+ * It contains the BandedEngineTest class, which checks the banded engine's in-process bands against the packed engine.
+ * This program was developed via the Eclipse IDE for Developers.
+ * 
+ * This program is run through the command-line via the following commands (from GameOfLife):
+ *      javac -d . *.java test/*.java
+ *      java edu.ncsu.csc246.main.BandedEngineTest
+ */
+package edu.ncsu.csc246.main;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * This class tests the BandedEngine with its bands on threads of this process
+ * (the local transport): that its generations match the PackedEngine's, both
+ * when it steps and when it advances many generations at once, and with cells
+ * set between generations; and that a band whose neighbor has stopped fails
+ * instead of waiting forever for its rows.
+ */
+public class BandedEngineTest {
+	/** The number of rows in the grid (more than a window per band). */
+	private static final int ROWS = 200;
+	/** The number of columns in the grid (more than one word per row). */
+	private static final int COLUMNS = 70;
+	/** How long a band may take to notice its neighbor has stopped, in seconds. */
+	private static final int TIMEOUT = 10;
+
+	/**
+	 * The main method runs every test, throwing an AssertionError at the first
+	 * one that fails.
+	 * 
+	 * @param args Not used.
+	 * @throws Exception If a test cannot be run, its exception is thrown.
+	 */
+	public static void main(String[] args) throws Exception {
+		matchesPackedEngine();
+		closeWakesReceiver();
+		stoppedNeighborFailsBand();
+		System.out.println("BandedEngineTest passed.");
+	}
+
+	/**
+	 * This checks that the engine's generations match the PackedEngine's.
+	 * 
+	 * @throws IOException          If the bands cannot be started, an IOException
+	 *                              is thrown.
+	 * @throws InterruptedException If the bands are interrupted, an
+	 *                              InterruptedException is thrown.
+	 */
+	private static void matchesPackedEngine() throws IOException, InterruptedException {
+		String[] options = { "test", "1", "--engine", "packed" };
+		try (BandedEngine banded = new BandedEngine(ROWS, COLUMNS, LifeRule.CONWAY, 3, options, false)) {
+			PackedEngine packed = new PackedEngine(ROWS, COLUMNS, LifeRule.CONWAY);
+			Random random = new Random(246);
+			for (int row = 0; row < ROWS; row++) {
+				for (int column = 0; column < COLUMNS; column++) {
+					int alive = random.nextInt(10) < 3 ? 1 : 0;
+					banded.setLife(row, column, alive);
+					packed.setLife(row, column, alive);
+				}
+			}
+			long gen = 0;
+			for (int round = 1; round <= 20; round++) {
+				long generations = round % 4 == 0 ? 7 : 1;
+				banded.advance(generations);
+				packed.advance(generations);
+				gen += generations;
+				compare(banded, packed, gen);
+				// Set a few cells between generations, in different bands and windows
+				int row = random.nextInt(ROWS);
+				int column = random.nextInt(COLUMNS);
+				banded.setLife(row, column, 1);
+				packed.setLife(row, column, 1);
+				banded.setLife(ROWS - 1 - row, column, 0);
+				packed.setLife(ROWS - 1 - row, column, 0);
+			}
+		}
+	}
+
+	/**
+	 * This checks that closing either end of a local link wakes up a band waiting
+	 * for a row at the other end with an IOException.
+	 * 
+	 * @throws Exception If the receiver cannot be run, its exception is thrown.
+	 */
+	private static void closeWakesReceiver() throws Exception {
+		for (int closed = 0; closed < 2; closed++) {
+			RowLink[] link = LocalRowLink.pair();
+			ExecutorService thread = Executors.newSingleThreadExecutor();
+			try {
+				Future<Void> receiver = thread.submit(() -> {
+					link[0].receive(new long[2]);
+					return null;
+				});
+				link[closed].close();
+				checkFailed(receiver, "A band waiting on a closed link");
+			} finally {
+				thread.shutdownNow();
+			}
+		}
+	}
+
+	/**
+	 * This checks that a band whose neighbor has stopped (and closed its links)
+	 * fails instead of waiting for the neighbor's rows.
+	 * 
+	 * @throws Exception If the band cannot be run, its exception is thrown.
+	 */
+	private static void stoppedNeighborFailsBand() throws Exception {
+		// Two bands in a ring: the first above and below the second
+		RowLink[] above = LocalRowLink.pair();
+		RowLink[] below = LocalRowLink.pair();
+		BandWorker band = new BandWorker(4, COLUMNS, new PackedEngine(6, COLUMNS, LifeRule.CONWAY), above[1],
+				below[0]);
+		ExecutorService thread = Executors.newSingleThreadExecutor();
+		try {
+			Future<Void> running = thread.submit(() -> {
+				band.advance(10);
+				return null;
+			});
+			// The neighbor stops without sending a row
+			above[0].close();
+			below[1].close();
+			checkFailed(running, "A band whose neighbor stopped");
+		} finally {
+			thread.shutdownNow();
+		}
+	}
+
+	/**
+	 * This checks that the task failed with an IOException, rather than finishing
+	 * or still waiting after the timeout.
+	 * 
+	 * @param task The task that should fail.
+	 * @param what What the task is, for the message of the failure.
+	 * @throws InterruptedException If the thread is interrupted while waiting, an
+	 *                              InterruptedException is thrown.
+	 */
+	private static void checkFailed(Future<Void> task, String what) throws InterruptedException {
+		try {
+			task.get(TIMEOUT, TimeUnit.SECONDS);
+			CellEngineTest.check(false, what + " should fail, but finished.");
+		} catch (TimeoutException e) {
+			CellEngineTest.check(false, what + " should fail, but was still waiting after " + TIMEOUT + " seconds.");
+		} catch (ExecutionException e) {
+			CellEngineTest.check(e.getCause() instanceof IOException,
+					what + " should fail with an IOException, but failed with " + e.getCause() + ".");
+		}
+	}
+
+	/**
+	 * This checks that the two engines hold the same grid.
+	 * 
+	 * @param banded The banded engine.
+	 * @param packed The packed engine.
+	 * @param gen    The generation the engines are at.
+	 */
+	private static void compare(LifeEngine banded, LifeEngine packed, long gen) {
+		long[] expected = new long[(COLUMNS + 63) >>> 6];
+		long[] actual = new long[expected.length];
+		for (int row = 0; row < ROWS; row++) {
+			packed.getRow(row, expected);
+			banded.getRow(row, actual);
+			for (int w = 0; w < expected.length; w++)
+				CellEngineTest.check(expected[w] == actual[w],
+						"The engines differ at generation " + gen + ", row " + row + ".");
+		}
+	}
+}
@@ -0,0 +1,165 @@
+/**
+ * @file CellEngineTest.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some tests for this implementation of Game of Life by John Conway.
+ * It contains the CellEngineTest class, which checks that the cell engine allocates nothing while it steps.
+ * This program was developed via the Eclipse IDE for Developers.
+ * 
+ * This program is run through the command-line via the following commands (from GameOfLife):
+ *      javac -d . *.java test/*.java
+ *      java edu.ncsu.csc246.main.CellEngineTest
+ */
+package edu.ncsu.csc246.main;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * This class tests the CellEngine: that its double-buffered generations
+ * allocate nothing once the engine is created (measured with the bytes every
+ * thread of the JVM has allocated, so the scheduler's worker threads are
+ * counted too), and that its generations match the PackedEngine's on both the
+ * stripe and the row task schedulers.
+ */
+public class CellEngineTest {
+	/** The most bytes the JVM may allocate over all the measured generations. */
+	private static final long ALLOWED_BYTES = 4096;
+
+	/**
+	 * The main method runs every test, throwing an AssertionError at the first
+	 * one that fails.
+	 * 
+	 * @param args Not used.
+	 * @throws InterruptedException If the engine's threads are interrupted, an
+	 *                              InterruptedException is thrown.
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		measuresAllocation();
+		stepAllocatesNothing();
+		matchesPackedEngine();
+		System.out.println("CellEngineTest passed.");
+	}
+
+	/**
+	 * This checks that the measurement can see an allocation the size of a grid
+	 * of cells, so the test below is not passing by measuring nothing.
+	 */
+	private static void measuresAllocation() {
+		long before = allocatedBytes();
+		Cell[][] grid = new Cell[64][64];
+		for (int i = 0; i < 64; i++)
+			for (int j = 0; j < 64; j++)
+				grid[i][j] = new Cell();
+		long allocated = allocatedBytes() - before;
+		check(allocated >= 64 * 64 * 16, "A 64x64 grid of cells should be measured, but " + allocated
+				+ " bytes were.");
+	}
+
+	/**
+	 * This checks that stepping the engine (after the JIT has warmed up) does not
+	 * allocate, on the stripe scheduler.
+	 * 
+	 * @throws InterruptedException If the engine's threads are interrupted, an
+	 *                              InterruptedException is thrown.
+	 */
+	private static void stepAllocatesNothing() throws InterruptedException {
+		GenerationScheduler scheduler = new StripeScheduler(2);
+		try {
+			CellEngine engine = new CellEngine(64, 64, scheduler, LifeRule.CONWAY);
+			seed(engine);
+			for (int i = 0; i < 2000; i++)
+				engine.step();
+			// The least measured over a few rounds, so a stray allocation by another
+			// thread of the JVM (such as a JIT compiler) does not fail the test
+			long least = Long.MAX_VALUE;
+			for (int round = 0; round < 5; round++) {
+				long before = allocatedBytes();
+				for (int i = 0; i < 100; i++)
+					engine.step();
+				least = Math.min(least, allocatedBytes() - before);
+			}
+			check(least <= ALLOWED_BYTES, "100 generations allocated " + least + " bytes.");
+		} finally {
+			scheduler.shutdown();
+		}
+	}
+
+	/**
+	 * This checks that the engine's generations match the PackedEngine's on each
+	 * scheduler.
+	 * 
+	 * @throws InterruptedException If the engine's threads are interrupted, an
+	 *                              InterruptedException is thrown.
+	 */
+	private static void matchesPackedEngine() throws InterruptedException {
+		matchesPackedEngine(new StripeScheduler(3));
+		matchesPackedEngine(new RowTaskScheduler(3, false));
+	}
+
+	/**
+	 * This checks that the engine's generations match the PackedEngine's on the
+	 * given scheduler, then shuts the scheduler down.
+	 * 
+	 * @param scheduler The scheduler to run the engine on.
+	 * @throws InterruptedException If the engine's threads are interrupted, an
+	 *                              InterruptedException is thrown.
+	 */
+	private static void matchesPackedEngine(GenerationScheduler scheduler) throws InterruptedException {
+		try {
+			CellEngine cells = new CellEngine(37, 70, scheduler, LifeRule.CONWAY);
+			PackedEngine packed = new PackedEngine(37, 70, LifeRule.CONWAY);
+			seed(cells);
+			seed(packed);
+			for (int gen = 1; gen <= 50; gen++) {
+				cells.step();
+				packed.step();
+				for (int row = 0; row < 37; row++)
+					for (int column = 0; column < 70; column++)
+						check(cells.getLife(row, column) == packed.getLife(row, column),
+								"The engines differ on " + scheduler.getClass().getSimpleName() + " at generation " + gen
+										+ ", row " + row + ", column " + column + ".");
+			}
+		} finally {
+			scheduler.shutdown();
+		}
+	}
+
+	/**
+	 * This seeds the engine with a fixed pseudo-random 30% pattern.
+	 * 
+	 * @param engine The engine to seed.
+	 */
+	private static void seed(LifeEngine engine) {
+		java.util.Random random = new java.util.Random(246);
+		for (int row = 0; row < engine.getRows(); row++)
+			for (int column = 0; column < engine.getColumns(); column++)
+				engine.setLife(row, column, random.nextInt(10) < 3 ? 1 : 0);
+	}
+
+	/**
+	 * This returns the total bytes allocated so far by every live thread of the
+	 * JVM.
+	 * 
+	 * @return The total bytes allocated.
+	 */
+	private static long allocatedBytes() {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+				.getThreadMXBean();
+		long total = 0;
+		for (long bytes : threads.getThreadAllocatedBytes(threads.getAllThreadIds()))
+			total += Math.max(0, bytes);
+		return total;
+	}
+
+	/**
+	 * This throws an AssertionError with the given message if the condition does
+	 * not hold.
+	 * 
+	 * @param condition The condition that should hold.
+	 * @param message   The message of the failure.
+	 */
+	static void check(boolean condition, String message) {
+		if (!condition)
+			throw new AssertionError(message);
+	}
+}
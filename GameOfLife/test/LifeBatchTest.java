@@ -0,0 +1,132 @@
+/**
+ * @file LifeBatchTest.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 11.0.10
+ * This file contains some tests for this implementation of Game of Life by John Conway.
+ * It contains the LifeBatchTest class, which checks a batch of boards run on the cell engine against the packed engine.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This program is run through the command-line via the following commands (from GameOfLife):
+ *      javac -d . *.java test/*.java
+ *      java edu.ncsu.csc246.main.LifeBatchTest
+ */
+package edu.ncsu.csc246.main;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * This class tests LifeBatch with many boards running at once on more than one
+ * pool thread: that the cell engine, whether the boards share CellRule's
+ * scheduler or each have their own, gives every board the same final
+ * population as the packed engine run one board at a time, and reports every
+ * board as "ok".
+ */
+public class LifeBatchTest {
+	/** The number of boards in the batch. */
+	private static final int BOARDS = 16;
+	/** The width/height of each board. */
+	private static final int SIZE = 60;
+	/** The number of generations each board is run. */
+	private static final int GENERATIONS = 200;
+
+	/**
+	 * The main method runs every test, throwing an AssertionError at the first
+	 * one that fails.
+	 *
+	 * @param args Not used.
+	 * @throws Exception If a test cannot be run, its exception is thrown.
+	 */
+	public static void main(String[] args) throws Exception {
+		Path directory = Files.createTempDirectory("life-batch");
+		try {
+			Path manifest = writeBoards(directory);
+			List<String> expected = run(manifest, "--pool", "1", "--engine", "packed");
+			CellEngineTest.check(expected.size() == BOARDS + 1, "The packed batch should report every board.");
+			compare(expected, run(manifest, "--pool", "8", "--slice", "16", "--engine", "cell"), "shared scheduler");
+			compare(expected, run(manifest, "--pool", "8", "--slice", "16", "--engine", "cell", "--threads", "2"),
+					"a stripe scheduler per board");
+			compare(expected, run(manifest, "--pool", "8", "--slice", "16", "--engine", "cell", "--scheduler",
+					"platform", "--threads", "2"), "a row task scheduler per board");
+		} finally {
+			try (Stream<Path> files = Files.list(directory)) {
+				for (Path file : (Iterable<Path>) files::iterator)
+					Files.delete(file);
+			}
+			Files.delete(directory);
+		}
+		System.out.println("LifeBatchTest passed.");
+	}
+
+	/**
+	 * This writes the random boards and a manifest listing them.
+	 *
+	 * @param directory The directory to write them to.
+	 * @return The path of the manifest.
+	 * @throws IOException If a file cannot be written, an IOException is thrown.
+	 */
+	private static Path writeBoards(Path directory) throws IOException {
+		Random random = new Random(246);
+		List<String> manifest = new ArrayList<String>();
+		for (int board = 1; board <= BOARDS; board++) {
+			StringBuilder grid = new StringBuilder(SIZE + " " + SIZE + "\n");
+			for (int row = 0; row < SIZE; row++) {
+				for (int column = 0; column < SIZE; column++)
+					grid.append(random.nextInt(10) < 3 ? "1 " : "0 ");
+				grid.append('\n');
+			}
+			Files.write(directory.resolve("board" + board + ".txt"),
+					grid.toString().getBytes(StandardCharsets.US_ASCII));
+			manifest.add("board" + board + ".txt " + GENERATIONS);
+		}
+		Path path = directory.resolve("manifest.txt");
+		Files.write(path, manifest, StandardCharsets.US_ASCII);
+		return path;
+	}
+
+	/**
+	 * This runs the batch with the given options and reads back its results.
+	 *
+	 * @param manifest The path of the manifest.
+	 * @param options  The batch options.
+	 * @return The lines of the results.
+	 * @throws Exception If the batch cannot be run, its exception is thrown.
+	 */
+	private static List<String> run(Path manifest, String... options) throws Exception {
+		Path results = manifest.resolveSibling("results.csv");
+		List<String> args = new ArrayList<String>();
+		args.add(manifest.toString());
+		args.addAll(Arrays.asList(options));
+		args.add("--results");
+		args.add(results.toString());
+		LifeBatch.main(args.toArray(new String[0]));
+		return Files.readAllLines(results, StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * This checks that every board of a batch finished with the same result as
+	 * the packed batch (apart from the time spent stepping).
+	 *
+	 * @param expected The results of the packed batch.
+	 * @param actual   The results of the batch being checked.
+	 * @param name     The name of the batch being checked.
+	 */
+	private static void compare(List<String> expected, List<String> actual, String name) {
+		CellEngineTest.check(actual.size() == expected.size(),
+				"The batch with " + name + " should report every board.");
+		for (int i = 1; i < expected.size(); i++) {
+			String[] want = expected.get(i).split(",");
+			String[] got = actual.get(i).split(",");
+			CellEngineTest.check(got[6].equals("\"ok\""), "Board " + i + " with " + name + " failed: " + got[6]);
+			CellEngineTest.check(got[4].equals(want[4]),
+					"Board " + i + " with " + name + " has population " + got[4] + " instead of " + want[4] + ".");
+		}
+	}
+}
@@ -0,0 +1,78 @@
+/**
+ * @file VectorRowKernel.java
+ * @author Amit Prakash (aprakas5)
+ * @version JDK 16+
+ * This file contains some functionality for this implementation of Game of Life by John Conway.
+ * It contains the VectorRowKernel class, which computes rows for VectorEngine with the JDK Vector API.
+ * This program was developed via the Eclipse IDE for Developers.
+ *
+ * This file uses the jdk.incubator.vector module, so it is compiled separately (after the rest of Life):
+ *      javac -d . *.java
+ *      javac --add-modules jdk.incubator.vector -cp . -d . vector/*.java
+ *      java --add-modules jdk.incubator.vector edu.ncsu.csc246.main.Life <file name/path> <number of generations> --engine vector
+ */
+package edu.ncsu.csc246.main;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * This class is the RowKernel that uses the JDK Vector API. It loads the
+ * three padded rows at offsets -1, 0, and +1 as byte vectors and adds them, so
+ * the neighbor counts of a whole vector of cells are computed at once, and
+ * then applies the rule by comparing the counts against each count in the rule
+ * (births for dead lanes, survivals for live lanes). The cells left over at
+ * the end of a row are computed by the scalar kernel. VectorEngine loads this
+ * class by name, so Life still runs without it.
+ */
+class VectorRowKernel implements RowKernel {
+	/** The preferred vector shape of bytes on this machine. */
+	private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+	/**
+	 * This computes one row of the next generation a vector of cells at a time,
+	 * then finishes any leftover cells with the scalar kernel.
+	 *
+	 * @param up      The padded row above.
+	 * @param middle  The padded row being computed.
+	 * @param down    The padded row below.
+	 * @param out     The padded row to save the next generation to.
+	 * @param columns The number of columns in the grid.
+	 * @param rule    The rules of the game.
+	 */
+	@Override
+	public void stepRow(byte[] up, byte[] middle, byte[] down, byte[] out, int columns, LifeRule rule) {
+		int births = rule.getBirths();
+		int survivals = rule.getSurvivals();
+		int used = births | survivals;
+		int lanes = SPECIES.length();
+		int i = 1;
+		// Every load reads indexes [i - 1, i + lanes], which must stay within the row
+		for (; i + lanes <= columns + 1; i += lanes) {
+			ByteVector alive = ByteVector.fromArray(SPECIES, middle, i);
+			ByteVector neighbors = ByteVector.fromArray(SPECIES, up, i - 1)
+					.add(ByteVector.fromArray(SPECIES, up, i))
+					.add(ByteVector.fromArray(SPECIES, up, i + 1))
+					.add(ByteVector.fromArray(SPECIES, middle, i - 1))
+					.add(ByteVector.fromArray(SPECIES, middle, i + 1))
+					.add(ByteVector.fromArray(SPECIES, down, i - 1))
+					.add(ByteVector.fromArray(SPECIES, down, i))
+					.add(ByteVector.fromArray(SPECIES, down, i + 1));
+			VectorMask<Byte> live = alive.compare(VectorOperators.NE, 0);
+			VectorMask<Byte> next = SPECIES.maskAll(false);
+			for (int count = 0; count < 9; count++) {
+				if ((used >>> count & 1) == 0)
+					continue;
+				VectorMask<Byte> match = neighbors.compare(VectorOperators.EQ, count);
+				if ((births >>> count & 1) == 1)
+					next = next.or(match.andNot(live));
+				if ((survivals >>> count & 1) == 1)
+					next = next.or(match.and(live));
+			}
+			ByteVector.zero(SPECIES).blend((byte) 1, next).intoArray(out, i);
+		}
+		ScalarRowKernel.stepCells(up, middle, down, out, i, columns + 1, rule);
+	}
+}